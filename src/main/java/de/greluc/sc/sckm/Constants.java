@@ -52,9 +52,28 @@ public class Constants {
   public static final String SETTINGS_SHOW_ALL = "show_all";
   public static final String SETTINGS_WRITE_TO_FILE = "write_to_file";
   public static final String SETTINGS_KILLER_MODE_ACTIVE = "killer_mode_active";
+  public static final String SETTINGS_EVENT_DRIVEN_SCAN_ACTIVE = "event_driven_scan_active";
+  public static final String SETTINGS_MULTI_CHANNEL_SCAN_ACTIVE = "multi_channel_scan_active";
+  public static final String SETTINGS_HISTORY_ACTIVE = "history_active";
+  public static final String SETTINGS_RETENTION_MAX_COUNT = "retention_max_count";
+  public static final String SETTINGS_RETENTION_MAX_AGE_HOURS = "retention_max_age_hours";
+  public static final String SETTINGS_RETENTION_MEMORY_MIB = "retention_memory_mib";
+  public static final String SETTINGS_SPILL_TO_DISK_ACTIVE = "spill_to_disk_active";
+  public static final String SETTINGS_NDJSON_OUTPUT_ACTIVE = "ndjson_output_active";
+  public static final String SETTINGS_OUTPUT_ROLL_SIZE_MIB = "output_roll_size_mib";
+  public static final String SETTINGS_OUTPUT_ROLL_DAILY = "output_roll_daily";
+  public static final String SETTINGS_OUTPUT_MAX_ARCHIVES = "output_max_archives";
+  public static final String SETTINGS_FEED_SERVER_ACTIVE = "feed_server_active";
+  public static final String SETTINGS_FEED_SERVER_PORT = "feed_server_port";
+  public static final String SETTINGS_FEED_SOCKET_ACTIVE = "feed_socket_active";
 
   public static final String APP_TITLE = "SC Kill Monitor";
 
+  public static final String ACTOR_DEATH_MARKER = "<Actor Death>";
+
+  public static final String HISTORY_DIRECTORY = "history";
+  public static final String FEED_SOCKET_FILE = "kill-feed.sock";
+
   public static final String UTILITY_CLASS = "Utility class";
 
   /** Used to exclude the unused constructor from code coverage evaluation. */
@@ -20,14 +20,21 @@
 
 package de.greluc.sc.sckm;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import de.greluc.sc.sckm.data.KillEvent;
+import de.greluc.sc.sckm.settings.SettingsData;
+import de.greluc.sc.sckm.store.KillEventWriter;
+import de.greluc.sc.sckm.store.OutputFormat;
+import de.greluc.sc.sckm.store.RollingPolicy;
+import de.greluc.sc.sckm.store.WriterConfig;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javafx.stage.DirectoryChooser;
 import javafx.stage.FileChooser;
 import lombok.Generated;
@@ -41,12 +48,20 @@ import org.jetbrains.annotations.NotNull;
  * allows the user to select a specific file, filtered by a predefined file type. It utilizes JavaFX
  * FileChooser for the user interface and logs relevant information for debugging purposes.
  *
+ * <p>Kill events written to a file are passed to a {@link KillEventWriter} per file, which is
+ * opened on the first kill event and writes the kill events in the background until {@link
+ * #closeKillEventWriters()} is called.
+ *
  * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
  * @since 1.0.0
  * @version 1.3.0
  */
 @Log4j2
 public class FileHandler {
+  private static final DateTimeFormatter FILE_SUFFIX_FORMATTER =
+      DateTimeFormatter.ofPattern("yyMMdd-HHmmss");
+  private static final Map<Path, KillEventWriter> KILL_EVENT_WRITERS =
+      new ConcurrentHashMap<>();
 
   /** Used to exclude the unused constructor from code coverage evaluation. */
   @Generated
@@ -73,9 +88,27 @@ public class FileHandler {
     return Optional.ofNullable(chooser.showOpenDialog(null));
   }
 
+  /**
+   * Formats the start time of a scan as the suffix of the file the kill events of the scan are
+   * written to.
+   *
+   * @param scanStartTime the start time of the scan; cannot be null
+   * @return the file suffix; never null
+   */
+  public static @NotNull String getFileSuffix(@NotNull ZonedDateTime scanStartTime) {
+    return scanStartTime.format(FILE_SUFFIX_FORMATTER);
+  }
+
   /**
    * Writes information about a KillEvent to a log file in JSON format. The log file name is
-   * determined by appending the provided file suffix to a predefined file name pattern.
+   * determined by appending the provided file suffix to a predefined file name pattern. If the
+   * NDJSON output is enabled, the kill event is written as a single line to a file with the
+   * extension {@code .ndjson} instead. If rolling the output is enabled, all kill events are
+   * written to the file {@code logs/kill-events.log} instead, which is rolled over to compressed
+   * archives by size or day, and the file suffix is ignored.
+   *
+   * <p>The kill event is only queued by the {@link KillEventWriter} of the file, which writes it in
+   * the background, so this method only blocks if the writer falls far behind.
    *
    * @param killEvent The KillEvent object containing details about the kill event to be logged.
    * @param fileSuffix The suffix to append to the log file name, typically used to differentiate
@@ -84,21 +117,100 @@ public class FileHandler {
   public static void writeKillEventToFile(
       @NotNull KillEvent killEvent, @NotNull String fileSuffix) {
     log.debug("Appending KillEvent to file in JSON format.");
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.registerModule(new JavaTimeModule());
-    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-    objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+    try {
+      KILL_EVENT_WRITERS
+          .computeIfAbsent(getKillEventFile(fileSuffix), FileHandler::openKillEventWriter)
+          .write(killEvent);
+    } catch (UncheckedIOException e) {
+      log.error("Error while writing KillEvent to file", e.getCause());
+    } catch (InterruptedException e) {
+      log.warn("Interrupted while writing KillEvent to file");
+      Thread.currentThread().interrupt();
+    }
+  }
 
-    File file = new File(String.format("logs/kill-events_%s.log", fileSuffix));
-    try (FileWriter writer = new FileWriter(file, true)) {
-      String json = objectMapper.writeValueAsString(killEvent);
-      if (file.length() > 0) {
-        writer.write("," + System.lineSeparator());
+  /**
+   * Closes the writers of all files kill events have been written to, which writes all queued kill
+   * events first. Writing another kill event to a file opens a new writer.
+   */
+  public static void closeKillEventWriters() {
+    for (Path file : KILL_EVENT_WRITERS.keySet()) {
+      KillEventWriter writer = KILL_EVENT_WRITERS.remove(file);
+      if (writer == null) {
+        continue;
       }
-      writer.write(json);
-      log.info("KillEvent successfully written to file: {}", file.getAbsolutePath());
+      try {
+        writer.close();
+        log.info(
+            "{} kill events successfully written to file: {}",
+            writer.getWrittenCount(),
+            writer.getFile().toAbsolutePath());
+        if (writer.getFailedCount() > 0) {
+          log.warn(
+              "{} kill events couldn't be written to file: {}",
+              writer.getFailedCount(),
+              writer.getFile().toAbsolutePath());
+        }
+      } catch (IOException e) {
+        log.error("Error while closing the kill event file", e);
+      }
+    }
+  }
+
+  /**
+   * Determines the file kill events are written to in the output format enabled in the settings.
+   *
+   * @param fileSuffix the suffix of the file, ignored if the output is rolled over; cannot be null
+   * @return the path of the file; never null
+   */
+  private static @NotNull Path getKillEventFile(@NotNull String fileSuffix) {
+    String extension = getOutputFormat().getFileExtension();
+    if (getRollingPolicy().isEnabled()) {
+      return Path.of(String.format("logs/kill-events.%s", extension));
+    }
+    return Path.of(String.format("logs/kill-events_%s.%s", fileSuffix, extension));
+  }
+
+  /**
+   * Returns the output format enabled in the settings.
+   *
+   * @return the output format; never null
+   */
+  private static @NotNull OutputFormat getOutputFormat() {
+    return SettingsData.isNdjsonOutputActive() ? OutputFormat.NDJSON : OutputFormat.JSON;
+  }
+
+  /**
+   * Returns the rolling policy of the output file configured in the settings. Rolled-over files
+   * are always compressed.
+   *
+   * @return the rolling policy; never null
+   */
+  private static @NotNull RollingPolicy getRollingPolicy() {
+    return new RollingPolicy(
+        SettingsData.getOutputRollSizeMib() * 1024L * 1024L,
+        SettingsData.isOutputRollDaily(),
+        true,
+        SettingsData.getOutputMaxArchives());
+  }
+
+  /**
+   * Opens the writer of a file in the output format and with the rolling policy configured in the
+   * settings.
+   *
+   * @param file the file; cannot be null
+   * @return the opened writer; never null
+   * @throws UncheckedIOException if the file can't be opened
+   */
+  private static @NotNull KillEventWriter openKillEventWriter(@NotNull Path file) {
+    try {
+      return new KillEventWriter(
+          file,
+          WriterConfig.withDefaults()
+              .withFormat(getOutputFormat())
+              .withRollingPolicy(getRollingPolicy()));
     } catch (IOException e) {
-      log.error("Error while writing KillEvent to file", e);
+      throw new UncheckedIOException(e);
     }
   }
 }
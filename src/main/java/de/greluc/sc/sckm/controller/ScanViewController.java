@@ -20,21 +20,59 @@
 
 package de.greluc.sc.sckm.controller;
 
-import static de.greluc.sc.sckm.data.KillEventExtractor.extractKillEvents;
-
+import de.greluc.sc.sckm.AlertHandler;
+import de.greluc.sc.sckm.Constants;
+import de.greluc.sc.sckm.data.ChannelKillEvent;
+import de.greluc.sc.sckm.data.ChannelType;
 import de.greluc.sc.sckm.data.KillEvent;
+import de.greluc.sc.sckm.data.KillEventExtractor;
 import de.greluc.sc.sckm.data.KillEventFormatter;
+import de.greluc.sc.sckm.data.KillEventJournal;
+import de.greluc.sc.sckm.data.KillEventStore;
+import de.greluc.sc.sckm.data.LogEventRegistry;
+import de.greluc.sc.sckm.data.RetentionPolicy;
+import de.greluc.sc.sckm.feed.KillFeed;
+import de.greluc.sc.sckm.feed.KillFeedServer;
+import de.greluc.sc.sckm.feed.KillFeedSocketServer;
+import de.greluc.sc.sckm.scan.ImportSummary;
+import de.greluc.sc.sckm.scan.IngestionPipeline;
+import de.greluc.sc.sckm.scan.LogBackupImporter;
+import de.greluc.sc.sckm.scan.LogFileWatcher;
+import de.greluc.sc.sckm.scan.LogTailReader;
+import de.greluc.sc.sckm.scan.MultiChannelScanner;
+import de.greluc.sc.sckm.scan.PipelineConfig;
 import de.greluc.sc.sckm.settings.SettingsData;
+import de.greluc.sc.sckm.sink.KillEventSink;
+import de.greluc.sc.sckm.sink.SinkContext;
+import de.greluc.sc.sckm.sink.SinkDispatcher;
+import de.greluc.sc.sckm.store.KillEventHistory;
+import de.greluc.sc.sckm.store.OffHeapKillEvents;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
@@ -51,7 +89,13 @@ import org.jetbrains.annotations.NotNull;
  *
  * <ul>
  *   <li>Continuous scanning of log files based on user settings.
+ *   <li>Monitoring the log files of all configured channels at the same time.
  *   <li>Interactive controls for starting, stopping, and filtering displayed kill events.
+ *   <li>Importing the kill events of the archived log files of the selected channel.
+ *   <li>Limiting the kill events kept in memory by a {@link RetentionPolicy} and loading evicted
+ *       kill events again on demand.
+ *   <li>Streaming new kill events to local clients, e.g. stream overlays, by a {@link
+ *       KillFeedServer} and pushing them to local tools by a {@link KillFeedSocketServer}.
  *   <li>Thread-safe updates to the user interface using JavaFX's {@code Platform.runLater}
  *       mechanism.
  * </ul>
@@ -70,17 +114,34 @@ import org.jetbrains.annotations.NotNull;
  */
 @Log4j2
 public class ScanViewController {
+  private static final int PAGE_SIZE = 50;
+  private static final int FEED_REPLAY_CAPACITY = 1024;
   private final ExecutorService executorService = Executors.newSingleThreadExecutor();
-  private final List<KillEvent> killEvents = new ArrayList<>();
-  private final List<KillEvent> evaluatedKillEvents = new ArrayList<>();
+  private final ExecutorService importExecutorService = Executors.newSingleThreadExecutor();
+  private final KillEventStore killEvents = new KillEventStore();
+  private final KillEventJournal killEventJournal = new KillEventJournal();
+  private final Map<KillEvent, ChannelType> killEventChannels = new ConcurrentHashMap<>();
+  private final Map<KillEvent, Long> killEventSequences = new ConcurrentHashMap<>();
+  private final NavigableSet<Long> retainedSequences = new ConcurrentSkipListSet<>();
+  private final KillFeed killFeed = new KillFeed(FEED_REPLAY_CAPACITY);
   @FXML private VBox textPane;
   @FXML private ScrollPane scrollPane;
   @FXML private CheckBox cbShowAll;
+  @FXML private Button buttonImport;
+  @FXML private Button buttonLoadOlder;
   @FXML private Label labelKillCount;
   @FXML private Label labelKillCountValue;
   @FXML private Label labelDeathCountValue;
   private int killCount = 0;
   private int deathCount = 0;
+  private volatile KillEventHistory killEventHistory;
+  private volatile OffHeapKillEvents killEventSpill;
+  private volatile KillFeedServer killFeedServer;
+  private volatile KillFeedSocketServer killFeedSocketServer;
+  private volatile RetentionPolicy retentionPolicy = RetentionPolicy.unlimited();
+  private final Map<KillEvent, Node> liveKillEventPanes = new HashMap<>();
+  private KillEvent pageCursor;
+  private KillEventJournal.Cursor displayCursor = killEventJournal.newCursor();
   private MainViewController mainViewController;
 
   /**
@@ -124,22 +185,38 @@ public class ScanViewController {
   @FXML
   private void onStopPressed() {
     executorService.shutdownNow();
+    importExecutorService.shutdownNow();
     mainViewController.onStopPressed();
   }
 
+  /**
+   * Handles the "Import Backups" button press event action.
+   *
+   * <p>Disables the button and starts importing the archived log files of the selected channel in
+   * the background. The button is enabled again once the import has finished.
+   */
+  @FXML
+  private void onImportPressed() {
+    buttonImport.setDisable(true);
+    importExecutorService.submit(this::importBackups);
+  }
+
   /**
    * Handles the action event triggered when the "Show All" checkbox or button is clicked.
    *
    * <p>This method updates the "show all" setting based on the selection status
-   * of the associated checkbox. It clears the existing list of evaluated kill
+   * of the associated checkbox. It rewinds the cursor of the displayed kill
    * events, resets the text pane content, and initializes counters for kill
    * and death counts. The respective labels displaying these counts are also updated.
-   * Finally, it refreshes and displays the current list of kill events.
+   * Finally, it refreshes and displays all kill events of the journal again. Kill events that
+   * have already been evicted from memory are neither displayed nor counted again.
    */
   @FXML
   protected void onShowAllClicked() {
     SettingsData.setShowAllActive(cbShowAll.isSelected());
-    evaluatedKillEvents.clear();
+    displayCursor = killEventJournal.newCursor();
+    pageCursor = null;
+    liveKillEventPanes.clear();
     textPane.getChildren().clear();
     killCount = 0;
     deathCount = 0;
@@ -148,6 +225,26 @@ public class ScanViewController {
     displayKillEvents();
   }
 
+  /**
+   * Handles the "Load Older" button press event action.
+   *
+   * <p>Disables the button and loads the page of kill events preceding the oldest one displayed so
+   * far in the background, see {@link #loadOlderKillEvents(KillEvent)}. The page follows the older
+   * one of the last paged kill event and the oldest kill event kept in memory.
+   */
+  @FXML
+  private void onLoadOlderPressed() {
+    buttonLoadOlder.setDisable(true);
+    KillEvent oldestKillEvent = killEvents.getOldest();
+    KillEvent cursor =
+        pageCursor == null
+                || (oldestKillEvent != null
+                    && KillEventStore.NEWEST_FIRST.compare(oldestKillEvent, pageCursor) > 0)
+            ? oldestKillEvent
+            : pageCursor;
+    importExecutorService.submit(() -> loadOlderKillEvents(cursor));
+  }
+
   /**
    * Sets the main view controller. This method establishes the main controller responsible for
    * interacting with and managing the primary application views and their transitions.
@@ -178,21 +275,34 @@ public class ScanViewController {
    *   <li>Determine the correct file path for the selected channel from user settings.</li>
    *   <li>Log configuration details such as handle, interval, channel, and file path.</li>
    *   <li>Initialize scanning by monitoring the log file for kill events.</li>
-   *   <li>Extract and process kill event data, then update the GUI.</li>
-   *   <li>Sleep for the configured interval before repeating the scan.</li>
+   *   <li>Read, parse and filter the kill event data appended to the log file in the stages of an
+   *       {@link IngestionPipeline}, which passes new kill events to the GUI and, if enabled, to
+   *       the file writer on separate threads.</li>
+   *   <li>Wait for the next change of the log file, or sleep for the configured interval if the
+   *       event-driven scan is disabled, before reading the log file again.</li>
    *   <li>Handle errors and interruptions in a robust manner to stop the scan gracefully.</li>
    * </ul>
+   *
+   * <p>If the multi-channel scan is enabled, the log files of all channels with a configured path
+   * are monitored instead of only the one of the selected channel, see {@link
+   * #scanMultipleChannels(ZonedDateTime)}.
+   *
+   * <p>If the history is enabled, the kill events of previous sessions are loaded from the {@link
+   * KillEventHistory} before the scan starts and every new kill event is added to it.
+   *
+   * <p>The kill events kept in memory are limited by the {@link RetentionPolicy} configured in the
+   * settings. Evicted kill events are written to a temporary spill history if spilling is enabled
+   * and the history isn't, so they can be loaded again on demand.
+   *
+   * <p>If the kill feed is enabled, new kill events are streamed to local clients by a {@link
+   * KillFeedServer} while the scan is running. If the kill feed socket is enabled, they are also
+   * pushed to the clients of a {@link KillFeedSocketServer}.
+   *
+   * <p>New kill events are passed to all enabled {@link KillEventSink}s, e.g. the file writer, by a
+   * {@link SinkDispatcher}, which runs every sink isolated from the scan and the other sinks.
    */
   public void startScan() {
-    String selectedPathValue =
-        switch (SettingsData.getSelectedChannel()) {
-          case PTU -> SettingsData.getPathPtu();
-          case EPTU -> SettingsData.getPathEptu();
-          case HOTFIX -> SettingsData.getPathHotfix();
-          case TECH_PREVIEW -> SettingsData.getPathTechPreview();
-          case CUSTOM -> SettingsData.getPathCustom();
-          default -> SettingsData.getPathLive();
-        };
+    String selectedPathValue = getSelectedPath();
 
     log.info("Starting scan for kill events...");
     log.info("Using the selected handle: {}", SettingsData.getHandle());
@@ -202,44 +312,628 @@ public class ScanViewController {
     ZonedDateTime scanStartTime = ZonedDateTime.now();
     killCount = 0;
     deathCount = 0;
+    retentionPolicy =
+        new RetentionPolicy(
+            SettingsData.getRetentionMaxCount(),
+            Duration.ofHours(SettingsData.getRetentionMaxAgeHours()),
+            SettingsData.getRetentionMemoryMib() * 1024L * 1024L);
+    log.info("Using the retention policy: {}", retentionPolicy);
 
-    while (true) {
-      try {
-        extractKillEvents(killEvents, selectedPathValue, scanStartTime);
-      } catch (IOException ioException) {
-        Platform.runLater(this::onStopPressed);
-        return;
+    openHistory();
+    openSpill();
+    openFeedServer();
+    openFeedSocketServer();
+    SinkDispatcher sinkDispatcher =
+        new SinkDispatcher(SinkDispatcher.loadSinks(), new SinkContext(scanStartTime));
+    try {
+      if (SettingsData.isMultiChannelScanActive()) {
+        scanMultipleChannels(sinkDispatcher);
+      } else {
+        scanSelectedChannel(selectedPathValue, sinkDispatcher);
+      }
+    } finally {
+      sinkDispatcher.close();
+      closeFeedServer();
+      closeFeedSocketServer();
+      closeSpill();
+      closeHistory();
+    }
+  }
+
+  /**
+   * Monitors the log file of the selected channel until the scan thread is interrupted or the log
+   * file can't be read.
+   *
+   * <p>The log file is processed by an {@link IngestionPipeline}, which passes new kill events to
+   * the GUI on a separate thread. Only the kill events added to the store are passed on to the
+   * sink dispatcher, so the sinks receive the same kill events as in a scan of multiple channels.
+   *
+   * @param selectedPathValue the path of the log file of the selected channel; cannot be null
+   * @param sinkDispatcher the dispatcher passing new kill events to the sinks; cannot be null
+   */
+  private void scanSelectedChannel(
+      @NotNull String selectedPathValue, @NotNull SinkDispatcher sinkDispatcher) {
+    try (LogTailReader tailReader =
+            new LogTailReader(
+                Path.of(selectedPathValue), LogEventRegistry.getDefault().getMatcher());
+        LogFileWatcher watcher =
+            SettingsData.isEventDrivenScanActive()
+                ? new LogFileWatcher(Path.of(selectedPathValue))
+                : null;
+        IngestionPipeline pipeline =
+            new IngestionPipeline(
+                tailReader,
+                watcher,
+                PipelineConfig.withDefaults(Duration.ofSeconds(SettingsData.getInterval())))) {
+      pipeline
+          .setFilter(KillEventExtractor::isRelevant)
+          .onReadError(
+              ioException -> {
+                KillEventExtractor.handleReadError(selectedPathValue, ioException);
+                Platform.runLater(this::onStopPressed);
+              })
+          .addSink(
+              "gui",
+              killEventBatch -> sinkDispatcher.dispatch(mergeKillEvents(killEventBatch, true)));
+      pipeline.start();
+      pipeline.awaitTermination();
+    } catch (InterruptedException e) {
+      log.debug("Scan thread was interrupted. Terminating...");
+      Thread.currentThread().interrupt();
+    } catch (IOException ioException) {
+      log.warn("Couldn't close the log file or its watcher");
+      log.trace("Stacktrace:", ioException);
+    }
+  }
+
+  /**
+   * Monitors the log files of all channels with a configured path at the same time until the scan
+   * thread is interrupted.
+   *
+   * <p>Each log file is tailed by a {@link MultiChannelScanner}. The scan thread waits for the next
+   * kill event of any channel, takes all other kill events that are already available and adds the
+   * relevant ones to the list of kill events. The channel of each kill event is remembered so it
+   * can be shown alongside the event. New kill events are passed to the sink dispatcher.
+   *
+   * @param sinkDispatcher the dispatcher passing new kill events to the sinks; cannot be null
+   */
+  private void scanMultipleChannels(@NotNull SinkDispatcher sinkDispatcher) {
+    Map<ChannelType, Path> channelPaths = getConfiguredPaths();
+    log.info("Scanning the log files of the channels {}", channelPaths.keySet());
+    List<ChannelKillEvent> batch = new ArrayList<>();
+    try (MultiChannelScanner scanner =
+        new MultiChannelScanner(
+            channelPaths,
+            SettingsData.isEventDrivenScanActive(),
+            Duration.ofSeconds(SettingsData.getInterval()))) {
+      scanner.start();
+      while (true) {
+        batch.add(scanner.take());
+        scanner.drainTo(batch);
+        for (ChannelKillEvent channelKillEvent : batch) {
+          KillEvent killEvent = channelKillEvent.killEvent();
+          if (storeKillEvent(killEvent)) {
+            killEventChannels.put(killEvent, channelKillEvent.channel());
+            publishKillEvent(killEvent, true);
+            sinkDispatcher.dispatch(killEvent);
+          }
+        }
+        retainKillEvents();
+        Platform.runLater(this::displayKillEvents);
+        batch.clear();
+      }
+    } catch (InterruptedException e) {
+      log.debug("Scan thread was interrupted. Terminating...");
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Collects the log file paths of all channels that have a path configured in the settings.
+   *
+   * @return the path of the log file for each configured channel; never null
+   */
+  private @NotNull Map<ChannelType, Path> getConfiguredPaths() {
+    Map<ChannelType, Path> channelPaths = new EnumMap<>(ChannelType.class);
+    putIfConfigured(channelPaths, ChannelType.LIVE, SettingsData.getPathLive());
+    putIfConfigured(channelPaths, ChannelType.PTU, SettingsData.getPathPtu());
+    putIfConfigured(channelPaths, ChannelType.EPTU, SettingsData.getPathEptu());
+    putIfConfigured(channelPaths, ChannelType.HOTFIX, SettingsData.getPathHotfix());
+    putIfConfigured(channelPaths, ChannelType.TECH_PREVIEW, SettingsData.getPathTechPreview());
+    putIfConfigured(channelPaths, ChannelType.CUSTOM, SettingsData.getPathCustom());
+    return channelPaths;
+  }
+
+  /**
+   * Adds the path of a channel's log file to the given map if the path isn't blank.
+   *
+   * @param channelPaths the map to add the path to; cannot be null
+   * @param channel the channel of the log file; cannot be null
+   * @param path the configured path of the log file; may be null
+   */
+  private void putIfConfigured(
+      @NotNull Map<ChannelType, Path> channelPaths, @NotNull ChannelType channel, String path) {
+    if (path != null && !path.isBlank()) {
+      channelPaths.put(channel, Path.of(path));
+    }
+  }
+
+  /**
+   * Determines the path of the log file belonging to the channel selected in the settings.
+   *
+   * @return the path of the log file of the selected channel; never null
+   */
+  private @NotNull String getSelectedPath() {
+    return switch (SettingsData.getSelectedChannel()) {
+      case PTU -> SettingsData.getPathPtu();
+      case EPTU -> SettingsData.getPathEptu();
+      case HOTFIX -> SettingsData.getPathHotfix();
+      case TECH_PREVIEW -> SettingsData.getPathTechPreview();
+      case CUSTOM -> SettingsData.getPathCustom();
+      default -> SettingsData.getPathLive();
+    };
+  }
+
+  /**
+   * Imports the kill events of all archived log files in the {@code logbackups} directory of the
+   * selected channel.
+   *
+   * <p>The files are parsed concurrently by a {@link LogBackupImporter}. The relevant kill events
+   * of each file are merged into the list of kill events and displayed as soon as the file has
+   * been parsed, while the import button shows the number of processed files. A summary is shown
+   * to the user once all files have been processed.
+   */
+  private void importBackups() {
+    Path backupDirectory = LogBackupImporter.getBackupDirectory(Path.of(getSelectedPath()));
+    LogBackupImporter importer = new LogBackupImporter();
+    AtomicInteger importedCount = new AtomicInteger();
+    long startTime = System.nanoTime();
+    try {
+      ImportSummary summary =
+          importer.importBackups(
+              backupDirectory,
+              imported -> importedCount.addAndGet(mergeKillEvents(imported, false).size()),
+              progress ->
+                  Platform.runLater(
+                      () ->
+                          buttonImport.setText(
+                              "Importing "
+                                  + progress.completedFiles()
+                                  + "/"
+                                  + progress.totalFiles())));
+      double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+      log.info(
+          "Imported {} kill events from {} log files in {} seconds, {} files failed",
+          importedCount.get(),
+          summary.totalFiles(),
+          seconds,
+          summary.failedFiles().size());
+      String message =
+          String.format(
+              Locale.ROOT,
+              "Imported %d kill events from %d log files in %.1f seconds.",
+              importedCount.get(),
+              summary.totalFiles(),
+              seconds);
+      if (!summary.isComplete()) {
+        message +=
+            String.format(
+                Locale.ROOT,
+                "%n%nThe following %d log files couldn't be imported:%n%s",
+                summary.failedFiles().size(),
+                summary.failedFiles().stream()
+                    .map(file -> file.getFileName().toString())
+                    .collect(Collectors.joining(System.lineSeparator())));
       }
-      log.debug("Finished extracting kill events");
-      displayKillEvents();
-      log.debug("Finished updating the GUI with kill events");
+      String alertMessage = message;
+      Platform.runLater(
+          () ->
+              AlertHandler.showAlert(
+                  summary.isComplete() ? Alert.AlertType.INFORMATION : Alert.AlertType.WARNING,
+                  summary.isComplete() ? "Import finished" : "Import finished with errors",
+                  alertMessage));
+    } catch (IOException ioException) {
+      log.error("Failed to import the log files from {}", backupDirectory);
+      log.trace("Stacktrace:", ioException);
+      Platform.runLater(
+          () ->
+              AlertHandler.showAlert(
+                  Alert.AlertType.ERROR,
+                  "Failed to import log files",
+                  "Please check if the directory " + backupDirectory + " exists."));
+    } finally {
+      importer.shutdown();
+      Platform.runLater(
+          () -> {
+            buttonImport.setText("Import Backups");
+            buttonImport.setDisable(false);
+          });
+    }
+  }
 
+  /**
+   * Appends a newly stored kill event to the journal, from which it is displayed, publishes it to
+   * the kill feed, if served or pushed, and appends it to the history, if enabled. Only kill events
+   * found by the scan are published to the kill feed, so its clients don't receive imported kill
+   * events of past sessions as if they just happened.
+   *
+   * @param killEvent the newly stored kill event; cannot be null
+   * @param live whether the kill event was found by the scan rather than imported
+   */
+  private void publishKillEvent(@NotNull KillEvent killEvent, boolean live) {
+    appendToJournal(killEvent);
+    if (live && (killFeedServer != null || killFeedSocketServer != null)) {
       try {
-        TimeUnit.SECONDS.sleep(SettingsData.getInterval());
-      } catch (InterruptedException e) {
-        log.debug("Scan thread was interrupted. Terminating...");
-        Thread.currentThread().interrupt();
-        return;
+        killFeed.publish(killEvent);
+      } catch (UncheckedIOException uncheckedIoException) {
+        log.warn("Couldn't publish the kill event to the kill feed");
+        log.trace("Stacktrace:", uncheckedIoException);
+      }
+    }
+    KillEventHistory history = killEventHistory;
+    if (history == null) {
+      return;
+    }
+    try {
+      history.append(killEvent);
+    } catch (IOException | IllegalStateException exception) {
+      log.warn("Couldn't add the kill event to the history");
+      log.trace("Stacktrace:", exception);
+    }
+  }
+
+  /**
+   * Opens the kill event history if it is enabled and displays the relevant kill events of previous
+   * sessions. Only the segments of the history holding the newest kill events the retention
+   * policy can keep by count and age are read, and their kill events are streamed, so only those
+   * retained by the retention policy are kept in memory. If the history can't be opened, the scan
+   * continues without it.
+   */
+  private void openHistory() {
+    if (!SettingsData.isHistoryActive()) {
+      return;
+    }
+    long startTime = System.nanoTime();
+    try {
+      KillEventHistory history = KillEventHistory.open(Path.of(Constants.HISTORY_DIRECTORY));
+      AtomicInteger loadedCount = new AtomicInteger();
+      RetentionPolicy policy = retentionPolicy;
+      long fromEpochMilli =
+          policy.maxAge().isZero()
+              ? Long.MIN_VALUE
+              : System.currentTimeMillis() - policy.maxAge().toMillis();
+      history.loadNewest(
+          fromEpochMilli,
+          policy.maxCount(),
+          killEvent -> {
+            loadedCount.incrementAndGet();
+            if (storeKillEvent(killEvent)) {
+              appendToJournal(killEvent);
+              retainKillEvents();
+            }
+          });
+      killEventHistory = history;
+      log.info(
+          "Loaded {} kill events from the history in {} ms",
+          loadedCount.get(),
+          (System.nanoTime() - startTime) / 1_000_000);
+      Platform.runLater(this::displayKillEvents);
+    } catch (IOException ioException) {
+      log.error("Failed to open the kill event history in {}", Constants.HISTORY_DIRECTORY);
+      log.trace("Stacktrace:", ioException);
+    }
+  }
+
+  /** Closes the kill event history if it has been opened. */
+  private void closeHistory() {
+    KillEventHistory history = killEventHistory;
+    killEventHistory = null;
+    if (history == null) {
+      return;
+    }
+    try {
+      history.close();
+    } catch (IOException ioException) {
+      log.warn("Couldn't close the kill event history");
+      log.trace("Stacktrace:", ioException);
+    }
+  }
+
+  /**
+   * Opens a temporary off-heap spill for the kill events evicted from memory if spilling is
+   * enabled, the retention policy limits the kill events in memory and the history, which holds all
+   * kill events anyway, isn't open. If the spill can't be opened, evicted kill events are dropped.
+   */
+  private void openSpill() {
+    if (!SettingsData.isSpillToDiskActive()
+        || retentionPolicy.isUnlimited()
+        || killEventHistory != null) {
+      return;
+    }
+    try {
+      killEventSpill = OffHeapKillEvents.openTemporary();
+    } catch (IOException ioException) {
+      log.error("Failed to open the spill for evicted kill events");
+      log.trace("Stacktrace:", ioException);
+    }
+  }
+
+  /** Closes and deletes the spill if it has been opened. */
+  private void closeSpill() {
+    OffHeapKillEvents spill = killEventSpill;
+    killEventSpill = null;
+    if (spill == null) {
+      return;
+    }
+    try {
+      synchronized (spill) {
+        spill.close();
       }
+    } catch (IOException ioException) {
+      log.warn("Couldn't delete the spill of evicted kill events");
+      log.trace("Stacktrace:", ioException);
     }
   }
 
   /**
-   * Processes and displays kill events within the application. This method iterates over all kill
-   * events, filtering and evaluating each event to update related statistics and UI elements such
-   * as kill count, death count, and displaying the kill event in a specified pane. The method ensures
-   * no duplicate event evaluations by tracking processed events.
+   * Starts serving the kill feed on the configured port of the loopback interface if the kill feed
+   * is enabled. If the port can't be bound, the scan continues without the kill feed.
+   */
+  private void openFeedServer() {
+    if (!SettingsData.isFeedServerActive()) {
+      return;
+    }
+    try {
+      killFeedServer = KillFeedServer.start(killFeed, SettingsData.getFeedServerPort());
+    } catch (IOException ioException) {
+      log.error("Failed to serve the kill feed on port {}", SettingsData.getFeedServerPort());
+      log.trace("Stacktrace:", ioException);
+    }
+  }
+
+  /** Stops serving the kill feed if it has been served. */
+  private void closeFeedServer() {
+    KillFeedServer server = killFeedServer;
+    killFeedServer = null;
+    if (server != null) {
+      server.close();
+    }
+  }
+
+  /**
+   * Starts pushing the kill feed to the clients of a Unix domain socket if the kill feed socket is
+   * enabled. If the socket can't be bound, the scan continues without it.
+   */
+  private void openFeedSocketServer() {
+    if (!SettingsData.isFeedSocketActive()) {
+      return;
+    }
+    try {
+      killFeedSocketServer =
+          KillFeedSocketServer.start(killFeed, Path.of(Constants.FEED_SOCKET_FILE));
+    } catch (IOException | UnsupportedOperationException exception) {
+      log.error("Failed to push the kill feed to the socket {}", Constants.FEED_SOCKET_FILE);
+      log.trace("Stacktrace:", exception);
+    }
+  }
+
+  /** Stops pushing the kill feed to the socket if it has been pushed. */
+  private void closeFeedSocketServer() {
+    KillFeedSocketServer server = killFeedSocketServer;
+    killFeedSocketServer = null;
+    if (server == null) {
+      return;
+    }
+    try {
+      server.close();
+    } catch (IOException ioException) {
+      log.warn("Couldn't close the kill feed socket");
+      log.trace("Stacktrace:", ioException);
+    }
+  }
+
+  /**
+   * Appends a newly stored kill event to the journal and records its sequence number as retained,
+   * unless the kill event has already been evicted again in the meantime.
+   *
+   * @param killEvent the newly stored kill event; cannot be null
+   */
+  private void appendToJournal(@NotNull KillEvent killEvent) {
+    synchronized (retainedSequences) {
+      long sequence = killEventJournal.append(killEvent);
+      killEventSequences.put(killEvent, sequence);
+      retainedSequences.add(sequence);
+    }
+    if (!killEvents.contains(killEvent)) {
+      releaseSequence(killEvent);
+    }
+  }
+
+  /**
+   * Removes the sequence number of an evicted kill event from the retained ones.
+   *
+   * @param killEvent the evicted kill event; cannot be null
+   */
+  private void releaseSequence(@NotNull KillEvent killEvent) {
+    Long sequence = killEventSequences.remove(killEvent);
+    if (sequence != null) {
+      retainedSequences.remove(sequence);
+    }
+  }
+
+  /**
+   * Evicts the oldest kill events from memory until the retention policy is no longer exceeded and
+   * discards the journal entries below the lowest sequence number still retained. Kill events are
+   * evicted by their timestamp, which doesn't follow the order of the journal when older kill
+   * events are added later, e.g. by an import, so the number of evicted kill events doesn't tell
+   * which entries are no longer needed for display.
+   */
+  private void retainKillEvents() {
+    if (killEvents.evict(retentionPolicy, System.currentTimeMillis(), this::evictKillEvent) == 0) {
+      return;
+    }
+    synchronized (retainedSequences) {
+      Long lowestSequence = retainedSequences.ceiling(0L);
+      killEventJournal.discardBefore(
+          lowestSequence != null ? lowestSequence : killEventJournal.size());
+    }
+  }
+
+  /**
+   * Releases the channel of an evicted kill event and appends the kill event to the spill, if
+   * open.
+   *
+   * @param killEvent the evicted kill event; cannot be null
+   */
+  private void evictKillEvent(@NotNull KillEvent killEvent) {
+    killEventChannels.remove(killEvent);
+    releaseSequence(killEvent);
+    OffHeapKillEvents spill = killEventSpill;
+    if (spill == null) {
+      return;
+    }
+    try {
+      synchronized (spill) {
+        spill.append(killEvent);
+      }
+    } catch (IOException | IllegalStateException exception) {
+      log.warn("Couldn't spill the evicted kill event to disk");
+      log.trace("Stacktrace:", exception);
+    }
+  }
+
+  /**
+   * Loads the page of kill events following the given cursor from the history or, if the history
+   * isn't open, from the spill and displays them above the kill events displayed so far. If
+   * neither is open, there are no older kill events to load.
+   *
+   * @param cursor the kill event all loaded kill events are older than, or {@code null} to load the
+   *     newest kill events
+   */
+  private void loadOlderKillEvents(KillEvent cursor) {
+    KillEventHistory history = killEventHistory;
+    OffHeapKillEvents spill = killEventSpill;
+    List<KillEvent> page = List.of();
+    try {
+      if (history != null) {
+        page = history.loadPage(cursor, PAGE_SIZE);
+      } else if (spill != null) {
+        synchronized (spill) {
+          page = spill.loadPage(cursor, PAGE_SIZE);
+        }
+      }
+    } catch (IOException | IllegalStateException exception) {
+      log.error("Failed to load older kill events");
+      log.trace("Stacktrace:", exception);
+    }
+    List<KillEvent> olderKillEvents = page;
+    Platform.runLater(
+        () -> {
+          displayOlderKillEvents(olderKillEvents);
+          buttonLoadOlder.setDisable(false);
+        });
+  }
+
+  /**
+   * Displays a page of older kill events above the kill events displayed so far. The kill events
+   * are neither added to the store nor counted, and they stay displayed when kill events kept in
+   * memory are evicted, until the displayed kill events are reset. The oldest kill event of the
+   * page becomes the cursor of the next page, even if it isn't displayed.
+   *
+   * @param page the kill events ordered from the newest to the oldest one; cannot be null
+   */
+  private void displayOlderKillEvents(@NotNull List<KillEvent> page) {
+    if (page.isEmpty()) {
+      log.info("There are no older kill events to load");
+      return;
+    }
+    for (KillEvent killEvent : page) {
+      if (KillEventExtractor.isRelevant(killEvent)
+          && (!checkIfNoPlayer(killEvent) || SettingsData.isShowAllActive())) {
+        textPane.getChildren().addFirst(getKillEventPane(killEvent, null));
+      }
+    }
+    pageCursor = page.getLast();
+  }
+
+  /**
+   * Removes the panes of the kill events displayed from the journal that have been evicted from
+   * memory, so the number of these panes is limited by the retention policy as well. Panes of paged
+   * kill events aren't affected.
+   */
+  private void trimDisplayedKillEvents() {
+    if (retentionPolicy.isUnlimited()) {
+      return;
+    }
+    Set<Node> evictedPanes = new HashSet<>();
+    liveKillEventPanes
+        .entrySet()
+        .removeIf(
+            entry -> !killEvents.contains(entry.getKey()) && evictedPanes.add(entry.getValue()));
+    if (!evictedPanes.isEmpty()) {
+      textPane.getChildren().removeAll(evictedPanes);
+    }
+  }
+
+  /**
+   * Adds a kill event to the store if it's relevant to the monitored player, isn't older than the
+   * maximum age of the retention policy and hasn't been stored or evicted before. A kill event that
+   * would be evicted right away is rejected here, so it's never published.
+   *
+   * @param killEvent the kill event to add; cannot be null
+   * @return {@code true} if the kill event was added, {@code false} otherwise
+   */
+  private boolean storeKillEvent(@NotNull KillEvent killEvent) {
+    return KillEventExtractor.isRelevant(killEvent)
+        && !retentionPolicy.isExpired(killEvent.epochMilli(), System.currentTimeMillis())
+        && killEvents.add(killEvent);
+  }
+
+  /**
+   * Merges kill events that are relevant to the monitored player into the store of kill events,
+   * appends the new ones to the journal and displays them. Used for both imported kill events and
+   * those found by the scan.
+   *
+   * @param killEventBatch the kill events to merge; cannot be null
+   * @param live whether the kill events were found by the scan rather than imported, see {@link
+   *     #publishKillEvent(KillEvent, boolean)}
+   * @return the kill events that were added to the store in the order of the batch; never null
+   */
+  private @NotNull List<KillEvent> mergeKillEvents(
+      @NotNull List<KillEvent> killEventBatch, boolean live) {
+    List<KillEvent> addedKillEvents = new ArrayList<>();
+    for (KillEvent killEvent : killEventBatch) {
+      if (storeKillEvent(killEvent)) {
+        publishKillEvent(killEvent, live);
+        addedKillEvents.add(killEvent);
+      }
+    }
+    retainKillEvents();
+    Platform.runLater(this::displayKillEvents);
+    return addedKillEvents;
+  }
+
+  /**
+   * Processes and displays kill events within the application. This method reads the kill events
+   * appended to the journal since its previous call, filtering and evaluating each event to update
+   * related statistics and UI elements such as kill count, death count, and displaying the kill
+   * event in a specified pane. The method ensures no duplicate event evaluations by advancing the
+   * cursor of the displayed kill events.
+   *
+   * <p>The method must be called on the JavaFX application thread, which is the only reader of
+   * the cursor and the counters. It doesn't lock the journal, so the scan can append kill events
+   * while they are being displayed.
    *
    * <p>The method performs the following tasks:
    * <ul>
-   *   <li>Skips evaluation of kill events already processed (stored in {@code evaluatedKillEvents}).
+   *   <li>Reads only the kill events appended since the previous call from the journal.
    *   <li>Filters events based on criteria such as player presence and active settings.
    *   <li>Modifies kill or death count based on configuration settings and event details, such as
    *       the killer and killed player.
-   *   <li>Updates the UI in a thread-safe manner using the JavaFX {@code Platform.runLater} method
-   *       to reflect kill and death statistics in labels and add the kill event pane to the
-   *       designated component.
-   *   <li>Adds processed kill events to the list of evaluated events.
+   *   <li>Updates the labels reflecting the kill and death statistics and adds the kill event pane
+   *       to the designated component.
+   *   <li>Removes the panes of kill events evicted from memory if the retention policy limits the
+   *       kill events in memory.
    * </ul>
    *
    * <p>Conditions and Settings:
@@ -251,31 +945,30 @@ public class ScanViewController {
    * </ul>
    */
   private void displayKillEvents() {
-    killEvents.forEach(
+    long newCount = displayCursor.poll(
         killEvent -> {
-          if (!evaluatedKillEvents.contains(killEvent)) {
-            if (checkIfNoPlayer(killEvent) && !SettingsData.isShowAllActive()) {
-              return;
-            }
-            if (killEvent.killer().equals(SettingsData.getHandle())
-                && SettingsData.isKillerModeActive()) {
-              if (SettingsData.getHandle().equals(killEvent.killedPlayer())) {
-                deathCount++;
-              } else {
-                killCount++;
-              }
-            } else {
+          if (checkIfNoPlayer(killEvent) && !SettingsData.isShowAllActive()) {
+            return;
+          }
+          if (killEvent.killer().equals(SettingsData.getHandle())
+              && SettingsData.isKillerModeActive()) {
+            if (SettingsData.getHandle().equals(killEvent.killedPlayer())) {
               deathCount++;
+            } else {
+              killCount++;
             }
-            Platform.runLater(
-                () -> {
-                  textPane.getChildren().add(getKillEventPane(killEvent));
-                  labelKillCountValue.setText(String.valueOf(killCount));
-                  labelDeathCountValue.setText(String.valueOf(deathCount));
-                });
-            evaluatedKillEvents.add(killEvent);
+          } else {
+            deathCount++;
           }
+          VBox pane = getKillEventPane(killEvent, killEventChannels.get(killEvent));
+          liveKillEventPanes.put(killEvent, pane);
+          textPane.getChildren().add(pane);
         });
+    if (newCount > 0) {
+      trimDisplayedKillEvents();
+    }
+    labelKillCountValue.setText(String.valueOf(killCount));
+    labelDeathCountValue.setText(String.valueOf(deathCount));
   }
 
   /**
@@ -284,10 +977,16 @@ public class ScanViewController {
    *
    * @param killEvent the KillEvent containing data to be displayed in the TextArea; must not be
    *     null.
+   * @param channel the channel in whose log file the kill event was found, or {@code null} if only
+   *     a single channel is scanned.
    * @return a VBox containing the formatted KillEvent display; never null.
    */
-  private @NotNull VBox getKillEventPane(@NotNull KillEvent killEvent) {
-    TextArea textArea = new TextArea(KillEventFormatter.format(killEvent));
+  private @NotNull VBox getKillEventPane(@NotNull KillEvent killEvent, ChannelType channel) {
+    TextArea textArea =
+        new TextArea(
+            channel == null
+                ? KillEventFormatter.format(killEvent)
+                : KillEventFormatter.format(killEvent, channel));
     textArea.setEditable(false);
     textArea.setMinHeight(160);
     textArea.setMaxHeight(160);
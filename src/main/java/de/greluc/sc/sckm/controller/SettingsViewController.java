@@ -20,17 +20,20 @@
 
 package de.greluc.sc.sckm.controller;
 
+import de.greluc.sc.sckm.AlertHandler;
 import de.greluc.sc.sckm.FileHandler;
 import de.greluc.sc.sckm.settings.SettingsData;
 import de.greluc.sc.sckm.settings.SettingsHandler;
 import java.io.File;
 import java.util.Optional;
 import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 import lombok.Generated;
 import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -57,6 +60,7 @@ import org.jetbrains.annotations.NotNull;
  * @version 1.3.0
  * @since 1.0.0
  */
+@Log4j2
 public class SettingsViewController {
   @FXML private TextField inputPathLive;
   @FXML private TextField inputPathPtu;
@@ -66,6 +70,20 @@ public class SettingsViewController {
   @FXML private TextField inputPathCustom;
   @FXML private CheckBox cbWriteKillEvent;
   @FXML private CheckBox cbKillerMode;
+  @FXML private CheckBox cbEventDrivenScan;
+  @FXML private CheckBox cbMultiChannelScan;
+  @FXML private CheckBox cbHistory;
+  @FXML private TextField inputRetentionMaxCount;
+  @FXML private TextField inputRetentionMaxAge;
+  @FXML private TextField inputRetentionMemory;
+  @FXML private CheckBox cbSpillToDisk;
+  @FXML private CheckBox cbNdjsonOutput;
+  @FXML private TextField inputOutputRollSize;
+  @FXML private CheckBox cbOutputRollDaily;
+  @FXML private TextField inputOutputMaxArchives;
+  @FXML private CheckBox cbFeedServer;
+  @FXML private TextField inputFeedServerPort;
+  @FXML private CheckBox cbFeedSocket;
   @Setter private SettingsHandler settingsHandler;
 
   /**
@@ -98,6 +116,20 @@ public class SettingsViewController {
     inputPathCustom.setText(SettingsData.getPathCustom());
     cbWriteKillEvent.setSelected(SettingsData.isWriteKillEventToFile());
     cbKillerMode.setSelected(SettingsData.isKillerModeActive());
+    cbEventDrivenScan.setSelected(SettingsData.isEventDrivenScanActive());
+    cbMultiChannelScan.setSelected(SettingsData.isMultiChannelScanActive());
+    cbHistory.setSelected(SettingsData.isHistoryActive());
+    inputRetentionMaxCount.setText(String.valueOf(SettingsData.getRetentionMaxCount()));
+    inputRetentionMaxAge.setText(String.valueOf(SettingsData.getRetentionMaxAgeHours()));
+    inputRetentionMemory.setText(String.valueOf(SettingsData.getRetentionMemoryMib()));
+    cbSpillToDisk.setSelected(SettingsData.isSpillToDiskActive());
+    cbNdjsonOutput.setSelected(SettingsData.isNdjsonOutputActive());
+    inputOutputRollSize.setText(String.valueOf(SettingsData.getOutputRollSizeMib()));
+    cbOutputRollDaily.setSelected(SettingsData.isOutputRollDaily());
+    inputOutputMaxArchives.setText(String.valueOf(SettingsData.getOutputMaxArchives()));
+    cbFeedServer.setSelected(SettingsData.isFeedServerActive());
+    inputFeedServerPort.setText(String.valueOf(SettingsData.getFeedServerPort()));
+    cbFeedSocket.setSelected(SettingsData.isFeedSocketActive());
   }
 
   /**
@@ -116,9 +148,47 @@ public class SettingsViewController {
    *   <li>Tech Preview environment path.<br>
    *   <li>Custom path.
    * </ul>
+   *
+   * <p>The retention limits and the limits of the output file must be empty or non-negative
+   * integers, where {@code 0} means no limit. If a limit is invalid, an error is shown and neither
+   * the settings are saved nor the window is closed. The same applies to a port of the kill feed
+   * outside the range from 1 to 65535.
    */
   @FXML
   protected void onSave() {
+    int retentionMaxCount;
+    int retentionMaxAgeHours;
+    int retentionMemoryMib;
+    int outputRollSizeMib;
+    int outputMaxArchives;
+    try {
+      retentionMaxCount = parseLimit(inputRetentionMaxCount);
+      retentionMaxAgeHours = parseLimit(inputRetentionMaxAge);
+      retentionMemoryMib = parseLimit(inputRetentionMemory);
+      outputRollSizeMib = parseLimit(inputOutputRollSize);
+      outputMaxArchives = parseLimit(inputOutputMaxArchives);
+    } catch (NumberFormatException numberFormatException) {
+      log.warn("Retention limit is invalid");
+      AlertHandler.showAlert(
+          Alert.AlertType.ERROR,
+          "Retention limit is invalid",
+          "Please enter 0 or a positive number for each retention and output limit");
+      return;
+    }
+    int feedServerPort;
+    try {
+      feedServerPort = Integer.parseInt(inputFeedServerPort.getText().strip());
+    } catch (NumberFormatException numberFormatException) {
+      feedServerPort = 0;
+    }
+    if (feedServerPort < 1 || feedServerPort > 65535) {
+      log.warn("Kill feed port is invalid");
+      AlertHandler.showAlert(
+          Alert.AlertType.ERROR,
+          "Kill feed port is invalid",
+          "Please enter a port between 1 and 65535 for the kill feed");
+      return;
+    }
     SettingsData.setPathLive(inputPathLive.getText());
     SettingsData.setPathPtu(inputPathPtu.getText());
     SettingsData.setPathEptu(inputPathEptu.getText());
@@ -127,10 +197,43 @@ public class SettingsViewController {
     SettingsData.setPathCustom(inputPathCustom.getText());
     SettingsData.setWriteKillEventToFile(cbWriteKillEvent.isSelected());
     SettingsData.setKillerModeActive(cbKillerMode.isSelected());
+    SettingsData.setEventDrivenScanActive(cbEventDrivenScan.isSelected());
+    SettingsData.setMultiChannelScanActive(cbMultiChannelScan.isSelected());
+    SettingsData.setHistoryActive(cbHistory.isSelected());
+    SettingsData.setRetentionMaxCount(retentionMaxCount);
+    SettingsData.setRetentionMaxAgeHours(retentionMaxAgeHours);
+    SettingsData.setRetentionMemoryMib(retentionMemoryMib);
+    SettingsData.setSpillToDiskActive(cbSpillToDisk.isSelected());
+    SettingsData.setNdjsonOutputActive(cbNdjsonOutput.isSelected());
+    SettingsData.setOutputRollSizeMib(outputRollSizeMib);
+    SettingsData.setOutputRollDaily(cbOutputRollDaily.isSelected());
+    SettingsData.setOutputMaxArchives(outputMaxArchives);
+    SettingsData.setFeedServerActive(cbFeedServer.isSelected());
+    SettingsData.setFeedServerPort(feedServerPort);
+    SettingsData.setFeedSocketActive(cbFeedSocket.isSelected());
     settingsHandler.saveSettings();
     closeWindow();
   }
 
+  /**
+   * Parses a retention limit entered in a text field. An empty field means no limit.
+   *
+   * @param input the text field containing the limit; cannot be null
+   * @return the limit, or {@code 0} for no limit
+   * @throws NumberFormatException if the text isn't a non-negative integer
+   */
+  private static int parseLimit(@NotNull TextField input) {
+    String text = input.getText().strip();
+    if (text.isEmpty()) {
+      return 0;
+    }
+    int limit = Integer.parseInt(text);
+    if (limit < 0) {
+      throw new NumberFormatException("The limit cannot be negative: " + limit);
+    }
+    return limit;
+  }
+
   /** Closes the dedicated settings window. */
   @FXML
   @Generated
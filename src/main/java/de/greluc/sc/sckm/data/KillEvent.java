@@ -20,6 +20,7 @@
 
 package de.greluc.sc.sckm.data;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.ZonedDateTime;
 
 /**
@@ -33,6 +34,8 @@ import java.time.ZonedDateTime;
  *   <li><strong>weaponClass</strong>: The class of the weapon or method used to perform the kill.
  *   <li><strong>damageType</strong>: The type of damage inflicted (e.g., explosive, ballistic).
  *   <li><strong>zone</strong>: The location or area in the game where the kill occurred.
+ *   <li><strong>epochMilli</strong>: The timestamp as milliseconds since the epoch, which is cheap
+ *       to compare and to store. It isn't part of the JSON representation.
  * </ul>
  *
  * <p>This record provides a detailed representation of a kill event, storing all relevant details
@@ -49,4 +52,49 @@ public record KillEvent(
     String weapon,
     String weaponClass,
     String damageType,
-    String zone) {}
+    String zone,
+    @JsonIgnore long epochMilli) {
+
+  /**
+   * Creates a new kill event and verifies that the epoch milliseconds match the timestamp, since
+   * they're used instead of the timestamp to compare and order kill events.
+   *
+   * @throws NullPointerException if the timestamp is null
+   * @throws IllegalArgumentException if the epoch milliseconds don't match the timestamp
+   */
+  public KillEvent {
+    if (epochMilli != timestamp.toInstant().toEpochMilli()) {
+      throw new IllegalArgumentException("The epoch milliseconds don't match the timestamp");
+    }
+  }
+
+  /**
+   * Creates a new kill event and derives the epoch milliseconds from the timestamp.
+   *
+   * @param timestamp the date and time when the kill event occurred
+   * @param killedPlayer the name of the player who was killed
+   * @param killer the name of the player, NPC, or entity that performed the kill
+   * @param weapon the weapon or method used to perform the kill
+   * @param weaponClass the class of the weapon or method used to perform the kill
+   * @param damageType the type of damage inflicted
+   * @param zone the location or area in the game where the kill occurred
+   */
+  public KillEvent(
+      ZonedDateTime timestamp,
+      String killedPlayer,
+      String killer,
+      String weapon,
+      String weaponClass,
+      String damageType,
+      String zone) {
+    this(
+        timestamp,
+        killedPlayer,
+        killer,
+        weapon,
+        weaponClass,
+        damageType,
+        zone,
+        timestamp.toInstant().toEpochMilli());
+  }
+}
@@ -20,18 +20,15 @@
 
 package de.greluc.sc.sckm.data;
 
-import static de.greluc.sc.sckm.FileHandler.writeKillEventToFile;
-
 import de.greluc.sc.sckm.AlertHandler;
+import de.greluc.sc.sckm.scan.LogTailReader;
 import de.greluc.sc.sckm.settings.SettingsData;
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import lombok.extern.log4j.Log4j2;
@@ -51,128 +48,187 @@ import org.jetbrains.annotations.NotNull;
 public class KillEventExtractor {
 
   /**
-   * Extracts kill events from a specified log file and populates the provided list with unique kill
-   * events relevant to the monitored player. The method scans the log file line by line, identifies
-   * lines containing a specific marker {@code <Actor Death>}, parses them into {@link KillEvent} objects,
-   * and adds the events to the list if they meet defined conditions.
+   * Extracts kill events from a specified log file and populates the provided store with unique
+   * kill events relevant to the monitored player. The method scans the log file line by line,
+   * identifies lines containing a specific marker {@code <Actor Death>}, parses them into {@link
+   * KillEvent} objects, and adds the events to the store if they meet defined conditions.
+   *
+   * <p>The file is read as UTF-8 through a {@link LogTailReader}, which reuses its buffers and only
+   * decodes the lines containing the marker of a registered {@link LogEventType}.
    *
-   * <p>Kill events are sorted in reverse chronological order based on their timestamps after
-   * processing. Additionally, newly detected kill events may be logged and written to a file
-   * with a timestamp derived from the scan's start time.
+   * <p>The {@link KillEventStore} keeps the kill events in reverse chronological order based on
+   * their timestamps. Additionally, newly detected kill events are logged. Passing them on, e.g.
+   * to a file, is up to the {@link de.greluc.sc.sckm.sink.KillEventSink}s of the caller.
    *
-   * @param killEvents the list to populate with unique kill events; cannot be null
+   * @param killEvents the store to populate with unique kill events; cannot be null
    * @param inputFilePath the file path of the log file to scan; cannot be null
-   * @param scanStartTime the start time of the scan, used for logging and file naming; cannot be null
    * @throws IOException if reading the specified log file fails
    */
   public static void extractKillEvents(
-      @NotNull List<KillEvent> killEvents,
-      @NotNull String inputFilePath,
-      @NotNull ZonedDateTime scanStartTime) throws IOException {
-    try (BufferedReader reader = new BufferedReader(new FileReader(inputFilePath))) {
-      String line;
-      while ((line = reader.readLine()) != null) {
-        if (line.contains("<Actor Death>")) {
-          Optional<KillEvent> event = parseKillEvent(line);
-          event.ifPresent(
-              killEvent -> {
-                if (killEvent.killedPlayer().equals(SettingsData.getHandle())
-                    && !killEvents.contains(killEvent)) {
-                  killEvents.addFirst(killEvent);
-                  log.info("New kill event detected");
-                  log.debug("Kill Event:\n{}", killEvent);
-                  if (SettingsData.isWriteKillEventToFile()) {
-                    writeKillEventToFile(
-                        killEvent,
-                        scanStartTime.format(DateTimeFormatter.ofPattern("yyMMdd-HHmmss")));
-                  }
-                } else if (SettingsData.isKillerModeActive() && killEvent.killer().equals(SettingsData.getHandle())
-                    && !killEvents.contains(killEvent)) {
-                  killEvents.addFirst(killEvent);
-                  log.info("New kill event detected");
-                  log.debug("Kill Event:\n{}", killEvent);
-                  if (SettingsData.isWriteKillEventToFile()) {
-                    writeKillEventToFile(
-                        killEvent,
-                        scanStartTime.format(DateTimeFormatter.ofPattern("yyMMdd-HHmmss")));
-                  }
-                }
-              });
-        }
-      }
-      killEvents.sort(Comparator.comparing(KillEvent::timestamp, Comparator.reverseOrder()));
+      @NotNull KillEventStore killEvents, @NotNull String inputFilePath) throws IOException {
+    try (LogTailReader reader =
+        new LogTailReader(Path.of(inputFilePath), LogEventRegistry.getDefault().getMatcher())) {
+      readKillEvents(reader, killEvent -> addKillEvent(killEvents, killEvent));
+    }
+  }
+
+  /**
+   * Extracts kill events from the lines appended to a log file since the last scan and populates
+   * the provided store with unique kill events relevant to the monitored player.
+   *
+   * <p>In contrast to {@link #extractKillEvents(KillEventStore, String)}, the log file isn't read
+   * from the beginning on every call. The given {@link LogTailReader} remembers how far the file
+   * has already been processed, so each call only costs as much as the amount of newly written
+   * data. Apart from that, the lines are evaluated in the same way.
+   *
+   * @param killEvents the store to populate with unique kill events; cannot be null
+   * @param tailReader the reader tracking the already processed part of the log file; cannot be
+   *     null
+   * @throws IOException if reading the log file fails
+   */
+  public static void extractKillEvents(
+      @NotNull KillEventStore killEvents, @NotNull LogTailReader tailReader) throws IOException {
+    readKillEvents(tailReader, killEvent -> addKillEvent(killEvents, killEvent));
+  }
+
+  /**
+   * Reads the lines appended to a log file since the last read and passes each kill event found in
+   * them to the given consumer, in the order in which they were logged.
+   *
+   * <p>In contrast to {@link #extractKillEvents(KillEventStore, LogTailReader)}, the kill events
+   * aren't collected, filtered or deduplicated. Each consumer can react to a single kill event
+   * without holding the history of all previous ones, which makes this method suitable for any
+   * front-end, e.g. tests or a command line tool.
+   *
+   * @param tailReader the reader tracking the already processed part of the log file; cannot be
+   *     null
+   * @param consumer the consumer receiving the new kill events; cannot be null
+   * @throws IOException if reading the log file fails
+   */
+  public static void readKillEvents(
+      @NotNull LogTailReader tailReader, @NotNull Consumer<? super KillEvent> consumer)
+      throws IOException {
+    try {
+      tailReader.readNewLines(
+          line ->
+              LogEventRegistry.getDefault()
+                  .parse(line)
+                  .ifPresent(
+                      event -> {
+                        if (event instanceof KillEvent killEvent) {
+                          consumer.accept(killEvent);
+                        }
+                      }));
     } catch (IOException ioException) {
-      Platform.runLater(
-          () ->
-              AlertHandler.showAlert(
-                  Alert.AlertType.ERROR,
-                  "Failed to read log file",
-                  "Please check if the file exists and the path is set correctly."));
-      log.error("Failed to find the specified log file: {}", inputFilePath);
-      log.trace("Stacktrace:", ioException);
+      handleReadError(tailReader.getPath().toString(), ioException);
       throw ioException;
     }
   }
 
+  /**
+   * Returns the kill events logged since the last read as a stream, in the order in which they
+   * were logged.
+   *
+   * <p>The lines containing a marker of a registered {@link LogEventType} are read when this
+   * method is called, since the reader has to advance past them. Parsing them into kill events is
+   * deferred until the stream is consumed, so a stream that is only partially consumed, e.g. by
+   * {@link Stream#findFirst()}, doesn't parse the remaining lines.
+   *
+   * @param tailReader the reader tracking the already processed part of the log file; cannot be
+   *     null
+   * @return the new kill events; never null
+   * @throws IOException if reading the log file fails
+   */
+  public static @NotNull Stream<KillEvent> streamKillEvents(@NotNull LogTailReader tailReader)
+      throws IOException {
+    List<String> lines;
+    try {
+      lines = tailReader.readNewLines();
+    } catch (IOException ioException) {
+      handleReadError(tailReader.getPath().toString(), ioException);
+      throw ioException;
+    }
+    return lines.stream()
+        .map(LogEventRegistry.getDefault()::parse)
+        .flatMap(Optional::stream)
+        .mapMulti(
+            (event, downstream) -> {
+              if (event instanceof KillEvent killEvent) {
+                downstream.accept(killEvent);
+              }
+            });
+  }
+
+  /**
+   * Adds a kill event to the store if it is relevant to the monitored player and not already part
+   * of the store. A newly added kill event is logged.
+   *
+   * @param killEvents the store to populate with unique kill events; cannot be null
+   * @param killEvent the kill event to add; cannot be null
+   * @return {@code true} if the kill event was added, {@code false} otherwise
+   */
+  public static boolean addKillEvent(
+      @NotNull KillEventStore killEvents, @NotNull KillEvent killEvent) {
+    if (!isRelevant(killEvent) || !killEvents.add(killEvent)) {
+      return false;
+    }
+    log.info("New kill event detected");
+    log.debug("Kill Event:\n{}", killEvent);
+    return true;
+  }
+
+  /**
+   * Checks whether a kill event is relevant to the monitored player. This is the case if the
+   * monitored player was killed or, with the killer mode active, if the monitored player is the
+   * killer.
+   *
+   * @param killEvent the kill event to check; cannot be null
+   * @return {@code true} if the kill event is relevant, {@code false} otherwise
+   */
+  public static boolean isRelevant(@NotNull KillEvent killEvent) {
+    return killEvent.killedPlayer().equals(SettingsData.getHandle())
+        || (SettingsData.isKillerModeActive()
+            && killEvent.killer().equals(SettingsData.getHandle()));
+  }
+
+  /**
+   * Informs the user about a log file that couldn't be read and logs the cause.
+   *
+   * @param inputFilePath the file path of the log file that couldn't be read; cannot be null
+   * @param ioException the exception raised while reading the file; cannot be null
+   */
+  public static void handleReadError(
+      @NotNull String inputFilePath, @NotNull IOException ioException) {
+    Platform.runLater(
+        () ->
+            AlertHandler.showAlert(
+                Alert.AlertType.ERROR,
+                "Failed to read log file",
+                "Please check if the file exists and the path is set correctly."));
+    log.error("Failed to find the specified log file: {}", inputFilePath);
+    log.trace("Stacktrace:", ioException);
+  }
+
   /**
    * Parses a log line to create a KillEvent object.
    *
-   * <p>The method attempts to extract various components from the provided log line, such as the
-   * timestamp, killed player, killer, weapon, damage type, and zone. If successful, it returns an
-   * Optional containing the constructed KillEvent object. If the parsing fails, it logs an error
-   * and returns an empty Optional.
+   * <p>The method extracts the timestamp, killed player, killer, weapon, weapon class, damage type,
+   * and zone from the provided log line in a single pass using the {@link KillLineParser}. If
+   * successful, it returns an Optional containing the constructed KillEvent object. If the parsing
+   * fails, it logs an error and returns an empty Optional.
    *
    * @param logLine the log line to be parsed, which should contain structured information about a
    *     kill event in a specific format.
    * @return an Optional containing a KillEvent object when the log line is successfully parsed, or
    *     an empty Optional if the parsing fails.
    */
-  private static @NotNull Optional<KillEvent> parseKillEvent(@NotNull String logLine) {
+  public static @NotNull Optional<KillEvent> parseKillEvent(@NotNull CharSequence logLine) {
     try {
-      String timestamp = logLine.substring(logLine.indexOf('<') + 1, logLine.indexOf('>'));
-      String killedPlayer = extractValue(logLine, "CActor::Kill: '", "'");
-      String zone = extractValue(logLine, "in zone '", "'");
-      String killer = extractValue(logLine, "killed by '", "'");
-      String weapon = extractValue(logLine, "using '", "'");
-      String weaponClass = extractValue(logLine, "[Class ", "]");
-      String damageType = extractValue(logLine, "with damage type '", "'");
-
-      return Optional.of(
-          new KillEvent(
-              ZonedDateTime.parse(timestamp, DateTimeFormatter.ISO_DATE_TIME),
-              killedPlayer,
-              killer,
-              weapon,
-              weaponClass,
-              damageType,
-              zone));
+      return Optional.of(KillLineParser.parse(logLine));
     } catch (Exception exception) {
       log.error("Failed to parse log line: {}", logLine);
       log.trace("Stacktrace:", exception);
       return Optional.empty();
     }
   }
-
-  /**
-   * Extracts a substring between the specified start and end tokens within a given text.
-   *
-   * @param text The input string from which the value should be extracted. Must not be null.
-   * @param startToken The starting delimiter of the substring to extract. Must not be null.
-   * @param endToken The ending delimiter of the substring to extract. Must not be null.
-   * @return The extracted substring if both tokens are found; otherwise, an empty string.
-   */
-  @SuppressWarnings("SameParameterValue")
-  private static @NotNull String extractValue(
-      @NotNull String text, @NotNull String startToken, @NotNull String endToken) {
-    int startIndex = text.indexOf(startToken);
-    if (startIndex == -1) {
-      return "";
-    }
-    startIndex += startToken.length();
-    int endIndex = text.indexOf(endToken, startIndex);
-    if (endIndex == -1) {
-      return "";
-    }
-    return text.substring(startIndex, endIndex);
-  }
 }
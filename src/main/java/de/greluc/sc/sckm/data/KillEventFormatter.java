@@ -76,4 +76,17 @@ public class KillEventFormatter {
         + "Damage Type = "
         + killEvent.damageType();
   }
+
+  /**
+   * Formats the details of a KillEvent into a human-readable string representation that starts with
+   * the channel in whose log file the event was found.
+   *
+   * @param killEvent the KillEvent object containing information about a specific kill event
+   * @param channel the channel in whose log file the kill event was found
+   * @return a string representation of the channel and the KillEvent
+   */
+  @Contract(pure = true)
+  public static @NotNull String format(@NotNull KillEvent killEvent, @NotNull ChannelType channel) {
+    return "Channel = " + channel.name() + "\n" + format(killEvent);
+  }
 }
@@ -0,0 +1,194 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The KillEventJournal class is an append-only log of kill events, in which every kill event is
+ * assigned a monotonically increasing sequence number starting at {@code 0}.
+ *
+ * <p>Readers never lock. Each reader keeps its own {@link Cursor} holding the sequence number of
+ * the next kill event to read and asks the journal for the kill events appended since then. Only
+ * the new kill events are visited; the journal isn't copied.
+ *
+ * <p>The kill events are stored in fixed-size chunks that are never moved once allocated. Appending
+ * writes the kill event into its slot first and publishes the new size afterwards through a
+ * volatile write, so a reader that sees a size also sees every kill event below it. Appends are
+ * serialized among writers, which is uncontended in practice since a single scan thread appends
+ * almost all kill events.
+ *
+ * <p>To bound its memory, the journal can discard the chunks of kill events below a sequence
+ * number, see {@link #discardBefore(long)}. Readers silently skip discarded kill events.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public class KillEventJournal {
+  private static final int CHUNK_SHIFT = 10;
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  private volatile KillEvent[][] chunks = new KillEvent[1][];
+  private volatile long size;
+
+  /**
+   * Appends a kill event to the journal.
+   *
+   * @param killEvent the kill event to append; cannot be null
+   * @return the sequence number assigned to the kill event
+   */
+  public synchronized long append(@NotNull KillEvent killEvent) {
+    long sequence = size;
+    int chunkIndex = (int) (sequence >>> CHUNK_SHIFT);
+    KillEvent[][] currentChunks = chunks;
+    if (chunkIndex == currentChunks.length) {
+      currentChunks = Arrays.copyOf(currentChunks, currentChunks.length * 2);
+      chunks = currentChunks;
+    }
+    if (currentChunks[chunkIndex] == null) {
+      currentChunks[chunkIndex] = new KillEvent[CHUNK_SIZE];
+    }
+    currentChunks[chunkIndex][(int) (sequence & CHUNK_MASK)] = killEvent;
+    size = sequence + 1;
+    return sequence;
+  }
+
+  /**
+   * Returns the number of kill events in the journal, which is also the sequence number the next
+   * appended kill event will receive.
+   *
+   * @return the number of kill events in the journal
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Passes all kill events with a sequence number of at least the given one to a consumer, in the
+   * order of their sequence numbers. Kill events appended while this method runs may or may not be
+   * included. Discarded kill events are skipped.
+   *
+   * @param sequence the sequence number of the first kill event to visit
+   * @param consumer the consumer receiving the kill events; cannot be null
+   * @return the number of visited kill events
+   * @throws IllegalArgumentException if the sequence number is negative
+   */
+  public long readSince(long sequence, @NotNull Consumer<? super KillEvent> consumer) {
+    return read(sequence, size, consumer);
+  }
+
+  /**
+   * Releases the kill events with a sequence number below the given one, as far as they fill
+   * whole chunks. The sequence numbers of the remaining kill events don't change. The chunks array
+   * is replaced instead of modified, so readers holding the previous array still find all kill
+   * events they know of.
+   *
+   * @param sequence the sequence number of the first kill event to keep
+   */
+  public synchronized void discardBefore(long sequence) {
+    int chunkCount = (int) (Math.min(sequence, size) >>> CHUNK_SHIFT);
+    KillEvent[][] currentChunks = chunks;
+    if (chunkCount == 0 || currentChunks[chunkCount - 1] == null) {
+      return;
+    }
+    KillEvent[][] remainingChunks = currentChunks.clone();
+    Arrays.fill(remainingChunks, 0, chunkCount, null);
+    chunks = remainingChunks;
+  }
+
+  /**
+   * Passes the kill events with a sequence number from the given start up to, but excluding, the
+   * given end to a consumer, skipping discarded ones.
+   *
+   * @param sequence the sequence number of the first kill event to visit
+   * @param end the sequence number after the last kill event to visit, at most the size
+   * @param consumer the consumer receiving the kill events; cannot be null
+   * @return the number of visited kill events
+   * @throws IllegalArgumentException if the sequence number is negative
+   */
+  private long read(long sequence, long end, @NotNull Consumer<? super KillEvent> consumer) {
+    if (sequence < 0) {
+      throw new IllegalArgumentException("The sequence number cannot be negative");
+    }
+    KillEvent[][] currentChunks = chunks;
+    long visited = 0;
+    long current = sequence;
+    while (current < end) {
+      KillEvent[] chunk = currentChunks[(int) (current >>> CHUNK_SHIFT)];
+      long chunkEnd = Math.min(end, (current | CHUNK_MASK) + 1);
+      if (chunk != null) {
+        for (long slot = current; slot < chunkEnd; slot++) {
+          consumer.accept(chunk[(int) (slot & CHUNK_MASK)]);
+        }
+        visited += chunkEnd - current;
+      }
+      current = chunkEnd;
+    }
+    return visited;
+  }
+
+  /**
+   * Creates a cursor positioned at the start of the journal, so its first read returns all kill
+   * events appended so far.
+   *
+   * @return the new cursor; never null
+   */
+  public @NotNull Cursor newCursor() {
+    return new Cursor();
+  }
+
+  /**
+   * The read position of a single reader in the journal. A cursor isn't thread-safe and is meant
+   * to be used by a single reader, e.g. the JavaFX application thread.
+   */
+  public final class Cursor {
+    private long position;
+
+    private Cursor() {}
+
+    /**
+     * Passes all kill events appended since the previous read to a consumer and advances the
+     * cursor past them. Kill events discarded in the meantime are skipped.
+     *
+     * @param consumer the consumer receiving the new kill events; cannot be null
+     * @return the number of new kill events
+     */
+    public long poll(@NotNull Consumer<? super KillEvent> consumer) {
+      long end = size;
+      long count = read(position, end, consumer);
+      position = Math.max(position, end);
+      return count;
+    }
+
+    /**
+     * Returns the sequence number of the next kill event this cursor will read.
+     *
+     * @return the position of the cursor
+     */
+    public long getPosition() {
+      return position;
+    }
+  }
+}
@@ -0,0 +1,221 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The KillEventStore class holds the unique kill events of a scan ordered from the newest to the
+ * oldest one.
+ *
+ * <p>The store combines a hash set, which detects duplicates in constant time, with a skip list
+ * ordered by the timestamp of the kill events. Adding a kill event therefore costs O(log n) and
+ * keeps the order intact, so the kill events never have to be sorted as a whole. Kill events with
+ * the same timestamp are ordered by their remaining fields, which keeps distinct kill events
+ * distinct in the skip list.
+ *
+ * <p>The memory taken by the stored kill events is estimated as they are added, so the oldest kill
+ * events can be evicted once a {@link RetentionPolicy} is exceeded. An evicted kill event is
+ * remembered by a compact key of its timestamp and a hash of its fields, so it's still detected as
+ * a duplicate when it's found again, e.g. because the log file is read again at the start of the
+ * next scan.
+ *
+ * <p>The store is thread-safe. Iterating it while kill events are added doesn't fail, but may or
+ * may not include the added kill events.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public class KillEventStore implements Iterable<KillEvent> {
+  /**
+   * Orders kill events from the newest to the oldest one. Kill events with the same timestamp are
+   * ordered by their remaining fields, so the order is total and can serve as the cursor of a page
+   * of older kill events.
+   */
+  public static final Comparator<KillEvent> NEWEST_FIRST =
+      Comparator.comparingLong(KillEvent::epochMilli)
+          .reversed()
+          .thenComparing(KillEvent::killedPlayer)
+          .thenComparing(KillEvent::killer)
+          .thenComparing(KillEvent::weapon)
+          .thenComparing(KillEvent::weaponClass)
+          .thenComparing(KillEvent::damageType)
+          .thenComparing(KillEvent::zone);
+
+  private final Set<KillEvent> uniqueKillEvents = ConcurrentHashMap.newKeySet();
+  private final NavigableSet<KillEvent> orderedKillEvents =
+      new ConcurrentSkipListSet<>(NEWEST_FIRST);
+  private final Set<Long> evictedKeys = ConcurrentHashMap.newKeySet();
+  private final AtomicLong estimatedSize = new AtomicLong();
+
+  /**
+   * Adds a kill event to the store unless it is already part of it or has been evicted from it.
+   *
+   * @param killEvent the kill event to add; cannot be null
+   * @return {@code true} if the kill event was added, {@code false} if it was already stored or
+   *     evicted
+   */
+  public boolean add(@NotNull KillEvent killEvent) {
+    if (evictedKeys.contains(evictedKey(killEvent)) || !uniqueKillEvents.add(killEvent)) {
+      return false;
+    }
+    orderedKillEvents.add(killEvent);
+    estimatedSize.addAndGet(RetentionPolicy.estimateSize(killEvent));
+    return true;
+  }
+
+  /**
+   * Evicts the oldest kill events until the store no longer exceeds the given retention policy.
+   * An evicted kill event is still detected as a duplicate, so it isn't added again if it is found
+   * again, e.g. by reading the log file again or importing a log file.
+   *
+   * @param policy the retention policy to enforce; cannot be null
+   * @param nowEpochMilli the current time in milliseconds since the epoch, which the age of the
+   *     kill events is measured against
+   * @param evicted the consumer receiving each evicted kill event, from the oldest to the newest
+   *     one; cannot be null
+   * @return the number of evicted kill events
+   */
+  public int evict(
+      @NotNull RetentionPolicy policy,
+      long nowEpochMilli,
+      @NotNull Consumer<? super KillEvent> evicted) {
+    if (policy.isUnlimited()) {
+      return 0;
+    }
+    int evictedCount = 0;
+    while (true) {
+      Iterator<KillEvent> oldestFirst = orderedKillEvents.descendingIterator();
+      if (!oldestFirst.hasNext()) {
+        return evictedCount;
+      }
+      KillEvent oldest = oldestFirst.next();
+      if (!policy.isExceeded(size(), estimatedSize.get(), oldest.epochMilli(), nowEpochMilli)) {
+        return evictedCount;
+      }
+      if (orderedKillEvents.remove(oldest)) {
+        evictedKeys.add(evictedKey(oldest));
+        uniqueKillEvents.remove(oldest);
+        estimatedSize.addAndGet(-RetentionPolicy.estimateSize(oldest));
+        evicted.accept(oldest);
+        evictedCount++;
+      }
+    }
+  }
+
+  /**
+   * Checks whether a kill event is part of the store.
+   *
+   * @param killEvent the kill event to look up; cannot be null
+   * @return {@code true} if the kill event is stored, {@code false} otherwise
+   */
+  public boolean contains(@NotNull KillEvent killEvent) {
+    return uniqueKillEvents.contains(killEvent);
+  }
+
+  /**
+   * Returns the number of stored kill events.
+   *
+   * @return the number of stored kill events
+   */
+  public int size() {
+    return uniqueKillEvents.size();
+  }
+
+  /**
+   * Checks whether the store doesn't contain any kill event.
+   *
+   * @return {@code true} if the store is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return uniqueKillEvents.isEmpty();
+  }
+
+  /**
+   * Returns the estimated memory in bytes taken by the stored kill events, see {@link
+   * RetentionPolicy#estimateSize(KillEvent)}.
+   *
+   * @return the estimated memory in bytes
+   */
+  public long getEstimatedSize() {
+    return estimatedSize.get();
+  }
+
+  /**
+   * Returns the oldest stored kill event.
+   *
+   * @return the oldest kill event, or {@code null} if the store is empty
+   */
+  public KillEvent getOldest() {
+    Iterator<KillEvent> oldestFirst = orderedKillEvents.descendingIterator();
+    return oldestFirst.hasNext() ? oldestFirst.next() : null;
+  }
+
+  /** Removes all kill events from the store and forgets the evicted ones. */
+  public void clear() {
+    orderedKillEvents.clear();
+    uniqueKillEvents.clear();
+    evictedKeys.clear();
+    estimatedSize.set(0);
+  }
+
+  /**
+   * Returns the stored kill events as a stream ordered from the newest to the oldest one.
+   *
+   * @return the stored kill events; never null
+   */
+  public @NotNull Stream<KillEvent> stream() {
+    return orderedKillEvents.stream();
+  }
+
+  /**
+   * Computes the key an evicted kill event is remembered by. The timestamp fills the upper bits,
+   * which leaves room for timestamps until the 23rd century, and the lower 20 bits hold a hash of
+   * the kill event. Two distinct kill events only share a key if they occurred in the same
+   * millisecond and their hashes collide.
+   *
+   * @param killEvent the kill event; cannot be null
+   * @return the key
+   */
+  private static long evictedKey(@NotNull KillEvent killEvent) {
+    return (killEvent.epochMilli() << 20) | (killEvent.hashCode() & 0xFFFFF);
+  }
+
+  /**
+   * Returns an iterator over the stored kill events ordered from the newest to the oldest one.
+   *
+   * @return the iterator; never null
+   */
+  @Override
+  public @NotNull Iterator<KillEvent> iterator() {
+    return orderedKillEvents.iterator();
+  }
+}
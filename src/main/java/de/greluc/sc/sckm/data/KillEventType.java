@@ -0,0 +1,46 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import de.greluc.sc.sckm.Constants;
+import java.util.Optional;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The KillEventType class is the {@link LogEventType} of the {@code <Actor Death>} lines, which
+ * are parsed into {@link KillEvent} objects.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class KillEventType implements LogEventType<KillEvent> {
+
+  @Override
+  public @NotNull String marker() {
+    return Constants.ACTOR_DEATH_MARKER;
+  }
+
+  @Override
+  public @NotNull Optional<KillEvent> parse(@NotNull CharSequence line) {
+    return KillEventExtractor.parseKillEvent(line);
+  }
+}
@@ -0,0 +1,209 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import de.greluc.sc.sckm.Constants;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import lombok.Generated;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The KillLineParser class converts a single {@code <Actor Death>} line of the log file into a
+ * {@link KillEvent}.
+ *
+ * <p>The fields of a kill line always appear in the same order:
+ *
+ * <pre>
+ * &lt;timestamp&gt; ... CActor::Kill: 'killed player' ... in zone 'zone' killed by 'killer' ...
+ *     using 'weapon' [Class weapon class] with damage type 'damage type' ...
+ * </pre>
+ *
+ * <p>The parser therefore finds all fields in a single sweep from left to right: the search for
+ * each field starts where the previous field ended, so every character of the line is looked at
+ * about once. A field whose start token can't be found is left empty, and the search for the next
+ * field continues at the same position.
+ *
+ * <p>The timestamp is converted by the {@link LogTimestampParser} and stored in UTC.
+ *
+ * <p>The values are resolved through a shared {@link StringInterner}. Since weapons, zones, damage
+ * types and often the player names repeat from line to line, recurring values are returned as the
+ * already known instance and don't cause any allocation.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class KillLineParser {
+  private static final String KILLED_PLAYER_TOKEN = "CActor::Kill: '";
+  private static final String ZONE_TOKEN = "in zone '";
+  private static final String KILLER_TOKEN = "killed by '";
+  private static final String WEAPON_TOKEN = "using '";
+  private static final String WEAPON_CLASS_TOKEN = "[Class ";
+  private static final String DAMAGE_TYPE_TOKEN = "with damage type '";
+  private static final int INTERNER_CAPACITY = 4096;
+  private static final StringInterner INTERNER = new StringInterner(INTERNER_CAPACITY);
+
+  /** Used to exclude the unused constructor from code coverage evaluation. */
+  @Generated
+  private KillLineParser() {
+    throw new IllegalStateException(Constants.UTILITY_CLASS);
+  }
+
+  /**
+   * Parses a kill line.
+   *
+   * @param line the log line containing the kill event; cannot be null
+   * @return the kill event described by the line; never null
+   * @throws IllegalArgumentException if the line doesn't start with a timestamp in angle brackets
+   * @throws java.time.DateTimeException if the timestamp can't be parsed
+   */
+  public static @NotNull KillEvent parse(@NotNull CharSequence line) {
+    int timestampStart = indexOf(line, '<', 0) + 1;
+    int timestampEnd = timestampStart > 0 ? indexOf(line, '>', timestampStart) : -1;
+    if (timestampEnd < 0) {
+      throw new IllegalArgumentException("The line doesn't contain a timestamp");
+    }
+    long epochMilli = LogTimestampParser.parseEpochMilli(line, timestampStart, timestampEnd);
+
+    long killedPlayer = findField(line, timestampEnd, KILLED_PLAYER_TOKEN, '\'');
+    long zone = findField(line, next(killedPlayer, timestampEnd), ZONE_TOKEN, '\'');
+    long killer = findField(line, next(zone, timestampEnd), KILLER_TOKEN, '\'');
+    long weapon = findField(line, next(killer, timestampEnd), WEAPON_TOKEN, '\'');
+    long weaponClass = findField(line, next(weapon, timestampEnd), WEAPON_CLASS_TOKEN, ']');
+    long damageType = findField(line, next(weaponClass, timestampEnd), DAMAGE_TYPE_TOKEN, '\'');
+
+    return new KillEvent(
+        ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC),
+        valueOf(line, killedPlayer),
+        valueOf(line, killer),
+        valueOf(line, weapon),
+        valueOf(line, weaponClass),
+        valueOf(line, damageType),
+        valueOf(line, zone),
+        epochMilli);
+  }
+
+  /**
+   * Searches for a field starting at the given position. The span of the field's value is encoded
+   * as a single {@code long} holding the start index in the upper and the end index in the lower
+   * 32 bits, so no object is needed to return it.
+   *
+   * @param line the log line; cannot be null
+   * @param from the index at which the search starts
+   * @param startToken the token directly in front of the value; cannot be null
+   * @param endChar the character directly after the value
+   * @return the span of the value, or {@code -1} if the field wasn't found
+   */
+  private static long findField(
+      @NotNull CharSequence line, int from, @NotNull String startToken, char endChar) {
+    int tokenStart = indexOf(line, startToken, from);
+    if (tokenStart < 0) {
+      return -1;
+    }
+    int valueStart = tokenStart + startToken.length();
+    int valueEnd = indexOf(line, endChar, valueStart);
+    if (valueEnd < 0) {
+      return -1;
+    }
+    return ((long) valueStart << 32) | valueEnd;
+  }
+
+  /**
+   * Returns the index at which the search for the next field starts.
+   *
+   * @param span the span of the previous field, or {@code -1} if it wasn't found
+   * @param previous the index at which the search for the previous field started
+   * @return the index after the previous value, or {@code previous} if it wasn't found
+   */
+  private static int next(long span, int previous) {
+    return span < 0 ? previous : (int) span + 1;
+  }
+
+  /**
+   * Returns the interned value of a field.
+   *
+   * @param line the log line; cannot be null
+   * @param span the span of the value, or {@code -1} if the field wasn't found
+   * @return the value of the field, or an empty string if it wasn't found; never null
+   */
+  private static @NotNull String valueOf(@NotNull CharSequence line, long span) {
+    if (span < 0) {
+      return "";
+    }
+    return INTERNER.intern(line, (int) (span >>> 32), (int) span);
+  }
+
+  /**
+   * Returns the index of the first occurrence of a character at or after the given index.
+   *
+   * @param line the text to search in; cannot be null
+   * @param c the character to search for
+   * @param from the index at which the search starts
+   * @return the index of the character, or {@code -1} if it doesn't occur
+   */
+  private static int indexOf(@NotNull CharSequence line, char c, int from) {
+    for (int i = from; i < line.length(); i++) {
+      if (line.charAt(i) == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the first occurrence of a token at or after the given index.
+   *
+   * @param line the text to search in; cannot be null
+   * @param token the token to search for; cannot be null
+   * @param from the index at which the search starts
+   * @return the index of the first character of the token, or {@code -1} if it doesn't occur
+   */
+  private static int indexOf(@NotNull CharSequence line, @NotNull String token, int from) {
+    char first = token.charAt(0);
+    int last = line.length() - token.length();
+    for (int i = from; i <= last; i++) {
+      if (line.charAt(i) == first && regionMatches(line, i, token)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Checks whether the token occurs at the given index.
+   *
+   * @param line the text to check; cannot be null
+   * @param offset the index at which the token would start
+   * @param token the token to compare with; cannot be null
+   * @return {@code true} if the token occurs at the index, {@code false} otherwise
+   */
+  private static boolean regionMatches(
+      @NotNull CharSequence line, int offset, @NotNull String token) {
+    for (int j = 1; j < token.length(); j++) {
+      if (line.charAt(offset + j) != token.charAt(j)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,160 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import de.greluc.sc.sckm.scan.ByteMatcher;
+import de.greluc.sc.sckm.scan.BytePattern;
+import de.greluc.sc.sckm.scan.MultiBytePattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The LogEventRegistry class manages the {@link LogEventType} objects whose lines are extracted
+ * from the log file.
+ *
+ * <p>The markers of all registered event types are compiled into a single {@link MultiBytePattern}.
+ * It serves two purposes: as a {@link ByteMatcher}, it lets a reader skip every line that doesn't
+ * belong to any registered type before decoding it, and for a decoded line, it determines the
+ * event type in a single pass. Enabling an additional event type therefore doesn't add another
+ * search over every line. As long as only a single event type is registered, which is the case for
+ * the default registry, readers filter by a {@link BytePattern} instead, whose Horspool search
+ * skips ahead by the full length of the marker without the overhead of the automaton.
+ *
+ * <p>Registering an event type replaces the compiled pattern, so readers that were created before
+ * keep filtering for the previous set of types. Registration and lookups are thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public final class LogEventRegistry {
+  private static final LogEventRegistry DEFAULT = createDefault();
+
+  private volatile Snapshot snapshot = new Snapshot(List.of(), null, null);
+
+  /**
+   * Returns the registry that is used by the application. It contains the {@link KillEventType}
+   * and all event types registered afterward.
+   *
+   * @return the shared registry; never null
+   */
+  public static @NotNull LogEventRegistry getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Creates a new registry containing the {@link KillEventType}.
+   *
+   * @return the new registry; never null
+   */
+  public static @NotNull LogEventRegistry createDefault() {
+    LogEventRegistry registry = new LogEventRegistry();
+    registry.register(new KillEventType());
+    return registry;
+  }
+
+  /**
+   * Registers an event type. Event types registered first take precedence if a line contains the
+   * markers of several types at the same position.
+   *
+   * @param eventType the event type to register; cannot be null
+   */
+  public synchronized void register(@NotNull LogEventType<?> eventType) {
+    List<LogEventType<?>> eventTypes = new ArrayList<>(snapshot.eventTypes());
+    eventTypes.add(eventType);
+    MultiBytePattern markers =
+        MultiBytePattern.of(eventTypes.stream().map(LogEventType::marker).toList());
+    ByteMatcher matcher =
+        eventTypes.size() == 1 ? BytePattern.of(eventTypes.getFirst().marker()) : markers;
+    snapshot = new Snapshot(List.copyOf(eventTypes), markers, matcher);
+    log.debug("Registered the log event type with marker {}", eventType.marker());
+  }
+
+  /**
+   * Returns the registered event types in order of registration.
+   *
+   * @return an unmodifiable list of the event types; never null
+   */
+  public @NotNull List<LogEventType<?>> getEventTypes() {
+    return snapshot.eventTypes();
+  }
+
+  /**
+   * Returns a matcher that finds the markers of all currently registered event types, which can be
+   * used as line filter of a reader. If only a single event type is registered, the matcher
+   * searches for its marker alone.
+   *
+   * @return the matcher of the registered markers; never null
+   * @throws IllegalStateException if no event type is registered
+   */
+  public @NotNull ByteMatcher getMatcher() {
+    ByteMatcher matcher = snapshot.matcher();
+    if (matcher == null) {
+      throw new IllegalStateException("No log event type is registered");
+    }
+    return matcher;
+  }
+
+  /**
+   * Determines the event type of a log line by searching for the markers of all registered types
+   * in a single pass.
+   *
+   * @param line the log line to classify; cannot be null
+   * @return an Optional containing the event type whose marker occurs first in the line, or an
+   *     empty Optional if the line doesn't belong to any registered type
+   */
+  public @NotNull Optional<LogEventType<?>> classify(@NotNull CharSequence line) {
+    Snapshot current = snapshot;
+    if (current.markers() == null) {
+      return Optional.empty();
+    }
+    int index = current.markers().findPattern(line);
+    return index < 0 ? Optional.empty() : Optional.of(current.eventTypes().get(index));
+  }
+
+  /**
+   * Classifies a log line and parses it with the parser of its event type.
+   *
+   * @param line the log line to parse; cannot be null
+   * @return an Optional containing the parsed event, or an empty Optional if the line doesn't
+   *     belong to any registered type or can't be parsed
+   */
+  public @NotNull Optional<?> parse(@NotNull CharSequence line) {
+    return classify(line).flatMap(eventType -> eventType.parse(line));
+  }
+
+  /**
+   * The registered event types together with their compiled markers. All are replaced at once,
+   * so the index of a marker always refers to the matching event type.
+   *
+   * @param eventTypes the registered event types; cannot be null
+   * @param markers the compiled markers, or {@code null} if no event type is registered
+   * @param matcher the line filter of readers, or {@code null} if no event type is registered
+   */
+  private record Snapshot(
+      @NotNull List<LogEventType<?>> eventTypes,
+      MultiBytePattern markers,
+      ByteMatcher matcher) {}
+}
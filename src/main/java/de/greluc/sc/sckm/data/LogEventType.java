@@ -0,0 +1,60 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import java.util.Optional;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A LogEventType describes one kind of event that is written to the log file, e.g. the death of
+ * an actor. It consists of a marker that identifies the lines of the event and a parser that
+ * converts such a line into an event object.
+ *
+ * <p>Event types are registered with a {@link LogEventRegistry}, which finds the lines of all
+ * registered types in a single pass and hands each line to the parser of its type. The marker has
+ * to be a fixed text that occurs in every line of the event type and, ideally, in no other line.
+ *
+ * @param <E> the type of the event objects created by the parser
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public interface LogEventType<E> {
+
+  /**
+   * Returns the fixed text that identifies the lines of this event type, e.g. {@code <Actor
+   * Death>}.
+   *
+   * @return the marker of this event type; never null or empty
+   */
+  @NotNull String marker();
+
+  /**
+   * Parses a line containing the marker of this event type.
+   *
+   * <p>The passed {@link CharSequence} may be reused for the next line once this method returns,
+   * so the created event must not keep a reference to it.
+   *
+   * @param line the log line to parse; cannot be null
+   * @return an Optional containing the event, or an empty Optional if the line can't be parsed
+   */
+  @NotNull Optional<E> parse(@NotNull CharSequence line);
+}
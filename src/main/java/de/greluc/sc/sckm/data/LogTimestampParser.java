@@ -0,0 +1,150 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import de.greluc.sc.sckm.Constants;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import lombok.Generated;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The LogTimestampParser class converts the timestamps of the log file into epoch milliseconds.
+ *
+ * <p>Every line of the log file starts with a timestamp in the fixed layout {@code
+ * yyyy-MM-ddTHH:mm:ss.SSSZ}, e.g. {@code 2025-01-01T12:34:56.789Z}. For this layout, the digits
+ * are read directly at their known positions instead of going through a {@link DateTimeFormatter},
+ * which avoids the intermediate objects of a general parser. Since consecutive lines almost always
+ * belong to the same day, the start of the most recently parsed day is cached, so only the time of
+ * day has to be calculated in the common case.
+ *
+ * <p>Timestamps in any other layout are parsed with {@link DateTimeFormatter#ISO_DATE_TIME} as a
+ * fallback, so unusual but valid input is still accepted.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class LogTimestampParser {
+  private static final String FIXED_LAYOUT = "dddd-dd-ddTdd:dd:dd.dddZ";
+  private static final long MILLIS_PER_DAY = 86_400_000L;
+
+  private static volatile CachedDay cachedDay = new CachedDay(-1, 0);
+
+  /** Used to exclude the unused constructor from code coverage evaluation. */
+  @Generated
+  private LogTimestampParser() {
+    throw new IllegalStateException(Constants.UTILITY_CLASS);
+  }
+
+  /**
+   * Parses a timestamp of the log file.
+   *
+   * @param text the text containing the timestamp; cannot be null
+   * @param start the index of the first character of the timestamp
+   * @param end the index after the last character of the timestamp
+   * @return the number of milliseconds since the epoch
+   * @throws java.time.DateTimeException if the timestamp can't be parsed or doesn't exist
+   */
+  public static long parseEpochMilli(@NotNull CharSequence text, int start, int end) {
+    if (end - start == FIXED_LAYOUT.length() && hasFixedLayout(text, start)) {
+      int hour = digits(text, start + 11, 2);
+      int minute = digits(text, start + 14, 2);
+      int second = digits(text, start + 17, 2);
+      if (hour < 24 && minute < 60 && second < 60) {
+        int date =
+            digits(text, start, 4) * 10_000
+                + digits(text, start + 5, 2) * 100
+                + digits(text, start + 8, 2);
+        return startOfDay(date)
+            + ((hour * 60L + minute) * 60L + second) * 1000L
+            + digits(text, start + 20, 3);
+      }
+    }
+    return ZonedDateTime.parse(text.subSequence(start, end), DateTimeFormatter.ISO_DATE_TIME)
+        .toInstant()
+        .toEpochMilli();
+  }
+
+  /**
+   * Checks whether the timestamp matches the fixed layout, i.e. whether there is a digit at every
+   * position marked with {@code d} and the given separator at every other position.
+   *
+   * @param text the text containing the timestamp; cannot be null
+   * @param start the index of the first character of the timestamp
+   * @return {@code true} if the timestamp has the fixed layout, {@code false} otherwise
+   */
+  private static boolean hasFixedLayout(@NotNull CharSequence text, int start) {
+    for (int i = 0; i < FIXED_LAYOUT.length(); i++) {
+      char c = text.charAt(start + i);
+      char expected = FIXED_LAYOUT.charAt(i);
+      if (expected == 'd' ? c < '0' || c > '9' : c != expected) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads a fixed number of decimal digits.
+   *
+   * @param text the text containing the digits; cannot be null
+   * @param start the index of the first digit
+   * @param count the number of digits
+   * @return the value of the digits
+   */
+  private static int digits(@NotNull CharSequence text, int start, int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      value = value * 10 + text.charAt(i) - '0';
+    }
+    return value;
+  }
+
+  /**
+   * Returns the epoch milliseconds at the start of the given day, using the cached value if the day
+   * is the same as for the previous call.
+   *
+   * @param date the day encoded as {@code yyyyMMdd}
+   * @return the number of milliseconds since the epoch at midnight UTC of the day
+   * @throws java.time.DateTimeException if the day doesn't exist
+   */
+  private static long startOfDay(int date) {
+    CachedDay cached = cachedDay;
+    if (cached.date() == date) {
+      return cached.startMillis();
+    }
+    long startMillis =
+        LocalDate.of(date / 10_000, date / 100 % 100, date % 100).toEpochDay() * MILLIS_PER_DAY;
+    cachedDay = new CachedDay(date, startMillis);
+    return startMillis;
+  }
+
+  /**
+   * The most recently parsed day. Both values are held in one immutable object, so concurrent
+   * parsers never see a date combined with the start of a different day.
+   *
+   * @param date the day encoded as {@code yyyyMMdd}
+   * @param startMillis the number of milliseconds since the epoch at midnight UTC of the day
+   */
+  private record CachedDay(int date, long startMillis) {}
+}
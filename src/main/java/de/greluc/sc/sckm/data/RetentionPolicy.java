@@ -0,0 +1,130 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import java.time.Duration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Limits the kill events kept in memory during a session. Once a limit is exceeded, the oldest kill
+ * events are evicted, see {@link KillEventStore#evict(RetentionPolicy, long,
+ * java.util.function.Consumer)}.
+ *
+ * <ul>
+ *   <li><strong>maxCount</strong>: The maximum number of kill events kept in memory, or {@code 0}
+ *       for no limit.
+ *   <li><strong>maxAge</strong>: The maximum age of a kill event kept in memory, or {@link
+ *       Duration#ZERO} for no limit.
+ *   <li><strong>maxMemoryBytes</strong>: The maximum estimated memory in bytes taken by the kill
+ *       events kept in memory, or {@code 0} for no limit. The memory of a kill event is estimated
+ *       by {@link #estimateSize(KillEvent)}.
+ * </ul>
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public record RetentionPolicy(int maxCount, @NotNull Duration maxAge, long maxMemoryBytes) {
+  private static final RetentionPolicy UNLIMITED = new RetentionPolicy(0, Duration.ZERO, 0);
+  private static final int KILL_EVENT_SIZE = 48;
+  private static final int TIMESTAMP_SIZE = 96;
+  private static final int STRING_SIZE = 40;
+  private static final int INDEX_SIZE = 128;
+
+  /**
+   * Creates a new policy and validates its values.
+   *
+   * @throws IllegalArgumentException if a limit is negative
+   */
+  public RetentionPolicy {
+    if (maxCount < 0 || maxAge.isNegative() || maxMemoryBytes < 0) {
+      throw new IllegalArgumentException("Invalid retention policy");
+    }
+  }
+
+  /**
+   * Returns a policy that keeps all kill events in memory.
+   *
+   * @return the policy without limits; never null
+   */
+  public static @NotNull RetentionPolicy unlimited() {
+    return UNLIMITED;
+  }
+
+  /**
+   * Checks whether the policy doesn't limit the kill events kept in memory at all.
+   *
+   * @return {@code true} if no limit is set, {@code false} otherwise
+   */
+  public boolean isUnlimited() {
+    return maxCount == 0 && maxAge.isZero() && maxMemoryBytes == 0;
+  }
+
+  /**
+   * Checks whether the kill events kept in memory exceed any limit of the policy, so the oldest of
+   * them has to be evicted.
+   *
+   * @param count the number of kill events kept in memory
+   * @param estimatedBytes the estimated memory in bytes taken by the kill events
+   * @param oldestEpochMilli the timestamp of the oldest kill event in milliseconds since the epoch
+   * @param nowEpochMilli the current time in milliseconds since the epoch
+   * @return {@code true} if a limit is exceeded, {@code false} otherwise
+   */
+  public boolean isExceeded(
+      int count, long estimatedBytes, long oldestEpochMilli, long nowEpochMilli) {
+    return (maxCount > 0 && count > maxCount)
+        || (maxMemoryBytes > 0 && estimatedBytes > maxMemoryBytes)
+        || (!maxAge.isZero() && nowEpochMilli - oldestEpochMilli > maxAge.toMillis());
+  }
+
+  /**
+   * Checks whether a kill event is older than the maximum age of the policy, so it would be evicted
+   * as soon as it's kept in memory.
+   *
+   * @param epochMilli the timestamp of the kill event in milliseconds since the epoch
+   * @param nowEpochMilli the current time in milliseconds since the epoch
+   * @return {@code true} if the kill event is too old, {@code false} otherwise
+   */
+  public boolean isExpired(long epochMilli, long nowEpochMilli) {
+    return !maxAge.isZero() && nowEpochMilli - epochMilli > maxAge.toMillis();
+  }
+
+  /**
+   * Estimates the memory in bytes taken by a kill event kept in memory, including its timestamp,
+   * its strings and its share of the structures indexing it. Strings shared with other kill events
+   * are counted for each of them, so the estimate rather exceeds the actual memory.
+   *
+   * @param killEvent the kill event; cannot be null
+   * @return the estimated memory in bytes
+   */
+  public static long estimateSize(@NotNull KillEvent killEvent) {
+    return KILL_EVENT_SIZE
+        + TIMESTAMP_SIZE
+        + INDEX_SIZE
+        + 6L * STRING_SIZE
+        + killEvent.killedPlayer().length()
+        + killEvent.killer().length()
+        + killEvent.weapon().length()
+        + killEvent.weaponClass().length()
+        + killEvent.damageType().length()
+        + killEvent.zone().length();
+  }
+}
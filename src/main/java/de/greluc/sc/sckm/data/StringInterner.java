@@ -0,0 +1,110 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The StringInterner class maps recurring character sequences to a single, shared {@link String}
+ * instance, e.g. the names of weapons, zones and damage types that appear in many log lines.
+ *
+ * <p>A lookup takes a range of a {@link CharSequence} and compares it with the cached instance
+ * without creating a substring first, so a value that is already known doesn't cause any
+ * allocation. The cache is a direct-mapped table with a fixed number of slots: every value has
+ * exactly one slot determined by its hash, and a new value replaces the previous one in its slot.
+ * Memory usage is therefore bounded, while frequently seen values stay cached.
+ *
+ * <p>The table is read and written without locking. Since {@link String} is immutable and a
+ * reference is always written atomically, a concurrent lookup sees either the old or the new value
+ * of a slot. In the worst case, a value is created twice, which never affects the result.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class StringInterner {
+  private final String[] slots;
+  private final int mask;
+
+  /**
+   * Creates a new interner. The number of slots is rounded up to the next power of two.
+   *
+   * @param capacity the minimum number of slots of the table; must be positive
+   * @throws IllegalArgumentException if the capacity isn't positive
+   */
+  public StringInterner(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("The capacity must be positive");
+    }
+    int size = Integer.highestOneBit(Math.min(capacity, 1 << 30));
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.slots = new String[size];
+    this.mask = size - 1;
+  }
+
+  /**
+   * Returns the shared instance for the characters between {@code start} and {@code end}. If the
+   * value isn't cached yet, a new string is created and cached.
+   *
+   * @param text the text containing the value; cannot be null
+   * @param start the index of the first character of the value
+   * @param end the index after the last character of the value
+   * @return a string equal to the given range; never null
+   */
+  public @NotNull String intern(@NotNull CharSequence text, int start, int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + text.charAt(i);
+    }
+    int slot = (hash ^ (hash >>> 16)) & mask;
+    String cached = slots[slot];
+    if (cached != null && contentEquals(cached, text, start, end)) {
+      return cached;
+    }
+    String value = text.subSequence(start, end).toString();
+    slots[slot] = value;
+    return value;
+  }
+
+  /**
+   * Compares a cached string with a range of a character sequence.
+   *
+   * @param cached the cached string; cannot be null
+   * @param text the text containing the range; cannot be null
+   * @param start the index of the first character of the range
+   * @param end the index after the last character of the range
+   * @return {@code true} if both contain the same characters, {@code false} otherwise
+   */
+  private static boolean contentEquals(
+      @NotNull String cached, @NotNull CharSequence text, int start, int end) {
+    if (cached.length() != end - start) {
+      return false;
+    }
+    for (int i = 0; i < cached.length(); i++) {
+      if (cached.charAt(i) != text.charAt(start + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,75 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.feed;
+
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A kill event published to a {@link KillFeed}, serialized once and shared by all subscribers.
+ *
+ * <p>Each entry holds the kill event as a compact JSON object framed for every supported wire
+ * format, so sending it to a subscriber never serializes the kill event again, no matter how many
+ * subscribers there are:
+ *
+ * <ul>
+ *   <li><strong>id</strong>: The sequence number of the entry, which increases by one with every
+ *       published kill event.
+ *   <li><strong>ndjsonLine</strong>: The kill event as a JSON object followed by a line break.
+ *   <li><strong>sseFrame</strong>: The kill event as a Server-Sent Event of the type {@code kill}
+ *       carrying the id of the entry.
+ * </ul>
+ *
+ * <p>The arrays are shared and must not be modified.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class FeedEntry {
+  private static final byte[] SSE_DATA_PREFIX =
+      "event: kill\ndata: ".getBytes(StandardCharsets.UTF_8);
+
+  @Getter private final long id;
+  @Getter private final byte[] ndjsonLine;
+  @Getter private final byte[] sseFrame;
+
+  /**
+   * Frames a serialized kill event.
+   *
+   * @param id the sequence number of the entry
+   * @param json the kill event serialized as a JSON object without line breaks; cannot be null
+   */
+  FeedEntry(long id, byte @NotNull [] json) {
+    this.id = id;
+    this.ndjsonLine = new byte[json.length + 1];
+    System.arraycopy(json, 0, ndjsonLine, 0, json.length);
+    ndjsonLine[json.length] = '\n';
+    byte[] idLine = ("id: " + id + "\n").getBytes(StandardCharsets.UTF_8);
+    this.sseFrame = new byte[idLine.length + SSE_DATA_PREFIX.length + json.length + 2];
+    System.arraycopy(idLine, 0, sseFrame, 0, idLine.length);
+    System.arraycopy(SSE_DATA_PREFIX, 0, sseFrame, idLine.length, SSE_DATA_PREFIX.length);
+    System.arraycopy(json, 0, sseFrame, idLine.length + SSE_DATA_PREFIX.length, json.length);
+    sseFrame[sseFrame.length - 2] = '\n';
+    sseFrame[sseFrame.length - 1] = '\n';
+  }
+}
@@ -0,0 +1,305 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The KillFeed class broadcasts new kill events to any number of live consumers, e.g. the clients
+ * of a {@link KillFeedServer}.
+ *
+ * <p>Every published kill event is serialized exactly once into a {@link FeedEntry} with a
+ * sequence number and passed to the queues of all subscribers, so the cost of publishing doesn't
+ * depend on the number of subscribers and publishing never blocks. The most recent entries are
+ * kept in a replay buffer of a fixed capacity, from which new subscribers receive the entries they
+ * have missed since a given sequence number before the live entries, without gaps or duplicates.
+ *
+ * <p>A subscriber whose queue overflows because it doesn't keep up is closed, so a single slow
+ * consumer can't hold back the others or make the feed buffer without bounds. It can subscribe
+ * again with the sequence number of the last entry it has received.
+ *
+ * <p>The feed is thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class KillFeed {
+  private static final ObjectWriter JSON_WRITER =
+      new ObjectMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .writer();
+  private static final FeedEntry END_OF_FEED = new FeedEntry(-1, new byte[0]);
+
+  private final int replayCapacity;
+  private final ArrayDeque<FeedEntry> replay;
+  private final List<Subscription> subscriptions = new ArrayList<>();
+  private long lastId;
+  private boolean isClosed;
+
+  /**
+   * Creates a new feed.
+   *
+   * @param replayCapacity the number of the most recent entries kept for replay
+   * @throws IllegalArgumentException if the capacity isn't positive
+   */
+  public KillFeed(int replayCapacity) {
+    if (replayCapacity <= 0) {
+      throw new IllegalArgumentException("The replay capacity must be positive");
+    }
+    this.replayCapacity = replayCapacity;
+    this.replay = new ArrayDeque<>(replayCapacity);
+  }
+
+  /**
+   * Serializes a kill event, assigns it the next sequence number and passes it to all subscribers.
+   * Subscribers whose queue is full are closed. Kill events published after the feed has been
+   * closed are only kept for replay.
+   *
+   * @param killEvent the kill event to publish; cannot be null
+   * @return the published entry; never null
+   * @throws UncheckedIOException if the kill event can't be serialized
+   */
+  public @NotNull FeedEntry publish(@NotNull KillEvent killEvent) {
+    byte[] json;
+    try {
+      json = JSON_WRITER.writeValueAsBytes(killEvent);
+    } catch (JsonProcessingException jsonProcessingException) {
+      throw new UncheckedIOException(jsonProcessingException);
+    }
+    synchronized (this) {
+      FeedEntry entry = new FeedEntry(++lastId, json);
+      if (replay.size() == replayCapacity) {
+        replay.removeFirst();
+      }
+      replay.addLast(entry);
+      subscriptions.removeIf(subscription -> !subscription.offer(entry));
+      return entry;
+    }
+  }
+
+  /**
+   * Returns the entries of the replay buffer published after the entry with the given sequence
+   * number, oldest first.
+   *
+   * @param sinceId the sequence number of the last entry already known, or {@code 0} for all
+   *     entries of the replay buffer
+   * @return the entries; never null
+   */
+  public synchronized @NotNull List<FeedEntry> snapshot(long sinceId) {
+    List<FeedEntry> entries = new ArrayList<>();
+    for (FeedEntry entry : replay) {
+      if (entry.getId() > sinceId) {
+        entries.add(entry);
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Subscribes to the feed. The subscription first receives the entries of the replay buffer
+   * published after the entry with the given sequence number and then every newly published entry.
+   *
+   * @param sinceId the sequence number of the last entry already known, {@code 0} for all entries
+   *     of the replay buffer or {@link #getLastId()} for only the new entries
+   * @param queueCapacity the maximum number of new entries waiting for the subscriber before its
+   *     subscription is closed
+   * @return the new subscription; never null
+   * @throws IllegalStateException if the feed has been closed
+   */
+  public synchronized @NotNull Subscription subscribe(long sinceId, int queueCapacity) {
+    if (isClosed) {
+      throw new IllegalStateException("The kill feed has been closed");
+    }
+    List<FeedEntry> missed = snapshot(sinceId);
+    Subscription subscription = new Subscription(missed.size() + queueCapacity);
+    missed.forEach(subscription::offer);
+    subscriptions.add(subscription);
+    return subscription;
+  }
+
+  /**
+   * Returns the sequence number of the most recently published entry.
+   *
+   * @return the sequence number, or {@code 0} if nothing has been published yet
+   */
+  public synchronized long getLastId() {
+    return lastId;
+  }
+
+  /** Closes all subscriptions and rejects new ones. */
+  public synchronized void close() {
+    isClosed = true;
+    subscriptions.forEach(Subscription::end);
+    subscriptions.clear();
+  }
+
+  /**
+   * Removes a subscription from the subscribers.
+   *
+   * @param subscription the subscription to remove; cannot be null
+   */
+  private synchronized void unsubscribe(@NotNull Subscription subscription) {
+    subscriptions.remove(subscription);
+  }
+
+  /**
+   * A subscription to the feed, which queues the entries for a single consumer.
+   *
+   * <p>The subscription is meant to be consumed by a single thread and closed by it once the
+   * consumer has gone away.
+   */
+  public final class Subscription implements AutoCloseable {
+    private final int capacity;
+    private final BlockingQueue<FeedEntry> queue;
+    private Runnable endAction;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a new subscription.
+     *
+     * @param capacity the maximum number of queued entries
+     */
+    private Subscription(int capacity) {
+      this.capacity = Math.max(capacity, 1);
+      this.queue = new ArrayBlockingQueue<>(this.capacity + 1);
+    }
+
+    /**
+     * Waits up to the given time for the next entry.
+     *
+     * @param timeout the maximum time to wait; cannot be null
+     * @return the next entry, or null if the time has elapsed or the subscription has been closed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public FeedEntry poll(@NotNull Duration timeout) throws InterruptedException {
+      FeedEntry entry = queue.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+      if (entry == END_OF_FEED) {
+        queue.offer(END_OF_FEED);
+        return null;
+      }
+      return entry;
+    }
+
+    /**
+     * Moves all queued entries to a list without waiting.
+     *
+     * @param entries the list to add the entries to; cannot be null
+     */
+    public void drainTo(@NotNull List<FeedEntry> entries) {
+      queue.drainTo(entries);
+      if (entries.removeIf(entry -> entry == END_OF_FEED)) {
+        queue.offer(END_OF_FEED);
+      }
+    }
+
+    /**
+     * Checks whether the subscription has been closed, either by its consumer, because its queue
+     * overflowed or because the feed has been closed.
+     *
+     * @return {@code true} if no more entries will be received, {@code false} otherwise
+     */
+    public boolean isClosed() {
+      return isClosed;
+    }
+
+    /**
+     * Sets an action that is run once the subscription is closed, e.g. to release a connection
+     * whose consumer is blocked while writing and wouldn't notice the closed subscription. The
+     * action is run immediately if the subscription has already been closed. It may be run while
+     * the feed is publishing, so it must neither block nor call back into the feed.
+     *
+     * @param action the action to run; cannot be null
+     */
+    public void onEnd(@NotNull Runnable action) {
+      synchronized (this) {
+        if (!isClosed) {
+          endAction = action;
+          return;
+        }
+      }
+      action.run();
+    }
+
+    /** Closes the subscription and discards its queued entries. */
+    @Override
+    public void close() {
+      end();
+      unsubscribe(this);
+    }
+
+    /**
+     * Queues an entry for the consumer. The subscription is closed if its queue is full.
+     *
+     * @param entry the entry; cannot be null
+     * @return {@code true} if the entry was queued, {@code false} if the subscription is closed
+     */
+    private boolean offer(@NotNull FeedEntry entry) {
+      if (isClosed) {
+        return false;
+      }
+      if (queue.size() >= capacity || !queue.offer(entry)) {
+        log.warn("Closing a kill feed subscription that doesn't keep up");
+        end();
+        return false;
+      }
+      return true;
+    }
+
+    /**
+     * Marks the subscription as closed, wakes up its consumer and runs the action set by {@link
+     * #onEnd(Runnable)}. Calling this method again has no effect.
+     */
+    private void end() {
+      Runnable action;
+      synchronized (this) {
+        if (isClosed) {
+          return;
+        }
+        isClosed = true;
+        queue.clear();
+        queue.offer(END_OF_FEED);
+        action = endAction;
+        endAction = null;
+      }
+      if (action != null) {
+        action.run();
+      }
+    }
+  }
+}
@@ -0,0 +1,285 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.feed;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The KillFeedServer class serves a {@link KillFeed} over HTTP on the loopback interface, so local
+ * tools like stream overlays or bots can consume new kill events as they occur.
+ *
+ * <p>The server provides the following endpoints, each accepting the query parameter {@code
+ * since} with the sequence number of the last entry the client already knows:
+ *
+ * <ul>
+ *   <li><strong>/events</strong>: Streams the kill events as Server-Sent Events. A reconnecting
+ *       client passes the id of the last received event in the {@code Last-Event-ID} header, which
+ *       browsers do automatically, and receives the missed kill events first.
+ *   <li><strong>/events.ndjson</strong>: Streams the kill events as newline-delimited JSON.
+ *   <li><strong>/snapshot</strong>: Returns the kill events of the replay buffer as
+ *       newline-delimited JSON, by default all of them, and closes the response.
+ * </ul>
+ *
+ * <p>Without {@code since}, the streams only contain kill events published after the client has
+ * connected. Every client is served by a virtual thread, which waits on its subscription and
+ * writes and flushes new entries as soon as they arrive. The entries are written in the framing
+ * prepared by the feed, so the kill events are never serialized per client. Idle streams receive a
+ * heartbeat every 15 seconds, so disconnected clients are detected.
+ *
+ * <p>The server only answers requests whose {@code Host} header names the loopback interface, i.e.
+ * {@code localhost} or a loopback address, and rejects all others with status 403. This keeps a
+ * website that rebinds its own domain name to the loopback address from reading the kill feed
+ * through the browser of the user. For the same reason, no CORS header is sent, so scripts of
+ * other origins can't read the responses either.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class KillFeedServer implements AutoCloseable {
+  private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+  private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+  private static final int SUBSCRIBER_QUEUE_CAPACITY = 1024;
+  private static final byte[] SSE_HEARTBEAT = ": keep-alive\n\n".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] NDJSON_HEARTBEAT = {'\n'};
+  private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+  private static final Pattern LOOPBACK_HOST =
+      Pattern.compile("(localhost|127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|\\[::1])(:\\d{1,5})?");
+
+  private final KillFeed feed;
+  private final HttpServer server;
+  private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+  private final Set<KillFeed.Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+  private volatile boolean isClosed;
+
+  /**
+   * Creates a new server for a feed.
+   *
+   * @param feed the feed to serve; cannot be null
+   * @param server the unstarted HTTP server; cannot be null
+   */
+  private KillFeedServer(@NotNull KillFeed feed, @NotNull HttpServer server) {
+    this.feed = feed;
+    this.server = server;
+  }
+
+  /**
+   * Starts a server for a feed on the loopback interface.
+   *
+   * <p>Unless configured otherwise, Nagle's algorithm is disabled for the connections of all HTTP
+   * servers of the JVM, so the small writes of single kill events aren't delayed.
+   *
+   * @param feed the feed to serve; cannot be null
+   * @param port the port to listen on, or {@code 0} for any free port
+   * @return the started server; never null
+   * @throws IOException if the port can't be bound
+   */
+  public static @NotNull KillFeedServer start(@NotNull KillFeed feed, int port)
+      throws IOException {
+    if (System.getProperty(NODELAY_PROPERTY) == null) {
+      System.setProperty(NODELAY_PROPERTY, "true");
+    }
+    HttpServer server =
+        HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    KillFeedServer feedServer = new KillFeedServer(feed, server);
+    server.createContext("/", feedServer::handle);
+    server.setExecutor(feedServer.executorService);
+    server.start();
+    log.info("Serving the kill feed on http://{}", server.getAddress());
+    return feedServer;
+  }
+
+  /**
+   * Returns the port the server listens on.
+   *
+   * @return the port
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /** Ends all streams and stops the server. The feed itself stays open. */
+  @Override
+  public void close() {
+    isClosed = true;
+    subscriptions.forEach(KillFeed.Subscription::close);
+    server.stop(0);
+    executorService.shutdown();
+    log.info("Stopped serving the kill feed");
+  }
+
+  /**
+   * Dispatches a request to its endpoint.
+   *
+   * @param exchange the exchange of the request; cannot be null
+   * @throws IOException if the response can't be sent
+   */
+  private void handle(@NotNull HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!isLoopbackHost(exchange.getRequestHeaders().getFirst("Host"))) {
+        exchange.sendResponseHeaders(403, -1);
+        return;
+      }
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+      String path = exchange.getRequestURI().getPath();
+      long sinceId;
+      try {
+        sinceId = getSinceId(exchange, "/snapshot".equals(path) ? 0 : feed.getLastId());
+      } catch (NumberFormatException numberFormatException) {
+        exchange.sendResponseHeaders(400, -1);
+        return;
+      }
+      switch (path) {
+        case "/events" -> stream(exchange, sinceId, true);
+        case "/events.ndjson" -> stream(exchange, sinceId, false);
+        case "/snapshot" -> sendSnapshot(exchange, sinceId);
+        default -> exchange.sendResponseHeaders(404, -1);
+      }
+    }
+  }
+
+  /**
+   * Checks whether the {@code Host} header of a request names the loopback interface. The name
+   * isn't resolved, so a domain name resolving to the loopback address is rejected.
+   *
+   * @param host the value of the {@code Host} header, or {@code null} if it's missing
+   * @return {@code true} if the host is {@code localhost} or a loopback address, {@code false}
+   *     otherwise
+   */
+  static boolean isLoopbackHost(String host) {
+    return host != null && LOOPBACK_HOST.matcher(host.strip().toLowerCase(Locale.ROOT)).matches();
+  }
+
+  /**
+   * Determines the sequence number of the last entry the client already knows from the query
+   * parameter {@code since} or else the {@code Last-Event-ID} header.
+   *
+   * @param exchange the exchange of the request; cannot be null
+   * @param defaultId the sequence number used if the client didn't pass one
+   * @return the sequence number
+   * @throws NumberFormatException if the passed sequence number isn't a number
+   */
+  private static long getSinceId(@NotNull HttpExchange exchange, long defaultId) {
+    String query = exchange.getRequestURI().getRawQuery();
+    if (query != null) {
+      for (String parameter : query.split("&")) {
+        if (parameter.startsWith("since=")) {
+          return Long.parseLong(parameter.substring("since=".length()));
+        }
+      }
+    }
+    String lastEventId = exchange.getRequestHeaders().getFirst("Last-Event-ID");
+    return lastEventId == null ? defaultId : Long.parseLong(lastEventId.strip());
+  }
+
+  /**
+   * Streams the entries of a new subscription to the client until the client disconnects, the
+   * subscription is closed or the server is stopped.
+   *
+   * @param exchange the exchange of the request; cannot be null
+   * @param sinceId the sequence number of the last entry the client already knows
+   * @param isSse {@code true} to send Server-Sent Events, {@code false} to send NDJSON
+   * @throws IOException if the response headers can't be sent
+   */
+  private void stream(@NotNull HttpExchange exchange, long sinceId, boolean isSse)
+      throws IOException {
+    KillFeed.Subscription subscription;
+    try {
+      subscription = feed.subscribe(sinceId, SUBSCRIBER_QUEUE_CAPACITY);
+    } catch (IllegalStateException illegalStateException) {
+      exchange.sendResponseHeaders(503, -1);
+      return;
+    }
+    subscriptions.add(subscription);
+    if (isClosed) {
+      subscription.close();
+    }
+    exchange
+        .getResponseHeaders()
+        .set("Content-Type", isSse ? "text/event-stream; charset=utf-8" : NDJSON_CONTENT_TYPE);
+    exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+    List<FeedEntry> entries = new ArrayList<>();
+    try (subscription) {
+      exchange.sendResponseHeaders(200, 0);
+      OutputStream body = exchange.getResponseBody();
+      body.flush();
+      while (!subscription.isClosed()) {
+        FeedEntry entry = subscription.poll(HEARTBEAT_INTERVAL);
+        if (entry == null) {
+          body.write(isSse ? SSE_HEARTBEAT : NDJSON_HEARTBEAT);
+        } else {
+          entries.add(entry);
+          subscription.drainTo(entries);
+          for (FeedEntry next : entries) {
+            body.write(isSse ? next.getSseFrame() : next.getNdjsonLine());
+          }
+          entries.clear();
+        }
+        body.flush();
+      }
+    } catch (IOException ioException) {
+      log.debug("A client of the kill feed disconnected");
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    } finally {
+      subscriptions.remove(subscription);
+    }
+  }
+
+  /**
+   * Sends the entries of the replay buffer as NDJSON.
+   *
+   * @param exchange the exchange of the request; cannot be null
+   * @param sinceId the sequence number of the last entry the client already knows
+   * @throws IOException if the response can't be sent
+   */
+  private void sendSnapshot(@NotNull HttpExchange exchange, long sinceId) throws IOException {
+    ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+    for (FeedEntry entry : feed.snapshot(sinceId)) {
+      snapshot.write(entry.getNdjsonLine());
+    }
+    exchange.getResponseHeaders().set("Content-Type", NDJSON_CONTENT_TYPE);
+    exchange.sendResponseHeaders(200, snapshot.size() == 0 ? -1 : snapshot.size());
+    snapshot.writeTo(exchange.getResponseBody());
+  }
+}
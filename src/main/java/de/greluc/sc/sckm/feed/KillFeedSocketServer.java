@@ -0,0 +1,270 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.feed;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The KillFeedSocketServer class pushes a {@link KillFeed} to local tools connected to a Unix
+ * domain socket, which avoids the overhead of HTTP for co-located consumers like stream deck
+ * plugins or scripts.
+ *
+ * <p>Every connected client receives the kill events published after it has connected, each as a
+ * compact JSON object on a line of its own, the same framing as {@link
+ * de.greluc.sc.sckm.store.OutputFormat#NDJSON}. The lines are taken from the entries prepared by
+ * the feed, so the kill events are never serialized per client. Clients don't send anything; a
+ * client disconnects by closing its end of the socket. A second virtual thread per client waits
+ * for the end of its stream, so a client disconnecting while no kill events are published is
+ * noticed right away and its subscription is closed.
+ *
+ * <p>Every client is served by a virtual thread, which waits on its subscription and writes all
+ * available entries with a single gathering write. A client that doesn't read fast enough blocks
+ * only its own thread. Once its queue overflows, its subscription is closed, its queued entries
+ * are discarded and its socket is closed, which ends the pending write of its thread, so it never
+ * holds back the feed or the scanner and doesn't keep its thread blocked.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class KillFeedSocketServer implements AutoCloseable {
+  private static final int SUBSCRIBER_QUEUE_CAPACITY = 1024;
+  private static final Duration IDLE_TIMEOUT = Duration.ofSeconds(15);
+
+  @Getter private final Path socketFile;
+  private final KillFeed feed;
+  private final ServerSocketChannel serverChannel;
+  private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+  private final Thread thread;
+  private volatile boolean isClosed;
+
+  /**
+   * Creates a new server accepting clients on a bound channel.
+   *
+   * @param feed the feed to push; cannot be null
+   * @param socketFile the file of the socket; cannot be null
+   * @param serverChannel the bound server channel; cannot be null
+   */
+  private KillFeedSocketServer(
+      @NotNull KillFeed feed,
+      @NotNull Path socketFile,
+      @NotNull ServerSocketChannel serverChannel) {
+    this.feed = feed;
+    this.socketFile = socketFile;
+    this.serverChannel = serverChannel;
+    this.thread = Thread.ofVirtual().name("sckm-feed-socket").start(this::accept);
+  }
+
+  /**
+   * Starts a server for a feed on a Unix domain socket. A stale socket file left behind by a
+   * previous session is replaced.
+   *
+   * @param feed the feed to push; cannot be null
+   * @param socketFile the file of the socket; cannot be null
+   * @return the started server; never null
+   * @throws IOException if the socket can't be bound
+   */
+  public static @NotNull KillFeedSocketServer start(
+      @NotNull KillFeed feed, @NotNull Path socketFile) throws IOException {
+    Files.deleteIfExists(socketFile);
+    ServerSocketChannel serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    try {
+      serverChannel.bind(UnixDomainSocketAddress.of(socketFile));
+    } catch (IOException ioException) {
+      serverChannel.close();
+      throw ioException;
+    }
+    log.info("Pushing the kill feed to the socket {}", socketFile.toAbsolutePath());
+    return new KillFeedSocketServer(feed, socketFile, serverChannel);
+  }
+
+  /**
+   * Returns the number of currently connected clients.
+   *
+   * @return the number of clients
+   */
+  public int getClientCount() {
+    return clients.size();
+  }
+
+  /**
+   * Disconnects all clients, stops accepting new ones and deletes the socket file. The feed itself
+   * stays open.
+   *
+   * @throws IOException if the socket can't be closed or its file can't be deleted
+   */
+  @Override
+  public void close() throws IOException {
+    isClosed = true;
+    try {
+      serverChannel.close();
+      clients.forEach(Client::close);
+      clients.clear();
+      thread.join();
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    } finally {
+      Files.deleteIfExists(socketFile);
+    }
+    log.info("Stopped pushing the kill feed");
+  }
+
+  /** Accepts new clients until the server is closed. */
+  private void accept() {
+    while (!isClosed) {
+      try {
+        SocketChannel channel = serverChannel.accept();
+        Thread.ofVirtual().name("sckm-feed-socket-client").start(() -> serve(channel));
+      } catch (ClosedChannelException closedChannelException) {
+        return;
+      } catch (IOException ioException) {
+        log.error("Failed to accept a client of the kill feed socket");
+        log.trace("Stacktrace:", ioException);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Pushes the entries of a new subscription to a client until the client disconnects, the
+   * subscription is closed or the server is closed.
+   *
+   * @param channel the channel of the client; cannot be null
+   */
+  private void serve(@NotNull SocketChannel channel) {
+    KillFeed.Subscription subscription;
+    try {
+      subscription = feed.subscribe(feed.getLastId(), SUBSCRIBER_QUEUE_CAPACITY);
+    } catch (IllegalStateException illegalStateException) {
+      new Client(channel, null).close();
+      return;
+    }
+    Client client = new Client(channel, subscription);
+    clients.add(client);
+    subscription.onEnd(client::closeChannel);
+    if (isClosed) {
+      client.close();
+    }
+    log.debug("A client connected to the kill feed socket");
+    Thread.ofVirtual().name("sckm-feed-socket-reader").start(() -> awaitDisconnect(client));
+    List<FeedEntry> entries = new ArrayList<>();
+    try {
+      while (!subscription.isClosed()) {
+        FeedEntry entry = subscription.poll(IDLE_TIMEOUT);
+        if (entry == null) {
+          continue;
+        }
+        entries.add(entry);
+        subscription.drainTo(entries);
+        write(channel, entries);
+        entries.clear();
+      }
+    } catch (IOException ioException) {
+      log.debug("A client of the kill feed socket disconnected");
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    } finally {
+      clients.remove(client);
+      client.close();
+    }
+  }
+
+  /**
+   * Reads from a client until the end of its stream is reached and closes the client afterward,
+   * which ends the subscription served for it. Clients don't send anything, so the read only
+   * returns once the client has disconnected or its channel has been closed.
+   *
+   * @param client the client; cannot be null
+   */
+  private static void awaitDisconnect(@NotNull Client client) {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    try {
+      while (client.channel().read(buffer) >= 0) {
+        buffer.clear();
+      }
+      log.debug("A client of the kill feed socket disconnected");
+    } catch (IOException ioException) {
+      log.trace("Stopped waiting for a client of the kill feed socket to disconnect", ioException);
+    } finally {
+      client.close();
+    }
+  }
+
+  /**
+   * Writes the lines of entries to a client with gathering writes.
+   *
+   * @param channel the channel of the client; cannot be null
+   * @param entries the entries to write; cannot be null
+   * @throws IOException if the client has disconnected
+   */
+  private static void write(@NotNull SocketChannel channel, @NotNull List<FeedEntry> entries)
+      throws IOException {
+    ByteBuffer[] buffers = new ByteBuffer[entries.size()];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = ByteBuffer.wrap(entries.get(i).getNdjsonLine());
+    }
+    while (buffers[buffers.length - 1].hasRemaining()) {
+      channel.write(buffers);
+    }
+  }
+
+  /**
+   * A connected client and its subscription.
+   *
+   * @param channel the channel of the client
+   * @param subscription the subscription of the client, or null if the feed has been closed
+   */
+  private record Client(SocketChannel channel, KillFeed.Subscription subscription) {
+    /** Closes the subscription and the channel, which ends a pending write. */
+    private void close() {
+      if (subscription != null) {
+        subscription.close();
+      }
+      closeChannel();
+    }
+
+    /** Closes the channel, which ends a pending write. */
+    private void closeChannel() {
+      try {
+        channel.close();
+      } catch (IOException ioException) {
+        log.debug("Couldn't close a client of the kill feed socket", ioException);
+      }
+    }
+  }
+}
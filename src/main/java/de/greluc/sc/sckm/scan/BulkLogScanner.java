@@ -0,0 +1,282 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import de.greluc.sc.sckm.data.KillEventExtractor;
+import de.greluc.sc.sckm.data.LogEventRegistry;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The BulkLogScanner class extracts all kill events from large, completed log files such as the
+ * archived files in the {@code logbackups} directory of Star Citizen.
+ *
+ * <p>The file is memory-mapped as a single {@link MemorySegment} and split into chunks whose
+ * boundaries are aligned to line breaks. The chunks are parsed in parallel on a {@link
+ * ForkJoinPool}, and the resulting {@link KillEvent} objects are merged in chronological order.
+ * Since the file is neither copied into the heap nor decoded as a whole, the throughput scales with
+ * the number of available cores.
+ *
+ * <p>Each chunk is searched for the markers of all event types of the default {@link
+ * LogEventRegistry} directly in the mapped memory. Only the lines containing a match are copied,
+ * decoded and parsed by the registry, so the vast majority of lines never turn into strings.
+ *
+ * <p>In contrast to the {@link KillEventExtractor}, the scanner neither filters the kill events by
+ * the monitored player nor writes them to a file. It is meant for files that no longer change;
+ * growing files are handled by the {@link LogTailReader}.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class BulkLogScanner {
+  private static final long DEFAULT_MIN_CHUNK_SIZE = 1024 * 1024;
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private final ForkJoinPool pool;
+  private final long minChunkSize;
+
+  /** Creates a new scanner that parses the chunks on the common {@link ForkJoinPool}. */
+  public BulkLogScanner() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a new scanner that parses the chunks on the given {@link ForkJoinPool}.
+   *
+   * @param pool the pool used to parse the chunks in parallel; cannot be null
+   */
+  public BulkLogScanner(@NotNull ForkJoinPool pool) {
+    this(pool, DEFAULT_MIN_CHUNK_SIZE);
+  }
+
+  /**
+   * Creates a new scanner with a custom lower bound for the chunk size.
+   *
+   * @param pool the pool used to parse the chunks in parallel; cannot be null
+   * @param minChunkSize the minimum number of bytes parsed by a single task
+   */
+  BulkLogScanner(@NotNull ForkJoinPool pool, long minChunkSize) {
+    this.pool = pool;
+    this.minChunkSize = Math.max(1, minChunkSize);
+  }
+
+  /**
+   * Extracts all kill events from the given log file.
+   *
+   * @param path the path of the log file to scan; cannot be null
+   * @return a mutable list of all kill events in the file in chronological order; never null
+   * @throws IOException if the file can't be opened or mapped
+   */
+  public @NotNull List<KillEvent> scan(@NotNull Path path) throws IOException {
+    long startTime = System.nanoTime();
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        Arena arena = Arena.ofShared()) {
+      long size = channel.size();
+      if (size == 0) {
+        return new ArrayList<>();
+      }
+      MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+      long chunkSize =
+          Math.max(minChunkSize, size / ((long) pool.getParallelism() * CHUNKS_PER_THREAD));
+      List<KillEvent> killEvents =
+          pool.invoke(
+              new ChunkTask(segment, 0, size, chunkSize, LogEventRegistry.getDefault()));
+      killEvents.sort(Comparator.comparingLong(KillEvent::epochMilli));
+      log.debug(
+          "Scanned {} bytes of {} in {} ms and found {} kill events",
+          size,
+          path,
+          (System.nanoTime() - startTime) / 1_000_000,
+          killEvents.size());
+      return killEvents;
+    }
+  }
+
+  /**
+   * Returns the index after the next line break at or after the given index, or {@code end} if
+   * there is no further line break in the range.
+   *
+   * @param segment the mapped log file; cannot be null
+   * @param index the index to start searching from
+   * @param end the index after the last byte of the range
+   * @return the index of the first byte of the next line
+   */
+  private static long nextLineStart(@NotNull MemorySegment segment, long index, long end) {
+    for (long i = index; i < end; i++) {
+      if (segment.get(ValueLayout.JAVA_BYTE, i) == '\n') {
+        return i + 1;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Parses a task for a range of the mapped log file. Ranges larger than the chunk size are split
+   * at a line break close to their middle and processed recursively.
+   */
+  private static final class ChunkTask extends RecursiveTask<List<KillEvent>> {
+    private final transient MemorySegment segment;
+    private final long start;
+    private final long end;
+    private final long chunkSize;
+    private final transient LogEventRegistry registry;
+    private final transient ByteMatcher markers;
+
+    /**
+     * Creates a new task for the given range. The range must start at the beginning of a line and
+     * end after a line break or at the end of the file.
+     *
+     * @param segment the mapped log file; cannot be null
+     * @param start the index of the first byte of the range
+     * @param end the index after the last byte of the range
+     * @param chunkSize the maximum size of a range that is parsed without splitting it
+     * @param registry the registry classifying and parsing the lines; cannot be null
+     */
+    private ChunkTask(
+        @NotNull MemorySegment segment,
+        long start,
+        long end,
+        long chunkSize,
+        @NotNull LogEventRegistry registry) {
+      this(segment, start, end, chunkSize, registry, registry.getMatcher());
+    }
+
+    /**
+     * Creates a new task for the given range that searches for already compiled markers.
+     *
+     * @param segment the mapped log file; cannot be null
+     * @param start the index of the first byte of the range
+     * @param end the index after the last byte of the range
+     * @param chunkSize the maximum size of a range that is parsed without splitting it
+     * @param registry the registry classifying and parsing the lines; cannot be null
+     * @param markers the markers of the event types of the registry; cannot be null
+     */
+    private ChunkTask(
+        @NotNull MemorySegment segment,
+        long start,
+        long end,
+        long chunkSize,
+        @NotNull LogEventRegistry registry,
+        @NotNull ByteMatcher markers) {
+      this.segment = segment;
+      this.start = start;
+      this.end = end;
+      this.chunkSize = chunkSize;
+      this.registry = registry;
+      this.markers = markers;
+    }
+
+    @Override
+    protected List<KillEvent> compute() {
+      if (end - start > chunkSize) {
+        long split = nextLineStart(segment, start + (end - start) / 2, end);
+        if (split < end) {
+          ChunkTask left = new ChunkTask(segment, start, split, chunkSize, registry, markers);
+          ChunkTask right = new ChunkTask(segment, split, end, chunkSize, registry, markers);
+          left.fork();
+          List<KillEvent> rightEvents = right.compute();
+          List<KillEvent> killEvents = left.join();
+          killEvents.addAll(rightEvents);
+          return killEvents;
+        }
+      }
+      return parseRange();
+    }
+
+    /**
+     * Parses all lines of the range that contain the marker of a registered event type and keeps
+     * the kill events. The range is searched for the markers first, and only the line around a
+     * match is copied and decoded.
+     *
+     * @return a mutable list of the kill events in the range in file order; never null
+     */
+    private @NotNull List<KillEvent> parseRange() {
+      List<KillEvent> killEvents = new ArrayList<>();
+      byte[] lineBuffer = new byte[1024];
+      long position = start;
+      long match;
+      while ((match = markers.indexOf(segment, position, end)) >= 0) {
+        long lineStart = previousLineStart(segment, position, match);
+        long lineEnd = nextLineStart(segment, match + 1, end);
+        int length = (int) Math.min(Integer.MAX_VALUE - 8, lineEnd - lineStart);
+        if (length > lineBuffer.length) {
+          lineBuffer = new byte[Math.max(length, lineBuffer.length * 2)];
+        }
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, lineStart, lineBuffer, 0, length);
+        Optional<?> event = registry.parse(decodeLine(lineBuffer, length));
+        if (event.isPresent() && event.get() instanceof KillEvent killEvent) {
+          killEvents.add(killEvent);
+        }
+        position = lineEnd;
+      }
+      return killEvents;
+    }
+
+    /**
+     * Returns the index of the first byte of the line containing the given index, but not less
+     * than the given lower bound.
+     *
+     * @param segment the mapped log file; cannot be null
+     * @param from the lower bound, which is the start of a line
+     * @param index the index within the line
+     * @return the index of the first byte of the line
+     */
+    private static long previousLineStart(@NotNull MemorySegment segment, long from, long index) {
+      for (long i = index - 1; i >= from; i--) {
+        if (segment.get(ValueLayout.JAVA_BYTE, i) == '\n') {
+          return i + 1;
+        }
+      }
+      return from;
+    }
+
+    /**
+     * Decodes a line as UTF-8 without its trailing line break.
+     *
+     * @param buffer the buffer containing the line; cannot be null
+     * @param length the number of valid bytes in the buffer
+     * @return the decoded line; never null
+     */
+    private static @NotNull String decodeLine(byte @NotNull [] buffer, int length) {
+      while (length > 0 && (buffer[length - 1] == '\n' || buffer[length - 1] == '\r')) {
+        length--;
+      }
+      return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+  }
+}
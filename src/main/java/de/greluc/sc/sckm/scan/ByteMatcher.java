@@ -0,0 +1,82 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A ByteMatcher searches raw, undecoded data for one or more byte sequences. It is used to find the
+ * interesting lines of a log file before they are decoded, see {@link LogTailReader}.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public interface ByteMatcher {
+
+  /**
+   * Searches for the first match in the given range of a byte array.
+   *
+   * @param bytes the bytes to search in; cannot be null
+   * @param from the index of the first byte of the range
+   * @param to the index after the last byte of the range
+   * @return the index of the first byte of the first match, or {@code -1} if there is no match
+   *     completely within the range
+   */
+  int indexOf(byte @NotNull [] bytes, int from, int to);
+
+  /**
+   * Searches for the first match in the given range of a byte buffer. The position and limit of
+   * the buffer aren't changed.
+   *
+   * @param buffer the buffer to search in, which may be a direct buffer; cannot be null
+   * @param from the index of the first byte of the range
+   * @param to the index after the last byte of the range, which must not exceed the limit
+   * @return the index of the first byte of the first match, or {@code -1} if there is no match
+   *     completely within the range
+   */
+  int indexOf(@NotNull ByteBuffer buffer, int from, int to);
+
+  /**
+   * Searches for the first match in the given range of a memory segment.
+   *
+   * @param segment the segment to search in, e.g. a memory-mapped file; cannot be null
+   * @param from the offset of the first byte of the range
+   * @param to the offset after the last byte of the range
+   * @return the offset of the first byte of the first match, or {@code -1} if there is no match
+   *     completely within the range
+   */
+  long indexOf(@NotNull MemorySegment segment, long from, long to);
+
+  /**
+   * Checks whether there is a match in the given range of a byte array.
+   *
+   * @param bytes the bytes to search in; cannot be null
+   * @param from the index of the first byte of the range
+   * @param to the index after the last byte of the range
+   * @return {@code true} if there is a match within the range, {@code false} otherwise
+   */
+  default boolean isContainedIn(byte @NotNull [] bytes, int from, int to) {
+    return indexOf(bytes, from, to) >= 0;
+  }
+}
@@ -0,0 +1,204 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The BytePattern class searches for a fixed byte sequence in raw, undecoded data such as the
+ * bytes of a log file.
+ *
+ * <p>The search uses the Boyer-Moore-Horspool algorithm. The last byte of the current window is
+ * compared first, and a precomputed table tells how far the window can be moved if it doesn't
+ * match. For a marker like {@code <Actor Death>}, most positions of a log file are skipped by the
+ * full length of the marker, so only a fraction of the bytes is looked at. Combined with searching
+ * before splitting the data into lines, lines that don't contain the pattern are never decoded into
+ * strings.
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class BytePattern implements ByteMatcher {
+  private final byte[] pattern;
+  private final int[] shift = new int[256];
+
+  /**
+   * Creates a new pattern for the given bytes.
+   *
+   * @param pattern the bytes to search for; cannot be null or empty
+   */
+  private BytePattern(byte @NotNull [] pattern) {
+    this.pattern = pattern;
+    Arrays.fill(shift, pattern.length);
+    for (int i = 0; i < pattern.length - 1; i++) {
+      shift[pattern[i] & 0xFF] = pattern.length - 1 - i;
+    }
+  }
+
+  /**
+   * Creates a new pattern that searches for the UTF-8 encoding of the given text.
+   *
+   * @param text the text to search for; cannot be null or empty
+   * @return the new pattern; never null
+   * @throws IllegalArgumentException if the text is empty
+   */
+  public static @NotNull BytePattern of(@NotNull String text) {
+    if (text.isEmpty()) {
+      throw new IllegalArgumentException("The pattern must not be empty");
+    }
+    return new BytePattern(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Returns the number of bytes of the pattern.
+   *
+   * @return the length of the pattern in bytes
+   */
+  public int length() {
+    return pattern.length;
+  }
+
+  /**
+   * Searches for the first occurrence of the pattern in the given range of a byte array.
+   *
+   * @param bytes the bytes to search in; cannot be null
+   * @param from the index of the first byte of the range
+   * @param to the index after the last byte of the range
+   * @return the index of the first byte of the first occurrence, or {@code -1} if the pattern
+   *     doesn't occur completely within the range
+   */
+  @Override
+  public int indexOf(byte @NotNull [] bytes, int from, int to) {
+    int last = pattern.length - 1;
+    byte lastByte = pattern[last];
+    for (int i = from + last; i < to; i += shift[bytes[i] & 0xFF]) {
+      if (bytes[i] == lastByte && matchesAt(bytes, i - last)) {
+        return i - last;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Searches for the first occurrence of the pattern in the given range of a byte buffer. The
+   * position and limit of the buffer aren't changed.
+   *
+   * @param buffer the buffer to search in, which may be a direct buffer; cannot be null
+   * @param from the index of the first byte of the range
+   * @param to the index after the last byte of the range, which must not exceed the limit
+   * @return the index of the first byte of the first occurrence, or {@code -1} if the pattern
+   *     doesn't occur completely within the range
+   */
+  @Override
+  public int indexOf(@NotNull ByteBuffer buffer, int from, int to) {
+    int last = pattern.length - 1;
+    byte lastByte = pattern[last];
+    int i = from + last;
+    while (i < to) {
+      byte current = buffer.get(i);
+      if (current == lastByte && matchesAt(buffer, i - last)) {
+        return i - last;
+      }
+      i += shift[current & 0xFF];
+    }
+    return -1;
+  }
+
+  /**
+   * Searches for the first occurrence of the pattern in the given range of a memory segment.
+   *
+   * @param segment the segment to search in, e.g. a memory-mapped file; cannot be null
+   * @param from the offset of the first byte of the range
+   * @param to the offset after the last byte of the range
+   * @return the offset of the first byte of the first occurrence, or {@code -1} if the pattern
+   *     doesn't occur completely within the range
+   */
+  @Override
+  public long indexOf(@NotNull MemorySegment segment, long from, long to) {
+    int last = pattern.length - 1;
+    byte lastByte = pattern[last];
+    long i = from + last;
+    while (i < to) {
+      byte current = segment.get(ValueLayout.JAVA_BYTE, i);
+      if (current == lastByte && matchesAt(segment, i - last)) {
+        return i - last;
+      }
+      i += shift[current & 0xFF];
+    }
+    return -1;
+  }
+
+  /**
+   * Compares all bytes of the pattern except the last one with the bytes at the given position.
+   *
+   * @param bytes the bytes to compare with; cannot be null
+   * @param start the index at which the pattern would start
+   * @return {@code true} if the pattern occurs at the position, {@code false} otherwise
+   */
+  private boolean matchesAt(byte @NotNull [] bytes, int start) {
+    for (int j = 0; j < pattern.length - 1; j++) {
+      if (bytes[start + j] != pattern[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compares all bytes of the pattern except the last one with the bytes at the given index.
+   *
+   * @param buffer the buffer to compare with; cannot be null
+   * @param start the index at which the pattern would start
+   * @return {@code true} if the pattern occurs at the index, {@code false} otherwise
+   */
+  private boolean matchesAt(@NotNull ByteBuffer buffer, int start) {
+    for (int j = 0; j < pattern.length - 1; j++) {
+      if (buffer.get(start + j) != pattern[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compares all bytes of the pattern except the last one with the bytes at the given offset.
+   *
+   * @param segment the segment to compare with; cannot be null
+   * @param start the offset at which the pattern would start
+   * @return {@code true} if the pattern occurs at the offset, {@code false} otherwise
+   */
+  private boolean matchesAt(@NotNull MemorySegment segment, long start) {
+    for (int j = 0; j < pattern.length - 1; j++) {
+      if (segment.get(ValueLayout.JAVA_BYTE, start + j) != pattern[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,78 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The DirectBufferPool class keeps direct {@link ByteBuffer} objects of a fixed size for reuse.
+ *
+ * <p>Direct buffers can be filled by a {@link java.nio.channels.FileChannel} without an additional
+ * copy, but they are expensive to allocate and are only released by the garbage collector. Readers
+ * that are created or called repeatedly therefore borrow a buffer from the pool and return it
+ * afterward instead of allocating a new one each time. The number of pooled buffers is bounded;
+ * buffers returned to a full pool are left to the garbage collector.
+ *
+ * <p>Instances of this class are thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+final class DirectBufferPool {
+  private final int bufferSize;
+  private final BlockingQueue<ByteBuffer> buffers;
+
+  /**
+   * Creates a new, empty pool.
+   *
+   * @param bufferSize the capacity of the buffers in bytes
+   * @param maxPooledBuffers the maximum number of buffers kept for reuse
+   */
+  DirectBufferPool(int bufferSize, int maxPooledBuffers) {
+    this.bufferSize = bufferSize;
+    this.buffers = new ArrayBlockingQueue<>(maxPooledBuffers);
+  }
+
+  /**
+   * Borrows a buffer from the pool or allocates a new one if the pool is empty.
+   *
+   * @return a cleared direct buffer; never null
+   */
+  @NotNull ByteBuffer acquire() {
+    ByteBuffer buffer = buffers.poll();
+    return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(bufferSize);
+  }
+
+  /**
+   * Returns a buffer to the pool. The buffer must not be used by the caller afterward.
+   *
+   * @param buffer the buffer that was borrowed from this pool; cannot be null
+   */
+  void release(@NotNull ByteBuffer buffer) {
+    if (buffer.isDirect() && buffer.capacity() == bufferSize) {
+      buffers.offer(buffer);
+    }
+  }
+}
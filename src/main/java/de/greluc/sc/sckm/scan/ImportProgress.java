@@ -0,0 +1,63 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import java.nio.file.Path;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Describes the progress of a running import after a single log file has been processed.
+ *
+ * <ul>
+ *   <li><strong>file</strong>: The log file that has been processed.
+ *   <li><strong>killEventCount</strong>: The number of kill events found in the file.
+ *   <li><strong>bytes</strong>: The size of the file in bytes as stored on disk.
+ *   <li><strong>durationNanos</strong>: The time it took to process the file in nanoseconds.
+ *   <li><strong>completedFiles</strong>: The number of files processed so far, including this one.
+ *   <li><strong>totalFiles</strong>: The total number of files of the import.
+ *   <li><strong>failed</strong>: Whether the file couldn't be read.
+ * </ul>
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public record ImportProgress(
+    @NotNull Path file,
+    int killEventCount,
+    long bytes,
+    long durationNanos,
+    int completedFiles,
+    int totalFiles,
+    boolean failed) {
+
+  /**
+   * Calculates the throughput achieved for the processed file.
+   *
+   * @return the throughput in megabytes per second
+   */
+  public double megabytesPerSecond() {
+    if (durationNanos <= 0) {
+      return 0;
+    }
+    return bytes / (1024.0 * 1024.0) / (durationNanos / 1_000_000_000.0);
+  }
+}
@@ -0,0 +1,61 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import java.nio.file.Path;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Summarizes a finished import of archived log files.
+ *
+ * <ul>
+ *   <li><strong>killEventCount</strong>: The total number of imported kill events.
+ *   <li><strong>totalFiles</strong>: The total number of files of the import.
+ *   <li><strong>failedFiles</strong>: The files that couldn't be imported, ordered by file name.
+ * </ul>
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public record ImportSummary(int killEventCount, int totalFiles, @NotNull List<Path> failedFiles) {
+
+  /**
+   * Creates a new summary with an immutable copy of the failed files.
+   *
+   * @param killEventCount the total number of imported kill events
+   * @param totalFiles the total number of files of the import
+   * @param failedFiles the files that couldn't be imported; cannot be null
+   */
+  public ImportSummary {
+    failedFiles = List.copyOf(failedFiles);
+  }
+
+  /**
+   * Indicates whether all files have been imported.
+   *
+   * @return {@code true} if no file failed, {@code false} otherwise
+   */
+  public boolean isComplete() {
+    return failedFiles.isEmpty();
+  }
+}
@@ -0,0 +1,507 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import de.greluc.sc.sckm.data.LogEventRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The IngestionPipeline class processes the kill events of a log file in separate stages, so a
+ * slow stage, e.g. writing to a file on a busy disk, doesn't stall the scan of the log file.
+ *
+ * <p>The pipeline consists of the following stages, each running on its own virtual threads:
+ *
+ * <ul>
+ *   <li><strong>read</strong>: Reads the lines appended to the log file with a {@link
+ *       LogTailReader}, which only decodes the lines matching a registered event type, and waits
+ *       for the next change of the file.
+ *   <li><strong>parse</strong>: Parses the lines with the default {@link LogEventRegistry}. The
+ *       number of parser threads is configurable.
+ *   <li><strong>filter</strong>: Drops kill events rejected by the filter and kill events that
+ *       are among the most recently passed ones. The number of remembered kill events is bounded,
+ *       so the memory of the stage doesn't grow with the length of the session; sinks that need
+ *       to detect every duplicate, e.g. the GUI, check against their own store.
+ *   <li><strong>sinks</strong>: Each sink, e.g. the file writer or the GUI, receives the remaining
+ *       kill events on its own thread. A sink receives all kill events that are available at the
+ *       same time as a single batch.
+ * </ul>
+ *
+ * <p>The stages are connected by bounded queues. If a stage falls behind, the queue in front of it
+ * fills up and the preceding stage blocks until there is room again, so a slow sink eventually
+ * slows down the scan instead of buffering an unlimited number of kill events. Every stage records
+ * its throughput in a {@link StageMetrics} object.
+ *
+ * <p>Closing the pipeline stops the read stage first and then lets the following stages finish
+ * the lines and kill events that are already queued, so no kill event that has been read is lost
+ * on a regular stop. Errors raised while reading after the pipeline has been closed, e.g. because
+ * the read was interrupted, aren't reported to the read error handler.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class IngestionPipeline implements AutoCloseable {
+  private static final Object END_OF_STAGE = new Object();
+  private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(5);
+  private static final int MAX_SEEN_KILL_EVENTS = 4096;
+
+  private final LogTailReader reader;
+  private final LogFileWatcher watcher;
+  private final PipelineConfig config;
+  private final BlockingQueue<Object> lines;
+  private final BlockingQueue<Object> parsedKillEvents;
+  private final List<Sink> sinks = new ArrayList<>();
+  private final List<Thread> threads = new ArrayList<>();
+  private final List<Thread> parserThreads = new ArrayList<>();
+  private final List<Thread> sinkThreads = new ArrayList<>();
+  private final StageMetrics readMetrics = new StageMetrics("read");
+  private final StageMetrics parseMetrics = new StageMetrics("parse");
+  private final StageMetrics filterMetrics = new StageMetrics("filter");
+  private Predicate<KillEvent> filter = killEvent -> true;
+  private Consumer<IOException> readErrorHandler = ioException -> {};
+  private Thread filterThread;
+  private Thread readThread;
+  private volatile boolean isClosed;
+
+  /**
+   * Creates a new pipeline for a log file. The pipeline doesn't start before {@link #start()} is
+   * called.
+   *
+   * @param reader the reader of the log file; cannot be null
+   * @param watcher the watcher of the log file, or {@code null} to read the file once per scan
+   *     interval
+   * @param config the configuration of the stages; cannot be null
+   */
+  public IngestionPipeline(
+      @NotNull LogTailReader reader, LogFileWatcher watcher, @NotNull PipelineConfig config) {
+    this.reader = reader;
+    this.watcher = watcher;
+    this.config = config;
+    this.lines = new ArrayBlockingQueue<>(config.queueCapacity());
+    this.parsedKillEvents = new ArrayBlockingQueue<>(config.queueCapacity());
+  }
+
+  /**
+   * Sets the filter deciding which kill events are passed to the sinks.
+   *
+   * @param filter the filter returning {@code true} for the kill events to keep; cannot be null
+   * @return this pipeline; never null
+   */
+  public synchronized @NotNull IngestionPipeline setFilter(@NotNull Predicate<KillEvent> filter) {
+    this.filter = filter;
+    return this;
+  }
+
+  /**
+   * Adds a sink receiving the kill events that passed the filter. Sinks must be added before the
+   * pipeline is started.
+   *
+   * @param name the name of the sink used for its metrics and thread; cannot be null
+   * @param sink the sink receiving batches of kill events in the order they were filtered; cannot
+   *     be null
+   * @return this pipeline; never null
+   * @throws IllegalStateException if the pipeline has already been started
+   */
+  public synchronized @NotNull IngestionPipeline addSink(
+      @NotNull String name, @NotNull Consumer<List<KillEvent>> sink) {
+    if (readThread != null) {
+      throw new IllegalStateException("Sinks must be added before the pipeline is started");
+    }
+    sinks.add(
+        new Sink(
+            new StageMetrics(name), sink, new ArrayBlockingQueue<>(config.queueCapacity())));
+    return this;
+  }
+
+  /**
+   * Sets the handler that is called if the log file can't be read. The read stage stops after
+   * calling the handler.
+   *
+   * @param readErrorHandler the handler receiving the exception raised while reading; cannot be
+   *     null
+   * @return this pipeline; never null
+   */
+  public synchronized @NotNull IngestionPipeline onReadError(
+      @NotNull Consumer<IOException> readErrorHandler) {
+    this.readErrorHandler = readErrorHandler;
+    return this;
+  }
+
+  /**
+   * Starts the threads of all stages. Calling this method again has no effect.
+   *
+   * @throws IllegalStateException if the pipeline has been closed
+   */
+  public synchronized void start() {
+    if (isClosed) {
+      throw new IllegalStateException("The pipeline has been closed");
+    }
+    if (readThread != null) {
+      return;
+    }
+    for (Sink sink : sinks) {
+      sinkThreads.add(startStage("sink-" + sink.metrics().getName(), () -> runSink(sink)));
+    }
+    filterThread = startStage("filter", this::runFilter);
+    for (int i = 0; i < config.parserCount(); i++) {
+      parserThreads.add(startStage("parse-" + i, this::runParser));
+    }
+    readThread = startStage("read", this::runReader);
+  }
+
+  /**
+   * Blocks until the read stage has stopped, either because the log file couldn't be read or
+   * because the pipeline was closed.
+   *
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   * @throws IllegalStateException if the pipeline hasn't been started
+   */
+  public void awaitTermination() throws InterruptedException {
+    Thread thread;
+    synchronized (this) {
+      thread = readThread;
+    }
+    if (thread == null) {
+      throw new IllegalStateException("The pipeline hasn't been started");
+    }
+    thread.join();
+  }
+
+  /**
+   * Returns the metrics of all stages in the order of the pipeline, followed by those of the
+   * sinks.
+   *
+   * @return the metrics of all stages; never null
+   */
+  public synchronized @NotNull List<StageMetrics> getMetrics() {
+    List<StageMetrics> metrics = new ArrayList<>(List.of(readMetrics, parseMetrics, filterMetrics));
+    sinks.forEach(sink -> metrics.add(sink.metrics()));
+    return metrics;
+  }
+
+  /**
+   * Stops the read stage and waits until the remaining stages have passed all queued lines and
+   * kill events to the sinks. The method returns once all threads of the pipeline have stopped, so
+   * the reader and watcher can be closed afterward. Calling this method again has no effect.
+   *
+   * <p>If the stages don't finish within a few seconds, e.g. because a sink is blocked, or the
+   * calling thread is interrupted while waiting, the remaining threads are interrupted and the
+   * kill events they still hold are dropped. An interrupt status of the calling thread is cleared
+   * while waiting and restored afterward.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (isClosed) {
+        return;
+      }
+      isClosed = true;
+      if (readThread == null) {
+        return;
+      }
+    }
+    boolean isInterrupted = Thread.interrupted();
+    boolean isDrained = false;
+    readThread.interrupt();
+    try {
+      isDrained = drain(System.nanoTime() + DRAIN_TIMEOUT.toNanos());
+    } catch (InterruptedException interruptedException) {
+      isInterrupted = true;
+    }
+    if (!isDrained) {
+      log.warn("Stopped the ingestion pipeline before all kill events reached the sinks");
+      threads.forEach(Thread::interrupt);
+      isInterrupted |= awaitThreads();
+    }
+    log.debug("Stopped the ingestion pipeline: {}", getMetrics());
+    if (isInterrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Lets the stages after the stopped read stage finish one after another. Each stage is told to
+   * stop by an end marker that is queued after the last remaining item, and a stage passes the
+   * marker on to its successors once it has processed all items before it.
+   *
+   * @param deadline the value of {@link System#nanoTime()} at which waiting is given up
+   * @return {@code true} if all stages have finished, {@code false} if the deadline has passed
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  private boolean drain(long deadline) throws InterruptedException {
+    if (!join(readThread, deadline)) {
+      return false;
+    }
+    for (int i = 0; i < parserThreads.size(); i++) {
+      if (!lines.offer(END_OF_STAGE, remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+        return false;
+      }
+    }
+    for (Thread parserThread : parserThreads) {
+      if (!join(parserThread, deadline)) {
+        return false;
+      }
+    }
+    if (!parsedKillEvents.offer(END_OF_STAGE, remainingNanos(deadline), TimeUnit.NANOSECONDS)
+        || !join(filterThread, deadline)) {
+      return false;
+    }
+    for (Thread sinkThread : sinkThreads) {
+      if (!join(sinkThread, deadline)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Waits until all threads of the pipeline have stopped after they have been interrupted. The
+   * stages stop as soon as they notice the interrupt, so waiting isn't given up.
+   *
+   * @return {@code true} if the calling thread was interrupted while waiting, {@code false}
+   *     otherwise
+   */
+  private boolean awaitThreads() {
+    boolean isInterrupted = false;
+    for (Thread thread : threads) {
+      while (true) {
+        try {
+          thread.join();
+          break;
+        } catch (InterruptedException interruptedException) {
+          isInterrupted = true;
+        }
+      }
+    }
+    return isInterrupted;
+  }
+
+  /**
+   * Waits until a thread has stopped or the deadline has passed.
+   *
+   * @param thread the thread to wait for; cannot be null
+   * @param deadline the value of {@link System#nanoTime()} at which waiting is given up
+   * @return {@code true} if the thread has stopped, {@code false} otherwise
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  private static boolean join(@NotNull Thread thread, long deadline)
+      throws InterruptedException {
+    return thread.join(Duration.ofNanos(remainingNanos(deadline)));
+  }
+
+  /**
+   * Returns the time left until the given deadline.
+   *
+   * @param deadline the value of {@link System#nanoTime()} at which waiting is given up
+   * @return the remaining time in nanoseconds, but at least one
+   */
+  private static long remainingNanos(long deadline) {
+    return Math.max(1, deadline - System.nanoTime());
+  }
+
+  /**
+   * Starts a virtual thread running a stage.
+   *
+   * @param name the name of the stage; cannot be null
+   * @param stage the loop of the stage; cannot be null
+   * @return the started thread; never null
+   */
+  private @NotNull Thread startStage(@NotNull String name, @NotNull Runnable stage) {
+    Thread thread = Thread.ofVirtual().name("sckm-" + name).start(stage);
+    threads.add(thread);
+    return thread;
+  }
+
+  /**
+   * Reads the lines appended to the log file until the thread is interrupted or the file can't be
+   * read. A read error is only reported if the pipeline hasn't been closed, since closing the
+   * pipeline interrupts a running read.
+   */
+  private void runReader() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        for (String line : reader.readNewLines()) {
+          lines.put(line);
+          readMetrics.recordProcessed();
+        }
+        log.debug("Finished reading the log file: {}", getMetrics());
+        waitForChange();
+      }
+    } catch (IOException ioException) {
+      if (isClosed) {
+        log.debug("Stopped reading the log file of the closed pipeline");
+        log.trace("Stacktrace:", ioException);
+      } else {
+        readErrorHandler.accept(ioException);
+      }
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Blocks until the log file has changed or, without a watcher, until the scan interval has
+   * passed.
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  private void waitForChange() throws InterruptedException {
+    long intervalMillis = config.scanInterval().toMillis();
+    if (watcher == null) {
+      TimeUnit.MILLISECONDS.sleep(intervalMillis);
+      return;
+    }
+    while (!watcher.awaitChange(intervalMillis, TimeUnit.MILLISECONDS)) {
+      log.trace("Log file didn't change within the interval");
+    }
+  }
+
+  /** Parses the read lines until the end of the stage is reached or the thread is interrupted. */
+  private void runParser() {
+    try {
+      while (true) {
+        Object line = lines.take();
+        if (line == END_OF_STAGE) {
+          return;
+        }
+        Optional<?> event = LogEventRegistry.getDefault().parse((String) line);
+        parseMetrics.recordProcessed();
+        if (event.isPresent() && event.get() instanceof KillEvent killEvent) {
+          parsedKillEvents.put(killEvent);
+        }
+      }
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Filters the parsed kill events and passes them to all sinks until the end of the stage is
+   * reached, which is passed on to the sinks, or the thread is interrupted. Only the most recently
+   * passed kill events are remembered to drop duplicates.
+   */
+  private void runFilter() {
+    Set<KillEvent> seenKillEvents =
+        Collections.newSetFromMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<KillEvent, Boolean> eldest) {
+                return size() > MAX_SEEN_KILL_EVENTS;
+              }
+            });
+    Predicate<KillEvent> activeFilter;
+    synchronized (this) {
+      activeFilter = filter;
+    }
+    try {
+      while (true) {
+        Object element = parsedKillEvents.take();
+        if (element == END_OF_STAGE) {
+          for (Sink sink : sinks) {
+            sink.queue().put(END_OF_STAGE);
+          }
+          return;
+        }
+        KillEvent killEvent = (KillEvent) element;
+        filterMetrics.recordProcessed();
+        if (activeFilter.test(killEvent) && seenKillEvents.add(killEvent)) {
+          log.info("New kill event detected");
+          log.debug("Kill Event:\n{}", killEvent);
+          for (Sink sink : sinks) {
+            sink.queue().put(killEvent);
+          }
+        }
+      }
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Passes the filtered kill events to a sink until the end of the stage is reached or the thread
+   * is interrupted. All kill events that are available at the same time are passed as a single
+   * batch. Exceptions raised by the sink are logged and don't stop the stage.
+   *
+   * @param sink the sink to run; cannot be null
+   */
+  private void runSink(@NotNull Sink sink) {
+    List<Object> elements = new ArrayList<>();
+    List<KillEvent> batch = new ArrayList<>();
+    boolean isEnd = false;
+    try {
+      while (!isEnd) {
+        elements.add(sink.queue().take());
+        sink.queue().drainTo(elements);
+        for (Object element : elements) {
+          if (element == END_OF_STAGE) {
+            isEnd = true;
+          } else {
+            batch.add((KillEvent) element);
+          }
+        }
+        elements.clear();
+        if (batch.isEmpty()) {
+          continue;
+        }
+        try {
+          sink.consumer().accept(batch);
+        } catch (RuntimeException runtimeException) {
+          log.error("Sink {} failed to process kill events", sink.metrics().getName());
+          log.trace("Stacktrace:", runtimeException);
+        }
+        sink.metrics().recordProcessed(batch.size());
+        batch.clear();
+      }
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * A sink of the pipeline together with its input queue and metrics.
+   *
+   * @param metrics the metrics of the sink; cannot be null
+   * @param consumer the consumer receiving batches of kill events; cannot be null
+   * @param queue the queue of kill events waiting for the sink, which may end with the end of the
+   *     stage; cannot be null
+   */
+  private record Sink(
+      @NotNull StageMetrics metrics,
+      @NotNull Consumer<List<KillEvent>> consumer,
+      @NotNull BlockingQueue<Object> queue) {}
+}
@@ -0,0 +1,309 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The LineSplitter class splits raw bytes that are read from a log file block by block into
+ * decoded lines.
+ *
+ * <p>Bytes after the last line break of a block are kept back as partial line and completed with
+ * the next block, so a line is always handed out exactly once and never in a truncated state. Line
+ * breaks, including a carriage return in front of them, are removed, and the content is decoded as
+ * UTF-8 regardless of the platform's default charset. Malformed input is replaced instead of
+ * aborting the read.
+ *
+ * <p>If the splitter has a line filter, the block is searched for a match before it is split.
+ * Only the lines around a match are located and decoded, while all other bytes are skipped without
+ * looking for line breaks.
+ *
+ * <p>The length of a line is bounded. Lines exceeding the maximum length are skipped and counted,
+ * so a single garbage line of several megabytes can't exhaust the memory. The buffers for the
+ * partial line and the decoded characters, as well as the decoder, are allocated once and reused
+ * for every line. Decoded lines are therefore handed to a consumer as a {@link CharSequence} that
+ * is only valid during the call; a consumer that keeps a line has to copy it, e.g. with {@link
+ * CharSequence#toString()}.
+ *
+ * <p>Instances of this class are stateful and not thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+final class LineSplitter {
+  static final int DEFAULT_MAX_LINE_LENGTH = 64 * 1024;
+
+  private final ByteMatcher lineFilter;
+  private final int maxLineLength;
+  private final byte[] partialLine;
+  private final ByteBuffer partialLineBuffer;
+  private final CharBuffer decodedLine;
+  private final CharsetDecoder decoder =
+      StandardCharsets.UTF_8
+          .newDecoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  private int partialLineLength = 0;
+  private boolean skippingLine = false;
+  @Getter private long oversizeLineCount = 0;
+
+  /**
+   * Creates a new splitter with the default maximum line length.
+   *
+   * @param lineFilter the matcher that must find a match in a line for it to be handed out, or
+   *     {@code null} to hand out all lines
+   */
+  LineSplitter(ByteMatcher lineFilter) {
+    this(lineFilter, DEFAULT_MAX_LINE_LENGTH);
+  }
+
+  /**
+   * Creates a new splitter.
+   *
+   * @param lineFilter the matcher that must find a match in a line for it to be handed out, or
+   *     {@code null} to hand out all lines
+   * @param maxLineLength the maximum length of a line in bytes without its line break
+   */
+  LineSplitter(ByteMatcher lineFilter, int maxLineLength) {
+    this.lineFilter = lineFilter;
+    this.maxLineLength = maxLineLength;
+    this.partialLine = new byte[maxLineLength];
+    this.partialLineBuffer = ByteBuffer.wrap(partialLine);
+    this.decodedLine = CharBuffer.allocate(maxLineLength);
+  }
+
+  /**
+   * Splits the remaining bytes of the given block into lines and hands every complete line that
+   * passes the filter to the consumer. Bytes after the last line break are kept back as partial
+   * line. Afterward, the position of the block is at its limit.
+   *
+   * @param block the buffer containing the block between its position and limit; cannot be null
+   * @param consumer the consumer of the lines, which must not keep the passed sequence; cannot be
+   *     null
+   */
+  void split(@NotNull ByteBuffer block, @NotNull Consumer<CharSequence> consumer) {
+    int position = block.position();
+    int limit = block.limit();
+    if (partialLineLength > 0 || skippingLine) {
+      int lineEnd = indexOfLineBreak(block, position, limit);
+      if (lineEnd < 0) {
+        appendPartialLine(block, position, limit);
+        block.position(limit);
+        return;
+      }
+      appendPartialLine(block, position, lineEnd);
+      flush(consumer);
+      position = lineEnd + 1;
+    }
+    if (lineFilter == null) {
+      position = splitAll(block, position, limit, consumer);
+    } else {
+      position = splitMatching(block, position, limit, consumer);
+    }
+    appendPartialLine(block, position, limit);
+    block.position(limit);
+  }
+
+  /**
+   * Hands the pending partial line to the consumer if it passes the filter and discards it. This
+   * is used once no further bytes are expected, e.g. at the end of a file.
+   *
+   * @param consumer the consumer of the line, which must not keep the passed sequence; cannot be
+   *     null
+   */
+  void flush(@NotNull Consumer<CharSequence> consumer) {
+    if (partialLineLength > 0
+        && !skippingLine
+        && (lineFilter == null || lineFilter.isContainedIn(partialLine, 0, partialLineLength))) {
+      partialLineBuffer.limit(partialLineLength).position(0);
+      decode(partialLineBuffer, consumer);
+    }
+    reset();
+  }
+
+  /** Discards the pending partial line. */
+  void reset() {
+    partialLineLength = 0;
+    skippingLine = false;
+  }
+
+  /**
+   * Hands every complete line of the range to the consumer.
+   *
+   * @param block the buffer containing the block; cannot be null
+   * @param from the index of the first byte of the range, which is the start of a line
+   * @param limit the limit of the block
+   * @param consumer the consumer of the lines; cannot be null
+   * @return the index of the first byte after the last line break of the range
+   */
+  private int splitAll(
+      @NotNull ByteBuffer block, int from, int limit, @NotNull Consumer<CharSequence> consumer) {
+    int lineStart = from;
+    for (int i = from; i < limit; i++) {
+      if (block.get(i) == '\n') {
+        handleLine(block, lineStart, i, limit, consumer);
+        lineStart = i + 1;
+      }
+    }
+    return lineStart;
+  }
+
+  /**
+   * Hands every complete line of the range that contains a match of the filter to the consumer.
+   * The range is searched for a match first, and only the line around a match is located.
+   *
+   * @param block the buffer containing the block; cannot be null
+   * @param from the index of the first byte of the range, which is the start of a line
+   * @param limit the limit of the block
+   * @param consumer the consumer of the lines; cannot be null
+   * @return the index of the first byte after the last line break of the range
+   */
+  private int splitMatching(
+      @NotNull ByteBuffer block, int from, int limit, @NotNull Consumer<CharSequence> consumer) {
+    int position = from;
+    int match;
+    while ((match = lineFilter.indexOf(block, position, limit)) >= 0) {
+      int lineStart = lastIndexOfLineBreak(block, position, match) + 1;
+      int lineEnd = indexOfLineBreak(block, match, limit);
+      if (lineEnd < 0) {
+        return lineStart;
+      }
+      handleLine(block, lineStart, lineEnd, limit, consumer);
+      position = lineEnd + 1;
+    }
+    return lastIndexOfLineBreak(block, position, limit) + 1;
+  }
+
+  /**
+   * Decodes a complete line of the block and hands it to the consumer, unless it exceeds the
+   * maximum line length.
+   *
+   * @param block the buffer containing the block; cannot be null
+   * @param start the index of the first byte of the line
+   * @param end the index of the line break
+   * @param limit the limit of the block, which is restored afterward
+   * @param consumer the consumer of the line; cannot be null
+   */
+  private void handleLine(
+      @NotNull ByteBuffer block,
+      int start,
+      int end,
+      int limit,
+      @NotNull Consumer<CharSequence> consumer) {
+    if (end - start > maxLineLength) {
+      countOversizeLine();
+      return;
+    }
+    block.limit(end).position(start);
+    decode(block, consumer);
+    block.limit(limit);
+  }
+
+  /**
+   * Appends a range of the block to the partial line. If the partial line would exceed the maximum
+   * line length, it is discarded and the rest of the line is skipped.
+   *
+   * @param block the buffer containing the block; cannot be null
+   * @param from the index of the first byte of the range
+   * @param to the index after the last byte of the range
+   */
+  private void appendPartialLine(@NotNull ByteBuffer block, int from, int to) {
+    if (skippingLine || from >= to) {
+      return;
+    }
+    if (partialLineLength + (to - from) > maxLineLength) {
+      countOversizeLine();
+      partialLineLength = 0;
+      skippingLine = true;
+      return;
+    }
+    block.get(from, partialLine, partialLineLength, to - from);
+    partialLineLength += to - from;
+  }
+
+  /** Counts a line that exceeds the maximum line length and is therefore skipped. */
+  private void countOversizeLine() {
+    oversizeLineCount++;
+    log.warn("Skipping a line of the log file that exceeds {} bytes", maxLineLength);
+  }
+
+  /**
+   * Decodes the bytes between the position and the limit of the given buffer as UTF-8 without a
+   * trailing carriage return and hands the result to the consumer.
+   *
+   * @param line the buffer containing the line; cannot be null
+   * @param consumer the consumer of the line; cannot be null
+   */
+  private void decode(@NotNull ByteBuffer line, @NotNull Consumer<CharSequence> consumer) {
+    if (line.hasRemaining() && line.get(line.limit() - 1) == '\r') {
+      line.limit(line.limit() - 1);
+    }
+    decoder.reset();
+    decodedLine.clear();
+    decoder.decode(line, decodedLine, true);
+    decoder.flush(decodedLine);
+    decodedLine.flip();
+    consumer.accept(decodedLine);
+  }
+
+  /**
+   * Returns the index of the first line break in the given range.
+   *
+   * @param block the buffer to search in; cannot be null
+   * @param from the index of the first byte of the range
+   * @param to the index after the last byte of the range
+   * @return the index of the line break, or {@code -1} if there is none
+   */
+  private static int indexOfLineBreak(@NotNull ByteBuffer block, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (block.get(i) == '\n') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the last line break in the given range.
+   *
+   * @param block the buffer to search in; cannot be null
+   * @param from the index of the first byte of the range
+   * @param to the index after the last byte of the range
+   * @return the index of the line break, or {@code from - 1} if there is none
+   */
+  private static int lastIndexOfLineBreak(@NotNull ByteBuffer block, int from, int to) {
+    int i = to - 1;
+    while (i >= from && block.get(i) != '\n') {
+      i--;
+    }
+    return i;
+  }
+}
@@ -0,0 +1,255 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import de.greluc.sc.sckm.data.LogEventRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The LogBackupImporter class imports the kill events of all archived log files of a channel.
+ *
+ * <p>Star Citizen moves the {@code game.log} into the {@code logbackups} directory next to it
+ * whenever the client is started. The importer discovers every {@code game*.log} and {@code
+ * game*.log.gz} file in this directory and parses the files concurrently on a bounded {@link
+ * ForkJoinPool}. Uncompressed files are parsed with the {@link BulkLogScanner} on the same pool, so
+ * large files are additionally split into chunks, while compressed files are streamed in blocks.
+ *
+ * <p>The kill events of each file are handed to the caller as soon as the file has been parsed,
+ * together with a {@link ImportProgress} describing the processed file and the achieved throughput.
+ * The importer doesn't filter the kill events; this is up to the caller.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class LogBackupImporter {
+  private static final String BACKUP_DIRECTORY = "logbackups";
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  private final ForkJoinPool pool;
+
+  /** Creates a new importer with one worker thread per available processor. */
+  public LogBackupImporter() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a new importer with the given number of worker threads.
+   *
+   * @param parallelism the maximum number of files and chunks parsed at the same time
+   */
+  public LogBackupImporter(int parallelism) {
+    this.pool = new ForkJoinPool(Math.max(1, parallelism));
+  }
+
+  /**
+   * Determines the backup directory belonging to the given {@code game.log}.
+   *
+   * @param gameLog the path of the {@code game.log} of a channel; cannot be null
+   * @return the path of the {@code logbackups} directory next to the file; never null
+   */
+  public static @NotNull Path getBackupDirectory(@NotNull Path gameLog) {
+    Path parent = gameLog.toAbsolutePath().getParent();
+    return parent == null ? Path.of(BACKUP_DIRECTORY) : parent.resolve(BACKUP_DIRECTORY);
+  }
+
+  /**
+   * Lists all archived log files in the given directory, ordered by file name.
+   *
+   * @param backupDirectory the directory to search; cannot be null
+   * @return a mutable list of the found log files; never null
+   * @throws IOException if the directory can't be listed
+   */
+  public static @NotNull List<Path> findLogFiles(@NotNull Path backupDirectory)
+      throws IOException {
+    try (Stream<Path> files = Files.list(backupDirectory)) {
+      return files
+          .filter(Files::isRegularFile)
+          .filter(LogBackupImporter::isLogFile)
+          .sorted(Comparator.comparing(Path::getFileName))
+          .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+  }
+
+  /**
+   * Imports all archived log files from the given directory. The method blocks until all files
+   * have been processed.
+   *
+   * <p>The consumers are called from the worker threads of the importer, possibly concurrently, and
+   * must therefore be thread-safe. The kill events of a single file are delivered in chronological
+   * order. Files that can't be read or whose kill events can't be consumed are logged, reported as
+   * failed, and skipped, while the remaining files are still imported.
+   *
+   * @param backupDirectory the directory containing the archived log files; cannot be null
+   * @param killEventConsumer receives the kill events of each processed file; cannot be null
+   * @param progressListener receives the progress after each processed file; cannot be null
+   * @return a summary of the import including the files that failed; never null
+   * @throws IOException if the directory can't be listed
+   */
+  public @NotNull ImportSummary importBackups(
+      @NotNull Path backupDirectory,
+      @NotNull Consumer<List<KillEvent>> killEventConsumer,
+      @NotNull Consumer<ImportProgress> progressListener)
+      throws IOException {
+    List<Path> logFiles = findLogFiles(backupDirectory);
+    log.info("Importing {} log files from {}", logFiles.size(), backupDirectory);
+    AtomicInteger completedFiles = new AtomicInteger();
+    AtomicInteger killEventCount = new AtomicInteger();
+    BulkLogScanner scanner = new BulkLogScanner(pool);
+    Set<Path> failedFiles = ConcurrentHashMap.newKeySet();
+    List<ForkJoinTask<?>> tasks = new ArrayList<>();
+    for (Path logFile : logFiles) {
+      tasks.add(
+          pool.submit(
+              () -> {
+                long startTime = System.nanoTime();
+                List<KillEvent> killEvents = List.of();
+                boolean failed = false;
+                long bytes = 0;
+                try {
+                  bytes = Files.size(logFile);
+                  killEvents =
+                      isCompressed(logFile) ? scanCompressed(logFile) : scanner.scan(logFile);
+                  killEventConsumer.accept(killEvents);
+                  killEventCount.addAndGet(killEvents.size());
+                } catch (IOException | RuntimeException exception) {
+                  failed = true;
+                  failedFiles.add(logFile);
+                  log.error("Failed to import log file {}", logFile);
+                  log.trace("Stacktrace:", exception);
+                }
+                ImportProgress progress =
+                    new ImportProgress(
+                        logFile,
+                        killEvents.size(),
+                        bytes,
+                        System.nanoTime() - startTime,
+                        completedFiles.incrementAndGet(),
+                        logFiles.size(),
+                        failed);
+                log.debug(
+                    "Imported {} kill events from {} ({} MB/s)",
+                    progress.killEventCount(),
+                    logFile,
+                    String.format(Locale.ROOT, "%.1f", progress.megabytesPerSecond()));
+                progressListener.accept(progress);
+              }));
+    }
+    for (int i = 0; i < tasks.size(); i++) {
+      try {
+        tasks.get(i).join();
+      } catch (RuntimeException runtimeException) {
+        failedFiles.add(logFiles.get(i));
+        log.error("Failed to finish the import of log file {}", logFiles.get(i));
+        log.trace("Stacktrace:", runtimeException);
+      }
+    }
+    List<Path> sortedFailedFiles = new ArrayList<>(failedFiles);
+    sortedFailedFiles.sort(Comparator.comparing(Path::getFileName));
+    return new ImportSummary(killEventCount.get(), logFiles.size(), sortedFailedFiles);
+  }
+
+  /**
+   * Stops the worker threads of the importer. Running imports are interrupted.
+   */
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  /**
+   * Extracts all kill events from a GZIP compressed log file by streaming it block by block. Only
+   * the lines containing the marker of an event type of the default {@link LogEventRegistry} are
+   * decoded.
+   *
+   * @param logFile the compressed log file; cannot be null
+   * @return a mutable list of the kill events in the file in chronological order; never null
+   * @throws IOException if the file can't be read or decompressed
+   */
+  private static @NotNull List<KillEvent> scanCompressed(@NotNull Path logFile)
+      throws IOException {
+    List<KillEvent> killEvents = new ArrayList<>();
+    LogEventRegistry registry = LogEventRegistry.getDefault();
+    Consumer<CharSequence> parser =
+        line ->
+            registry
+                .parse(line)
+                .ifPresent(
+                    event -> {
+                      if (event instanceof KillEvent killEvent) {
+                        killEvents.add(killEvent);
+                      }
+                    });
+    LineSplitter lineSplitter = new LineSplitter(registry.getMatcher());
+    try (InputStream input =
+        new GZIPInputStream(Files.newInputStream(logFile), READ_BUFFER_SIZE)) {
+      byte[] buffer = new byte[READ_BUFFER_SIZE];
+      int read;
+      while ((read = input.readNBytes(buffer, 0, buffer.length)) > 0) {
+        lineSplitter.split(ByteBuffer.wrap(buffer, 0, read), parser);
+      }
+      lineSplitter.flush(parser);
+    }
+    killEvents.sort(Comparator.comparingLong(KillEvent::epochMilli));
+    return killEvents;
+  }
+
+  /**
+   * Checks whether the given file is an archived log file, which is the case for files named
+   * {@code game*.log} or {@code game*.log.gz} regardless of case.
+   *
+   * @param file the file to check; cannot be null
+   * @return {@code true} if the file is an archived log file, {@code false} otherwise
+   */
+  private static boolean isLogFile(@NotNull Path file) {
+    String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+    return name.startsWith("game") && (name.endsWith(".log") || name.endsWith(".log.gz"));
+  }
+
+  /**
+   * Checks whether the given log file is GZIP compressed based on its file name.
+   *
+   * @param file the file to check; cannot be null
+   * @return {@code true} if the file is compressed, {@code false} otherwise
+   */
+  private static boolean isCompressed(@NotNull Path file) {
+    return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz");
+  }
+}
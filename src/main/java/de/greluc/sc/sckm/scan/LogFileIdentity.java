@@ -0,0 +1,175 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Identifies a concrete instance of a log file independent of its path.
+ *
+ * <p>Star Citizen moves the {@code game.log} into the {@code logbackups} directory and creates a
+ * new one on every start of the client. A reader that only remembers a path and an offset can't
+ * tell these files apart, so this record captures the properties that change when the file is
+ * replaced:
+ *
+ * <ul>
+ *   <li><strong>fileKey</strong>: The key of the file provided by the file system (e.g., device
+ *       and inode). Not all platforms provide it, in which case it is {@code null}.
+ *   <li><strong>creationTime</strong>: The creation time of the file.
+ *   <li><strong>firstLineHash</strong>: A CRC32 checksum of the first line. The first line of the
+ *       {@code game.log} contains the start time of the client, which makes it unique per file
+ *       even if the file system reuses the creation time of a deleted file for a new one with the
+ *       same name.
+ *   <li><strong>firstLineLength</strong>: The length of the first line in bytes, or {@code -1} if
+ *       the first line isn't complete yet.
+ * </ul>
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public record LogFileIdentity(
+    Object fileKey, FileTime creationTime, long firstLineHash, int firstLineLength) {
+  private static final int FIRST_LINE_LIMIT = 4096;
+
+  /**
+   * Determines the identity of the file that is accessed through the given channel.
+   *
+   * @param path the path the channel was opened for; cannot be null
+   * @param channel the open channel of the file; cannot be null
+   * @return the identity of the file; never null
+   * @throws IOException if the attributes or the first line of the file can't be read
+   */
+  public static @NotNull LogFileIdentity of(@NotNull Path path, @NotNull FileChannel channel)
+      throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    return withFirstLine(attributes.fileKey(), attributes.creationTime(), channel);
+  }
+
+  /**
+   * Indicates whether the first line of the file was complete when the identity was determined.
+   *
+   * @return {@code true} if the first line hash is known, {@code false} otherwise
+   */
+  public boolean hasFirstLine() {
+    return firstLineLength >= 0;
+  }
+
+  /**
+   * Completes the first line of this identity from the given channel if it wasn't complete when the
+   * identity was determined.
+   *
+   * @param channel the open channel of the file described by this identity; cannot be null
+   * @return this identity if the first line is already known, otherwise an identity with the first
+   *     line read from the channel; never null
+   * @throws IOException if the first line can't be read
+   */
+  public @NotNull LogFileIdentity completeFirstLine(@NotNull FileChannel channel)
+      throws IOException {
+    if (hasFirstLine()) {
+      return this;
+    }
+    LogFileIdentity completed = withFirstLine(fileKey, creationTime, channel);
+    return completed.hasFirstLine() ? completed : this;
+  }
+
+  /**
+   * Checks whether the file currently found at the given path is still the file described by this
+   * identity.
+   *
+   * <p>The check is designed to be cheap: if the file system provides file keys, only the
+   * attributes of the file are read. Otherwise, the creation time is compared and, if the first
+   * line of this file is known, the first line of the current file is read and compared as well.
+   *
+   * @param path the path of the log file; cannot be null
+   * @return {@code true} if the file at the path is the same file, {@code false} if it was replaced
+   * @throws IOException if the attributes or the first line of the current file can't be read
+   */
+  public boolean matches(@NotNull Path path) throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    LogFileIdentity current =
+        new LogFileIdentity(attributes.fileKey(), attributes.creationTime(), 0, -1);
+    if ((fileKey != null && current.fileKey != null) || !hasFirstLine()) {
+      return isSameFileAs(current);
+    }
+    try (FileChannel channel = FileChannel.open(path)) {
+      return isSameFileAs(current.completeFirstLine(channel));
+    }
+  }
+
+  /**
+   * Checks whether the given identity, which was determined later than this one, describes the
+   * same file.
+   *
+   * <p>File keys are compared if both identities have one. Otherwise, the creation times and, if
+   * known, the first lines are compared. A file whose first line was complete can't lose it again
+   * without being replaced or truncated, so a later identity without a complete first line is
+   * considered a different file.
+   *
+   * @param later the identity determined later; cannot be null
+   * @return {@code true} if both identities describe the same file, {@code false} otherwise
+   */
+  public boolean isSameFileAs(@NotNull LogFileIdentity later) {
+    if (fileKey != null && later.fileKey != null) {
+      return fileKey.equals(later.fileKey);
+    }
+    if (!Objects.equals(creationTime, later.creationTime)) {
+      return false;
+    }
+    if (!hasFirstLine()) {
+      return true;
+    }
+    return later.firstLineLength == firstLineLength && later.firstLineHash == firstLineHash;
+  }
+
+  /**
+   * Creates the identity from the given attributes and the first line read from the channel.
+   *
+   * @param fileKey the key of the file; may be null
+   * @param creationTime the creation time of the file; may be null
+   * @param channel the open channel of the file; cannot be null
+   * @return the identity of the file; never null
+   * @throws IOException if the first line can't be read
+   */
+  private static @NotNull LogFileIdentity withFirstLine(
+      Object fileKey, FileTime creationTime, @NotNull FileChannel channel) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(FIRST_LINE_LIMIT);
+    int read = channel.read(buffer, 0);
+    byte[] bytes = buffer.array();
+    for (int i = 0; i < read; i++) {
+      if (bytes[i] == '\n') {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, i);
+        return new LogFileIdentity(fileKey, creationTime, crc.getValue(), i);
+      }
+    }
+    return new LogFileIdentity(fileKey, creationTime, 0, -1);
+  }
+}
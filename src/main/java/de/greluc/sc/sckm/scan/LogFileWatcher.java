@@ -0,0 +1,211 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The LogFileWatcher class blocks a scan thread until the watched log file has changed.
+ *
+ * <p>The directory containing the log file is registered with a {@link WatchService}, so the
+ * waiting thread is woken up by the operating system as soon as the file is created or modified.
+ * Some platforms deliver these notifications late or not at all while another process keeps the
+ * file open, and some file systems don't support them at all. Therefore, the size and modification
+ * time of the file are additionally polled in a short, fixed interval. If the {@link WatchService}
+ * can't be created, the watcher relies on polling alone.
+ *
+ * <p>A change is only reported if the size or the modification time of the file differs from the
+ * state observed at the previous change, so notifications for other files in the same directory
+ * don't trigger a scan.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class LogFileWatcher implements AutoCloseable {
+  private static final long POLL_INTERVAL_MILLIS = 1000;
+
+  private final Path file;
+  private final WatchService watchService;
+  private long lastSize = -1;
+  private long lastModified = -1;
+
+  /**
+   * Creates a new watcher for the given log file and registers its parent directory with a {@link
+   * WatchService}. If the registration fails, the watcher falls back to polling.
+   *
+   * @param file the log file to watch; cannot be null
+   */
+  public LogFileWatcher(@NotNull Path file) {
+    this(file, true);
+  }
+
+  /**
+   * Creates a new watcher for the given log file, which either registers the parent directory of
+   * the file with a {@link WatchService} or relies on polling alone.
+   *
+   * @param file the log file to watch; cannot be null
+   * @param isWatching {@code true} to register a {@link WatchService}, {@code false} to poll only
+   */
+  LogFileWatcher(@NotNull Path file, boolean isWatching) {
+    this.file = file.toAbsolutePath();
+    this.watchService = isWatching ? createWatchService(this.file.getParent()) : null;
+    updateFileState();
+  }
+
+  /**
+   * Waits until the watched log file has changed or the given timeout has elapsed.
+   *
+   * @param timeout the maximum time to wait
+   * @param unit the unit of the {@code timeout} argument; cannot be null
+   * @return {@code true} if the size or modification time of the file has changed since the last
+   *     reported change, {@code false} if the timeout elapsed without a change
+   * @throws InterruptedException if the waiting thread is interrupted
+   */
+  public boolean awaitChange(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (true) {
+      if (updateFileState()) {
+        return true;
+      }
+      long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      if (remainingMillis <= 0) {
+        return false;
+      }
+      waitForNotification(Math.min(remainingMillis, POLL_INTERVAL_MILLIS));
+    }
+  }
+
+  /**
+   * Indicates whether the watcher receives notifications from the operating system or only polls
+   * the log file.
+   *
+   * @return {@code true} if a {@link WatchService} is in use, {@code false} if only polling is used
+   */
+  public boolean isEventDriven() {
+    return watchService != null;
+  }
+
+  /**
+   * Closes the underlying {@link WatchService}, if any.
+   *
+   * @throws IOException if closing the {@link WatchService} fails
+   */
+  @Override
+  public void close() throws IOException {
+    if (watchService != null) {
+      watchService.close();
+    }
+  }
+
+  /**
+   * Blocks until a notification for the directory of the log file arrives or the given time has
+   * elapsed. Without a {@link WatchService}, the method simply sleeps.
+   *
+   * @param millis the maximum time to wait in milliseconds
+   * @throws InterruptedException if the waiting thread is interrupted
+   */
+  private void waitForNotification(long millis) throws InterruptedException {
+    if (watchService == null) {
+      TimeUnit.MILLISECONDS.sleep(millis);
+      return;
+    }
+    WatchKey key = watchService.poll(millis, TimeUnit.MILLISECONDS);
+    if (key == null) {
+      return;
+    }
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() != OVERFLOW) {
+        log.trace("Received {} for {}", event.kind(), event.context());
+      }
+    }
+    if (!key.reset()) {
+      log.warn("Directory of {} is no longer watched. Falling back to polling.", file);
+      TimeUnit.MILLISECONDS.sleep(millis);
+    }
+  }
+
+  /**
+   * Reads the current size and modification time of the log file and compares them with the last
+   * observed state.
+   *
+   * @return {@code true} if the state of the file has changed, {@code false} otherwise
+   */
+  private boolean updateFileState() {
+    long size = -1;
+    long modified = -1;
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      size = attributes.size();
+      modified = attributes.lastModifiedTime().toMillis();
+    } catch (IOException ioException) {
+      log.trace("Couldn't read the attributes of {}", file, ioException);
+    }
+    boolean changed = size != lastSize || modified != lastModified;
+    lastSize = size;
+    lastModified = modified;
+    return changed;
+  }
+
+  /**
+   * Creates a {@link WatchService} and registers the given directory for creation and modification
+   * events.
+   *
+   * @param directory the directory to watch; may be null if the file has no parent directory
+   * @return the registered {@link WatchService}, or {@code null} if no notifications are available
+   */
+  private static WatchService createWatchService(Path directory) {
+    if (directory == null) {
+      return null;
+    }
+    WatchService service = null;
+    try {
+      service = directory.getFileSystem().newWatchService();
+      directory.register(service, ENTRY_CREATE, ENTRY_MODIFY);
+      return service;
+    } catch (IOException | UnsupportedOperationException exception) {
+      log.warn("Couldn't watch directory {}. Falling back to polling.", directory);
+      log.trace("Stacktrace:", exception);
+      if (service != null) {
+        try {
+          service.close();
+        } catch (IOException ignored) {
+          // The service is discarded anyway.
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,260 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The LogTailReader class provides incremental read access to a growing log file such as the
+ * {@code game.log} of Star Citizen. Instead of reading the whole file on every scan, it remembers
+ * the byte offset up to which the file has already been consumed and only reads the bytes appended
+ * since the last call.
+ *
+ * <p>Lines that are not yet terminated by a line break at the end of the file are kept back as a
+ * partial line and completed during the next read. This guarantees that every line is handed to the
+ * caller exactly once and never in a truncated state.
+ *
+ * <p>The reader keeps the file open between two calls and tracks its {@link LogFileIdentity}. When
+ * the client is restarted, the old file is moved away and a new one is created at the same path.
+ * The reader detects this, reads the remaining lines of the old file through the still open
+ * channel, and continues with the new file from its beginning. If the file was truncated in place,
+ * the reader starts again from the beginning of the file. In both cases, lines that were already
+ * returned are never returned a second time.
+ *
+ * <p>The file is read through a {@link FileChannel} into a direct buffer that is borrowed from a
+ * shared pool for the duration of a read, and the lines are decoded as UTF-8 by a reusable decoder.
+ * Lines longer than {@value LineSplitter#DEFAULT_MAX_LINE_LENGTH} bytes are skipped and counted.
+ * Callers that don't need to keep the lines can read them with {@link #readNewLines(Consumer)},
+ * which doesn't create a string per line.
+ *
+ * <p>A reader can be created with a line filter, in which case only the lines in which the given
+ * {@link ByteMatcher} finds a match are returned. The filter is applied to the raw bytes, so all
+ * other lines are skipped without being decoded.
+ *
+ * <p>Instances of this class are stateful and not thread-safe. Each scanned file needs its own
+ * reader, which must be closed when it is no longer needed.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class LogTailReader implements AutoCloseable {
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_POOLED_BUFFERS = 8;
+  private static final DirectBufferPool BUFFER_POOL =
+      new DirectBufferPool(READ_BUFFER_SIZE, MAX_POOLED_BUFFERS);
+
+  @Getter private final Path path;
+  private final LineSplitter lineSplitter;
+  private FileChannel channel;
+  private LogFileIdentity identity;
+  @Getter private long offset = 0;
+  @Getter private int rotationCount = 0;
+
+  /**
+   * Creates a new reader for the given log file. The reader starts at the beginning of the file, so
+   * the first call to {@link #readNewLines()} returns all lines currently present in the file.
+   *
+   * @param path the path of the log file to read; cannot be null
+   */
+  public LogTailReader(@NotNull Path path) {
+    this(path, null);
+  }
+
+  /**
+   * Creates a new reader for the given log file that only returns the lines in which the given
+   * matcher finds a match. The reader starts at the beginning of the file.
+   *
+   * @param path the path of the log file to read; cannot be null
+   * @param lineFilter the matcher that must find a match in a line for it to be returned, or
+   *     {@code null} to return all lines
+   */
+  public LogTailReader(@NotNull Path path, ByteMatcher lineFilter) {
+    this.path = path;
+    this.lineSplitter = new LineSplitter(lineFilter);
+  }
+
+  /**
+   * Reads all complete lines that were appended to the log file since the last call.
+   *
+   * <p>Only the bytes between the remembered offset and the current end of the file are read, so
+   * the cost of a call depends on the amount of new data and not on the size of the file. A
+   * trailing line without a line break is carried over to the next call. Line breaks are removed
+   * from the returned lines, and the content is decoded as UTF-8. If the reader has a line filter,
+   * only the lines in which it finds a match are returned.
+   *
+   * <p>If the file was replaced since the last call, the remaining lines of the old file are
+   * returned first, followed by the lines of the new file.
+   *
+   * @return a list of the complete lines appended since the last call, in file order; never null
+   * @throws IOException if the log file can't be opened or read
+   */
+  public @NotNull List<String> readNewLines() throws IOException {
+    List<String> lines = new ArrayList<>();
+    readNewLines(line -> lines.add(line.toString()));
+    return lines;
+  }
+
+  /**
+   * Reads all complete lines that were appended to the log file since the last call and hands them
+   * to the given consumer in file order. Apart from that, this method behaves like {@link
+   * #readNewLines()}.
+   *
+   * <p>The passed {@link CharSequence} is reused for the next line and is only valid during the
+   * call of the consumer. A consumer that keeps a line has to copy it.
+   *
+   * @param consumer the consumer of the lines; cannot be null
+   * @throws IOException if the log file can't be opened or read
+   */
+  public void readNewLines(@NotNull Consumer<CharSequence> consumer) throws IOException {
+    if (channel == null) {
+      open();
+    } else if (isReplaced()) {
+      rotationCount++;
+      log.info("Log file {} was replaced. Continuing with the new file.", path);
+      drainReplacedFile(consumer);
+      open();
+    }
+    if (channel.size() < offset) {
+      log.info("Log file {} was truncated. Reading it from the start.", path);
+      reset();
+    }
+    readAvailable(consumer);
+    identity = identity.completeFirstLine(channel);
+  }
+
+  /**
+   * Returns the number of lines that were skipped because they exceeded the maximum line length.
+   *
+   * @return the number of skipped lines since the reader was created
+   */
+  public long getOversizeLineCount() {
+    return lineSplitter.getOversizeLineCount();
+  }
+
+  /**
+   * Resets the reader to the beginning of the file and discards any pending partial line. The next
+   * call to {@link #readNewLines()} reads the whole file again.
+   */
+  public void reset() {
+    offset = 0;
+    lineSplitter.reset();
+  }
+
+  /**
+   * Closes the log file. A subsequent call to {@link #readNewLines()} reopens the file at the
+   * remembered offset.
+   *
+   * @throws IOException if closing the file fails
+   */
+  @Override
+  public void close() throws IOException {
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  /**
+   * Opens the file at the configured path and determines its identity. If the identity differs from
+   * the previously read file, the reader starts at the beginning of the new file.
+   *
+   * @throws IOException if the file can't be opened or its identity can't be determined
+   */
+  private void open() throws IOException {
+    close();
+    channel = FileChannel.open(path, StandardOpenOption.READ);
+    LogFileIdentity newIdentity = LogFileIdentity.of(path, channel);
+    if (identity != null && !identity.isSameFileAs(newIdentity)) {
+      reset();
+    }
+    identity = newIdentity;
+  }
+
+  /**
+   * Checks whether the file at the configured path is no longer the file that is currently open.
+   * While no file exists at the path, e.g. between moving the old file away and creating the new
+   * one, the open file is still considered current.
+   *
+   * @return {@code true} if a different file exists at the path, {@code false} otherwise
+   * @throws IOException if the attributes of the file can't be read
+   */
+  private boolean isReplaced() throws IOException {
+    try {
+      return !identity.matches(path);
+    } catch (NoSuchFileException noSuchFileException) {
+      log.debug("Log file {} doesn't exist at the moment", path);
+      return false;
+    }
+  }
+
+  /**
+   * Reads the remaining lines of the open file, which has been replaced at its path, and closes
+   * it. A pending partial line is returned as well, since the file won't be continued.
+   *
+   * @param consumer the consumer of the remaining lines; cannot be null
+   * @throws IOException if the old file can't be read
+   */
+  private void drainReplacedFile(@NotNull Consumer<CharSequence> consumer) throws IOException {
+    if (channel.size() >= offset) {
+      readAvailable(consumer);
+      lineSplitter.flush(consumer);
+    }
+    reset();
+    close();
+  }
+
+  /**
+   * Reads all bytes between the remembered offset and the current end of the open file.
+   *
+   * @param consumer the consumer of the complete lines; cannot be null
+   * @throws IOException if the file can't be read
+   */
+  private void readAvailable(@NotNull Consumer<CharSequence> consumer) throws IOException {
+    long size = channel.size();
+    ByteBuffer readBuffer = BUFFER_POOL.acquire();
+    try {
+      while (offset < size) {
+        readBuffer.clear();
+        int read = channel.read(readBuffer, offset);
+        if (read <= 0) {
+          break;
+        }
+        offset += read;
+        lineSplitter.split(readBuffer.flip(), consumer);
+      }
+    } finally {
+      BUFFER_POOL.release(readBuffer);
+    }
+  }
+}
@@ -0,0 +1,293 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The MultiBytePattern class searches for several byte sequences at the same time, e.g. the markers
+ * of all log event types that are of interest.
+ *
+ * <p>The patterns are compiled into an Aho-Corasick automaton. Each byte of the input causes
+ * exactly one transition, and a state reached after the last byte of a pattern reports a match.
+ * The cost of a search therefore only depends on the length of the input and not on the number of
+ * patterns. The transitions of all states are precomputed into a single table, so a step is a
+ * single array access without following failure links.
+ *
+ * <p>Since the interesting lines of a log file are rare, most of the input doesn't contain a
+ * pattern at all. The search over raw bytes therefore moves a window as long as the shortest
+ * pattern across the input and skips ahead like the Horspool algorithm, based on the last byte of
+ * the window and the beginnings of all patterns. Only where a pattern may start, the automaton is
+ * run to confirm the match.
+ *
+ * <p>If several patterns match, the one whose occurrence ends first is reported. If several
+ * patterns end at the same position, the one that was passed first wins.
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class MultiBytePattern implements ByteMatcher {
+  private static final int ALPHABET_SIZE = 256;
+  private static final int NO_MATCH = -1;
+
+  private final int[] transitions;
+  private final int[] matchedPattern;
+  private final int[] patternLengths;
+  private final int minLength;
+  private final int maxLength;
+  private final int[] shift = new int[ALPHABET_SIZE];
+  private final boolean[] candidateLastByte = new boolean[ALPHABET_SIZE];
+
+  /**
+   * Compiles the given patterns into an automaton.
+   *
+   * @param patterns the UTF-8 encoded patterns; cannot be null, empty or contain empty patterns
+   */
+  private MultiBytePattern(@NotNull List<byte[]> patterns) {
+    patternLengths = patterns.stream().mapToInt(pattern -> pattern.length).toArray();
+    minLength = Arrays.stream(patternLengths).min().orElseThrow();
+    maxLength = Arrays.stream(patternLengths).max().orElseThrow();
+    Arrays.fill(shift, minLength);
+    for (byte[] pattern : patterns) {
+      for (int j = 0; j < minLength - 1; j++) {
+        shift[pattern[j] & 0xFF] = Math.min(shift[pattern[j] & 0xFF], minLength - 1 - j);
+      }
+      candidateLastByte[pattern[minLength - 1] & 0xFF] = true;
+    }
+    List<int[]> trie = new ArrayList<>();
+    List<Integer> outputs = new ArrayList<>();
+    trie.add(newState());
+    outputs.add(NO_MATCH);
+    for (int index = 0; index < patterns.size(); index++) {
+      int state = 0;
+      for (byte b : patterns.get(index)) {
+        int next = trie.get(state)[b & 0xFF];
+        if (next <= 0) {
+          next = trie.size();
+          trie.add(newState());
+          outputs.add(NO_MATCH);
+          trie.get(state)[b & 0xFF] = next;
+        }
+        state = next;
+      }
+      if (outputs.get(state) == NO_MATCH) {
+        outputs.set(state, index);
+      }
+    }
+    transitions = new int[trie.size() * ALPHABET_SIZE];
+    matchedPattern = outputs.stream().mapToInt(Integer::intValue).toArray();
+    buildAutomaton(trie);
+  }
+
+  /**
+   * Creates a new pattern set that searches for the UTF-8 encoding of the given texts.
+   *
+   * @param texts the texts to search for, in order of precedence; cannot be null or empty
+   * @return the new pattern set; never null
+   * @throws IllegalArgumentException if no text or an empty text is passed
+   */
+  public static @NotNull MultiBytePattern of(@NotNull List<String> texts) {
+    if (texts.isEmpty() || texts.stream().anyMatch(String::isEmpty)) {
+      throw new IllegalArgumentException("At least one pattern is needed and none may be empty");
+    }
+    return new MultiBytePattern(
+        texts.stream().map(text -> text.getBytes(StandardCharsets.UTF_8)).toList());
+  }
+
+  /**
+   * Returns the number of patterns.
+   *
+   * @return the number of patterns in the set
+   */
+  public int size() {
+    return patternLengths.length;
+  }
+
+  @Override
+  public int indexOf(byte @NotNull [] bytes, int from, int to) {
+    for (int i = from + minLength - 1; i < to; i += shift[bytes[i] & 0xFF]) {
+      if (candidateLastByte[bytes[i] & 0xFF]) {
+        int windowStart = i - minLength + 1;
+        int state = 0;
+        for (int j = windowStart; j < Math.min(to, windowStart + maxLength); j++) {
+          state = transitions[state * ALPHABET_SIZE + (bytes[j] & 0xFF)];
+          if (matchedPattern[state] != NO_MATCH) {
+            return j + 1 - patternLengths[matchedPattern[state]];
+          }
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(@NotNull ByteBuffer buffer, int from, int to) {
+    int i = from + minLength - 1;
+    while (i < to) {
+      int last = buffer.get(i) & 0xFF;
+      if (candidateLastByte[last]) {
+        int windowStart = i - minLength + 1;
+        int state = 0;
+        for (int j = windowStart; j < Math.min(to, windowStart + maxLength); j++) {
+          state = transitions[state * ALPHABET_SIZE + (buffer.get(j) & 0xFF)];
+          if (matchedPattern[state] != NO_MATCH) {
+            return j + 1 - patternLengths[matchedPattern[state]];
+          }
+        }
+      }
+      i += shift[last];
+    }
+    return -1;
+  }
+
+  @Override
+  public long indexOf(@NotNull MemorySegment segment, long from, long to) {
+    long i = from + minLength - 1;
+    while (i < to) {
+      int last = segment.get(ValueLayout.JAVA_BYTE, i) & 0xFF;
+      if (candidateLastByte[last]) {
+        long windowStart = i - minLength + 1;
+        int state = 0;
+        for (long j = windowStart; j < Math.min(to, windowStart + maxLength); j++) {
+          int b = segment.get(ValueLayout.JAVA_BYTE, j) & 0xFF;
+          state = transitions[state * ALPHABET_SIZE + b];
+          if (matchedPattern[state] != NO_MATCH) {
+            return j + 1 - patternLengths[matchedPattern[state]];
+          }
+        }
+      }
+      i += shift[last];
+    }
+    return -1;
+  }
+
+  /**
+   * Determines which pattern occurs first in the given text. The text is matched against the UTF-8
+   * encoding of the patterns, so the result is the same as for the encoded text.
+   *
+   * @param text the text to search in, e.g. a decoded log line; cannot be null
+   * @return the index of the pattern in the list passed to {@link #of(List)}, or {@code -1} if no
+   *     pattern occurs
+   */
+  public int findPattern(@NotNull CharSequence text) {
+    int state = 0;
+    for (int i = 0; i < text.length(); i++) {
+      int codePoint = text.charAt(i);
+      if (Character.isHighSurrogate((char) codePoint)
+          && i + 1 < text.length()
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        codePoint = Character.toCodePoint((char) codePoint, text.charAt(++i));
+      }
+      if (codePoint < 0x80) {
+        state = step(state, codePoint);
+      } else if (codePoint < 0x800) {
+        state = step(step(state, 0xC0 | codePoint >> 6), 0x80 | codePoint & 0x3F);
+      } else if (codePoint < 0x10000) {
+        state = step(state, 0xE0 | codePoint >> 12);
+        state = step(step(state, 0x80 | codePoint >> 6 & 0x3F), 0x80 | codePoint & 0x3F);
+      } else {
+        state = step(step(state, 0xF0 | codePoint >> 18), 0x80 | codePoint >> 12 & 0x3F);
+        state = step(step(state, 0x80 | codePoint >> 6 & 0x3F), 0x80 | codePoint & 0x3F);
+      }
+      if (state < 0) {
+        return -state - 1;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Performs a single transition while matching a text. A state that reports a match is returned
+   * as the negative pattern index minus one, and further transitions keep this value.
+   *
+   * @param state the current state or a reported match
+   * @param b the next byte of the encoded text
+   * @return the next state or a reported match
+   */
+  private int step(int state, int b) {
+    if (state < 0) {
+      return state;
+    }
+    int next = transitions[state * ALPHABET_SIZE + b];
+    return matchedPattern[next] != NO_MATCH ? -matchedPattern[next] - 1 : next;
+  }
+
+  /**
+   * Computes the failure link of every state in breadth-first order and fills the transition
+   * table. Missing transitions are replaced by the transition of the failure state, and a state
+   * inherits the match of its failure state if that pattern takes precedence, since both end at
+   * the same position.
+   *
+   * @param trie the goto function of the trie, where {@code 0} marks a missing transition; cannot
+   *     be null
+   */
+  private void buildAutomaton(@NotNull List<int[]> trie) {
+    int[] failure = new int[trie.size()];
+    int[] queue = new int[trie.size()];
+    int head = 0;
+    int tail = 0;
+    for (int b = 0; b < ALPHABET_SIZE; b++) {
+      int next = trie.getFirst()[b];
+      transitions[b] = next;
+      if (next > 0) {
+        queue[tail++] = next;
+      }
+    }
+    while (head < tail) {
+      int state = queue[head++];
+      int inherited = matchedPattern[failure[state]];
+      if (inherited != NO_MATCH
+          && (matchedPattern[state] == NO_MATCH || inherited < matchedPattern[state])) {
+        matchedPattern[state] = inherited;
+      }
+      for (int b = 0; b < ALPHABET_SIZE; b++) {
+        int next = trie.get(state)[b];
+        int fallback = transitions[failure[state] * ALPHABET_SIZE + b];
+        if (next > 0) {
+          failure[next] = fallback;
+          transitions[state * ALPHABET_SIZE + b] = next;
+          queue[tail++] = next;
+        } else {
+          transitions[state * ALPHABET_SIZE + b] = fallback;
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates the goto function of a new trie state without any transitions.
+   *
+   * @return an array with one entry per byte value, all {@code 0}; never null
+   */
+  private static int @NotNull [] newState() {
+    return new int[ALPHABET_SIZE];
+  }
+}
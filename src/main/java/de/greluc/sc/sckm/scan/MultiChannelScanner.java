@@ -0,0 +1,223 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import de.greluc.sc.sckm.data.ChannelKillEvent;
+import de.greluc.sc.sckm.data.ChannelType;
+import de.greluc.sc.sckm.data.KillEvent;
+import de.greluc.sc.sckm.data.LogEventRegistry;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The MultiChannelScanner class monitors the log files of several channels at the same time, e.g.
+ * the LIVE and PTU clients running side by side.
+ *
+ * <p>Each log file is tailed by its own virtual thread combining a {@link LogTailReader} with a
+ * {@link LogFileWatcher} if the scan is event-driven, or reading the log file once per scan
+ * interval otherwise. Since a waiting virtual thread doesn't occupy a platform thread, the cost of
+ * an additional channel is a single lightweight scanner. All tailers feed a shared, bounded
+ * queue of {@link ChannelKillEvent} objects, which tags every kill event with its channel. If the
+ * consumer falls behind, the tailers block until there is room in the queue again.
+ *
+ * <p>Log files that don't exist yet or can't be read are retried on the next change instead of
+ * stopping the scan, since a channel's client may be started at any time.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class MultiChannelScanner implements AutoCloseable {
+  private static final int QUEUE_CAPACITY = 10_000;
+  private static final Duration JOIN_TIMEOUT = Duration.ofSeconds(5);
+
+  private final Map<ChannelType, Path> channelPaths;
+  private final boolean isEventDriven;
+  private final Duration scanInterval;
+  private final BlockingQueue<ChannelKillEvent> killEvents =
+      new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+  private final List<Thread> tailers = new ArrayList<>();
+
+  /**
+   * Creates a new scanner for the given log files. The scanner doesn't start before {@link
+   * #start()} is called.
+   *
+   * @param channelPaths the log file to monitor for each channel; cannot be null
+   * @param isEventDriven {@code true} to wait for changes of the log files with a {@link
+   *     LogFileWatcher}, {@code false} to read them once per scan interval
+   * @param scanInterval the interval between two reads of a log file, which is also the timeout
+   *     of waiting for a change if the scan is event-driven; cannot be null
+   */
+  public MultiChannelScanner(
+      @NotNull Map<ChannelType, Path> channelPaths,
+      boolean isEventDriven,
+      @NotNull Duration scanInterval) {
+    this.channelPaths = Map.copyOf(channelPaths);
+    this.isEventDriven = isEventDriven;
+    this.scanInterval = scanInterval;
+  }
+
+  /** Starts one virtual thread per configured channel that tails the channel's log file. */
+  public synchronized void start() {
+    if (!tailers.isEmpty()) {
+      return;
+    }
+    channelPaths.forEach(
+        (channel, path) -> {
+          log.info("Starting to monitor channel {} using log file {}", channel, path);
+          tailers.add(
+              Thread.ofVirtual()
+                  .name("sckm-tailer-" + channel.name().toLowerCase(Locale.ROOT))
+                  .start(() -> tail(channel, path)));
+        });
+  }
+
+  /**
+   * Retrieves the next kill event of any channel, waiting if none is available.
+   *
+   * @return the next kill event tagged with its channel; never null
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  public @NotNull ChannelKillEvent take() throws InterruptedException {
+    return killEvents.take();
+  }
+
+  /**
+   * Moves all kill events that are currently available without waiting to the given collection.
+   *
+   * @param target the collection to which the kill events are added; cannot be null
+   * @return the number of moved kill events
+   */
+  public int drainTo(@NotNull Collection<? super ChannelKillEvent> target) {
+    return killEvents.drainTo(target);
+  }
+
+  /**
+   * Stops all tailers and waits up to five seconds in total until they have closed their log files.
+   * Kill events that weren't taken yet are discarded. If the calling thread is interrupted, the
+   * interrupt status is cleared while waiting and restored afterward.
+   */
+  @Override
+  public synchronized void close() {
+    boolean isInterrupted = Thread.interrupted();
+    tailers.forEach(Thread::interrupt);
+    long deadline = System.nanoTime() + JOIN_TIMEOUT.toNanos();
+    for (Thread tailer : tailers) {
+      try {
+        if (!tailer.join(Duration.ofNanos(Math.max(1, deadline - System.nanoTime())))) {
+          log.warn("The tailer {} didn't stop in time", tailer.getName());
+        }
+      } catch (InterruptedException interruptedException) {
+        isInterrupted = true;
+      }
+    }
+    tailers.clear();
+    killEvents.clear();
+    if (isInterrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Tails the log file of a single channel until the thread is interrupted.
+   *
+   * @param channel the channel of the log file; cannot be null
+   * @param path the path of the log file; cannot be null
+   */
+  private void tail(@NotNull ChannelType channel, @NotNull Path path) {
+    try (LogTailReader reader =
+            new LogTailReader(path, LogEventRegistry.getDefault().getMatcher());
+        LogFileWatcher watcher = isEventDriven ? new LogFileWatcher(path) : null) {
+      while (!Thread.currentThread().isInterrupted()) {
+        readKillEvents(channel, reader);
+        waitForChange(channel, watcher);
+      }
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    } catch (IOException ioException) {
+      log.warn("Couldn't close the log file of channel {}", channel);
+      log.trace("Stacktrace:", ioException);
+    }
+    log.debug("Stopped monitoring channel {}", channel);
+  }
+
+  /**
+   * Blocks until the log file of a channel has changed or, without a watcher, until the scan
+   * interval has passed.
+   *
+   * @param channel the channel of the log file; cannot be null
+   * @param watcher the watcher of the log file, or {@code null} if the scan isn't event-driven
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  private void waitForChange(@NotNull ChannelType channel, LogFileWatcher watcher)
+      throws InterruptedException {
+    long intervalMillis = scanInterval.toMillis();
+    if (watcher == null) {
+      TimeUnit.MILLISECONDS.sleep(intervalMillis);
+      return;
+    }
+    while (!watcher.awaitChange(intervalMillis, TimeUnit.MILLISECONDS)) {
+      log.trace("Log file of channel {} didn't change", channel);
+    }
+  }
+
+  /**
+   * Reads the lines appended to the log file of a channel and queues the contained kill events.
+   *
+   * @param channel the channel of the log file; cannot be null
+   * @param reader the reader of the log file; cannot be null
+   * @throws InterruptedException if the thread is interrupted while waiting for room in the queue
+   */
+  private void readKillEvents(@NotNull ChannelType channel, @NotNull LogTailReader reader)
+      throws InterruptedException {
+    List<String> lines;
+    try {
+      lines = reader.readNewLines();
+    } catch (NoSuchFileException noSuchFileException) {
+      log.debug("Log file of channel {} doesn't exist yet", channel);
+      return;
+    } catch (IOException ioException) {
+      log.warn("Failed to read the log file of channel {}", channel);
+      log.trace("Stacktrace:", ioException);
+      return;
+    }
+    for (String line : lines) {
+      Optional<?> event = LogEventRegistry.getDefault().parse(line);
+      if (event.isPresent() && event.get() instanceof KillEvent killEvent) {
+        killEvents.put(new ChannelKillEvent(channel, killEvent));
+      }
+    }
+  }
+}
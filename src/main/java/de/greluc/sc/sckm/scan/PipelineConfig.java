@@ -0,0 +1,70 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import java.time.Duration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Configures the stages of an {@link IngestionPipeline}.
+ *
+ * <ul>
+ *   <li><strong>queueCapacity</strong>: The maximum number of items waiting between two stages.
+ *       A stage whose successor falls behind blocks once the queue in between is full.
+ *   <li><strong>parserCount</strong>: The number of threads that parse lines concurrently. With
+ *       more than one parser, kill events found in the same read may reach the sinks in a
+ *       different order than they were logged.
+ *   <li><strong>scanInterval</strong>: The time the read stage waits for the next change of the
+ *       log file before it reads the file again anyway.
+ * </ul>
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public record PipelineConfig(int queueCapacity, int parserCount, @NotNull Duration scanInterval) {
+  private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+  /**
+   * Creates a new configuration and validates its values.
+   *
+   * @throws IllegalArgumentException if the capacity or number of parsers isn't positive or the
+   *     interval is negative
+   */
+  public PipelineConfig {
+    if (queueCapacity <= 0 || parserCount <= 0 || scanInterval.isNegative()) {
+      throw new IllegalArgumentException("Invalid pipeline configuration");
+    }
+  }
+
+  /**
+   * Creates a configuration with the default queue capacity and a single parser, which keeps the
+   * kill events in the order they were logged. Parsing a line takes well below a microsecond, so a
+   * single parser keeps up with the game's log output.
+   *
+   * @param scanInterval the time the read stage waits for the next change of the log file; cannot
+   *     be null
+   * @return the new configuration; never null
+   */
+  public static @NotNull PipelineConfig withDefaults(@NotNull Duration scanInterval) {
+    return new PipelineConfig(DEFAULT_QUEUE_CAPACITY, 1, scanInterval);
+  }
+}
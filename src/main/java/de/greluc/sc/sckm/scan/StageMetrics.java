@@ -0,0 +1,92 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The StageMetrics class counts the items processed by a single stage of an {@link
+ * IngestionPipeline} and derives its throughput.
+ *
+ * <p>The counter is a {@link LongAdder}, so the threads of a stage can record items concurrently
+ * without contending for a single memory location, while other threads read the metrics at any
+ * time.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class StageMetrics {
+  @Getter private final String name;
+  private final LongAdder processed = new LongAdder();
+  private final long startNanos = System.nanoTime();
+
+  /**
+   * Creates new metrics for a stage. The throughput is measured from this point in time.
+   *
+   * @param name the name of the stage; cannot be null
+   */
+  StageMetrics(@NotNull String name) {
+    this.name = name;
+  }
+
+  /** Records a single processed item. */
+  void recordProcessed() {
+    processed.increment();
+  }
+
+  /**
+   * Records several processed items at once.
+   *
+   * @param count the number of processed items
+   */
+  void recordProcessed(int count) {
+    processed.add(count);
+  }
+
+  /**
+   * Returns the number of items processed by the stage so far.
+   *
+   * @return the number of processed items
+   */
+  public long getProcessedCount() {
+    return processed.sum();
+  }
+
+  /**
+   * Returns the average number of items processed per second since the stage was created.
+   *
+   * @return the throughput in items per second
+   */
+  public double getThroughputPerSecond() {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    return elapsedNanos <= 0 ? 0 : getProcessedCount() * 1_000_000_000.0 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        Locale.ROOT, "%s: %d items (%.1f/s)", name, getProcessedCount(), getThroughputPerSecond());
+  }
+}
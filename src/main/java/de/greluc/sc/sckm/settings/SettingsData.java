@@ -80,6 +80,20 @@ public class SettingsData {
   @Getter private static boolean isShowAllActive = false;
   @Getter private static boolean isWriteKillEventToFile = false;
   @Getter private static boolean isKillerModeActive = false;
+  @Getter private static boolean isEventDrivenScanActive = true;
+  @Getter private static boolean isMultiChannelScanActive = false;
+  @Getter private static boolean isHistoryActive = false;
+  @Getter private static int retentionMaxCount = 0;
+  @Getter private static int retentionMaxAgeHours = 0;
+  @Getter private static int retentionMemoryMib = 64;
+  @Getter private static boolean isSpillToDiskActive = false;
+  @Getter private static boolean isNdjsonOutputActive = false;
+  @Getter private static int outputRollSizeMib = 0;
+  @Getter private static boolean isOutputRollDaily = false;
+  @Getter private static int outputMaxArchives = 0;
+  @Getter private static boolean isFeedServerActive = false;
+  @Getter private static int feedServerPort = 8787;
+  @Getter private static boolean isFeedSocketActive = false;
 
   /** Used to exclude the unused constructor from code coverage evaluation. */
   @Generated
@@ -199,6 +213,170 @@ public class SettingsData {
     listeners.forEach(SettingsListener::settingsChanged);
   }
 
+  /**
+   * Sets whether the log file is scanned as soon as it changes instead of in a fixed interval and
+   * notifies all registered listeners about the change in settings.
+   *
+   * @param isEventDrivenScanActive {@code true} to scan on file changes, {@code false} to scan in
+   *     the configured interval.
+   */
+  public static void setEventDrivenScanActive(boolean isEventDrivenScanActive) {
+    SettingsData.isEventDrivenScanActive = isEventDrivenScanActive;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets whether the log files of all channels with a configured path are scanned at the same time
+   * instead of only the selected channel and notifies all registered listeners about the change in
+   * settings.
+   *
+   * @param isMultiChannelScanActive {@code true} to scan all configured channels, {@code false} to
+   *     scan only the selected channel.
+   */
+  public static void setMultiChannelScanActive(boolean isMultiChannelScanActive) {
+    SettingsData.isMultiChannelScanActive = isMultiChannelScanActive;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets whether kill events are kept in a history across sessions, which is loaded when a scan is
+   * started, and notifies all registered listeners about the change in settings.
+   *
+   * @param isHistoryActive {@code true} to keep the kill events of all sessions, {@code false} to
+   *     keep only those of the current session.
+   */
+  public static void setHistoryActive(boolean isHistoryActive) {
+    SettingsData.isHistoryActive = isHistoryActive;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets the maximum number of kill events kept in memory during a session and notifies all
+   * registered listeners about the change in settings.
+   *
+   * @param retentionMaxCount The maximum number of kill events, or {@code 0} for no limit.
+   */
+  public static void setRetentionMaxCount(int retentionMaxCount) {
+    SettingsData.retentionMaxCount = retentionMaxCount;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets the maximum age of the kill events kept in memory during a session and notifies all
+   * registered listeners about the change in settings.
+   *
+   * @param retentionMaxAgeHours The maximum age in hours, or {@code 0} for no limit.
+   */
+  public static void setRetentionMaxAgeHours(int retentionMaxAgeHours) {
+    SettingsData.retentionMaxAgeHours = retentionMaxAgeHours;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets the estimated memory the kill events kept in memory during a session may take and
+   * notifies all registered listeners about the change in settings.
+   *
+   * @param retentionMemoryMib The memory budget in MiB, or {@code 0} for no limit.
+   */
+  public static void setRetentionMemoryMib(int retentionMemoryMib) {
+    SettingsData.retentionMemoryMib = retentionMemoryMib;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets whether kill events evicted from memory are spilled to a temporary file, from which they
+   * can be loaded again, and notifies all registered listeners about the change in settings. If the
+   * history is active, evicted kill events are loaded from the history instead.
+   *
+   * @param isSpillToDiskActive {@code true} to spill evicted kill events to disk, {@code false} to
+   *     drop them.
+   */
+  public static void setSpillToDiskActive(boolean isSpillToDiskActive) {
+    SettingsData.isSpillToDiskActive = isSpillToDiskActive;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets whether kill events are written to file as newline-delimited JSON, which can be read
+   * line by line, instead of comma-separated, pretty-printed JSON and notifies all registered
+   * listeners about the change in settings.
+   *
+   * @param isNdjsonOutputActive {@code true} to write one compact JSON object per line, {@code
+   *     false} to write pretty-printed JSON objects separated by commas.
+   */
+  public static void setNdjsonOutputActive(boolean isNdjsonOutputActive) {
+    SettingsData.isNdjsonOutputActive = isNdjsonOutputActive;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets the size at which the file kill events are written to is rolled over to a compressed
+   * archive and notifies all registered listeners about the change in settings.
+   *
+   * @param outputRollSizeMib The size in MiB, or {@code 0} to not roll the file over by size.
+   */
+  public static void setOutputRollSizeMib(int outputRollSizeMib) {
+    SettingsData.outputRollSizeMib = outputRollSizeMib;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets whether the file kill events are written to is rolled over to a compressed archive every
+   * day and notifies all registered listeners about the change in settings.
+   *
+   * @param isOutputRollDaily {@code true} to roll the file over on the first kill event of a day,
+   *     {@code false} otherwise.
+   */
+  public static void setOutputRollDaily(boolean isOutputRollDaily) {
+    SettingsData.isOutputRollDaily = isOutputRollDaily;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets the maximum number of archives kept of the rolled-over file kill events are written to
+   * and notifies all registered listeners about the change in settings.
+   *
+   * @param outputMaxArchives The maximum number of archives, or {@code 0} for no limit.
+   */
+  public static void setOutputMaxArchives(int outputMaxArchives) {
+    SettingsData.outputMaxArchives = outputMaxArchives;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets whether new kill events are streamed to local clients by an HTTP server on the loopback
+   * interface during a scan and notifies all registered listeners about the change in settings.
+   *
+   * @param isFeedServerActive {@code true} to serve the live kill feed, {@code false} otherwise.
+   */
+  public static void setFeedServerActive(boolean isFeedServerActive) {
+    SettingsData.isFeedServerActive = isFeedServerActive;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets the port the live kill feed is served on and notifies all registered listeners about the
+   * change in settings.
+   *
+   * @param feedServerPort The port on the loopback interface.
+   */
+  public static void setFeedServerPort(int feedServerPort) {
+    SettingsData.feedServerPort = feedServerPort;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
+  /**
+   * Sets whether new kill events are pushed to local tools connected to a Unix domain socket
+   * during a scan and notifies all registered listeners about the change in settings.
+   *
+   * @param isFeedSocketActive {@code true} to push the live kill feed to the socket, {@code false}
+   *     otherwise.
+   */
+  public static void setFeedSocketActive(boolean isFeedSocketActive) {
+    SettingsData.isFeedSocketActive = isFeedSocketActive;
+    listeners.forEach(SettingsListener::settingsChanged);
+  }
+
   /**
    * Adds a new listener to the list of registered {@link SettingsListener} instances.
    *
@@ -67,6 +67,14 @@ public class SettingsHandler {
    *   <li>Show all flag.
    *   <li>Write kill-event-to-file flag.
    *   <li>Killer-mode-active flag.
+   *   <li>Event-driven-scan-active flag.
+   *   <li>Multi-channel-scan-active flag.
+   *   <li>History-active flag.
+   *   <li>Retention limits of the kill events kept in memory and spill-to-disk flag.
+   *   <li>NDJSON-output flag.
+   *   <li>Rolling of the output file and number of kept archives.
+   *   <li>Feed-server-active flag and port of the feed server.
+   *   <li>Feed-socket-active flag.
    * </ul>
    *
    * <p>Logging is used to capture any exceptions encountered during the flush operation, ensuring
@@ -84,6 +92,22 @@ public class SettingsHandler {
     preferences.putBoolean(SETTINGS_SHOW_ALL, SettingsData.isShowAllActive());
     preferences.putBoolean(SETTINGS_WRITE_TO_FILE, SettingsData.isWriteKillEventToFile());
     preferences.putBoolean(SETTINGS_KILLER_MODE_ACTIVE, SettingsData.isKillerModeActive());
+    preferences.putBoolean(
+        SETTINGS_EVENT_DRIVEN_SCAN_ACTIVE, SettingsData.isEventDrivenScanActive());
+    preferences.putBoolean(
+        SETTINGS_MULTI_CHANNEL_SCAN_ACTIVE, SettingsData.isMultiChannelScanActive());
+    preferences.putBoolean(SETTINGS_HISTORY_ACTIVE, SettingsData.isHistoryActive());
+    preferences.putInt(SETTINGS_RETENTION_MAX_COUNT, SettingsData.getRetentionMaxCount());
+    preferences.putInt(SETTINGS_RETENTION_MAX_AGE_HOURS, SettingsData.getRetentionMaxAgeHours());
+    preferences.putInt(SETTINGS_RETENTION_MEMORY_MIB, SettingsData.getRetentionMemoryMib());
+    preferences.putBoolean(SETTINGS_SPILL_TO_DISK_ACTIVE, SettingsData.isSpillToDiskActive());
+    preferences.putBoolean(SETTINGS_NDJSON_OUTPUT_ACTIVE, SettingsData.isNdjsonOutputActive());
+    preferences.putInt(SETTINGS_OUTPUT_ROLL_SIZE_MIB, SettingsData.getOutputRollSizeMib());
+    preferences.putBoolean(SETTINGS_OUTPUT_ROLL_DAILY, SettingsData.isOutputRollDaily());
+    preferences.putInt(SETTINGS_OUTPUT_MAX_ARCHIVES, SettingsData.getOutputMaxArchives());
+    preferences.putBoolean(SETTINGS_FEED_SERVER_ACTIVE, SettingsData.isFeedServerActive());
+    preferences.putInt(SETTINGS_FEED_SERVER_PORT, SettingsData.getFeedServerPort());
+    preferences.putBoolean(SETTINGS_FEED_SOCKET_ACTIVE, SettingsData.isFeedSocketActive());
     try {
       preferences.flush();
     } catch (BackingStoreException exception) {
@@ -112,6 +136,21 @@ public class SettingsHandler {
    *   <li>{@code SETTINGS_SHOW_ALL}: Boolean flag for showing all events.
    *   <li>{@code SETTINGS_WRITE_KILLEVENT_TO_FILE}: Boolean flag for writing kill events to a file.
    *   <li>{@code SETTINGS_KILLER_MODE_ACTIVE}: Boolean flag for activating the killer mode.
+   *   <li>{@code SETTINGS_EVENT_DRIVEN_SCAN_ACTIVE}: Boolean flag for scanning on file changes.
+   *   <li>{@code SETTINGS_MULTI_CHANNEL_SCAN_ACTIVE}: Boolean flag for scanning all channels.
+   *   <li>{@code SETTINGS_HISTORY_ACTIVE}: Boolean flag for keeping the kill event history.
+   *   <li>{@code SETTINGS_RETENTION_MAX_COUNT}: Maximum number of kill events kept in memory.
+   *   <li>{@code SETTINGS_RETENTION_MAX_AGE_HOURS}: Maximum age of kill events kept in memory.
+   *   <li>{@code SETTINGS_RETENTION_MEMORY_MIB}: Memory budget of kill events kept in memory,
+   *       64 MiB by default.
+   *   <li>{@code SETTINGS_SPILL_TO_DISK_ACTIVE}: Boolean flag for spilling evicted kill events.
+   *   <li>{@code SETTINGS_NDJSON_OUTPUT_ACTIVE}: Boolean flag for writing kill events as NDJSON.
+   *   <li>{@code SETTINGS_OUTPUT_ROLL_SIZE_MIB}: Size at which the output file is rolled over.
+   *   <li>{@code SETTINGS_OUTPUT_ROLL_DAILY}: Boolean flag for rolling the output file daily.
+   *   <li>{@code SETTINGS_OUTPUT_MAX_ARCHIVES}: Maximum number of archives of the output file.
+   *   <li>{@code SETTINGS_FEED_SERVER_ACTIVE}: Boolean flag for serving the live kill feed.
+   *   <li>{@code SETTINGS_FEED_SERVER_PORT}: Port the live kill feed is served on.
+   *   <li>{@code SETTINGS_FEED_SOCKET_ACTIVE}: Boolean flag for pushing the kill feed to a socket.
    * </ul>
    *
    * <p>Default paths are system-specific, referencing directories in the "C:\Program Files\Roberts Space Industries\StarCitizen" folder.
@@ -152,5 +191,23 @@ public class SettingsHandler {
     SettingsData.setShowAllActive(preferences.getBoolean(SETTINGS_SHOW_ALL, false));
     SettingsData.setWriteKillEventToFile(preferences.getBoolean(SETTINGS_WRITE_TO_FILE, false));
     SettingsData.setKillerModeActive(preferences.getBoolean(SETTINGS_KILLER_MODE_ACTIVE, false));
+    SettingsData.setEventDrivenScanActive(
+        preferences.getBoolean(SETTINGS_EVENT_DRIVEN_SCAN_ACTIVE, true));
+    SettingsData.setMultiChannelScanActive(
+        preferences.getBoolean(SETTINGS_MULTI_CHANNEL_SCAN_ACTIVE, false));
+    SettingsData.setHistoryActive(preferences.getBoolean(SETTINGS_HISTORY_ACTIVE, false));
+    SettingsData.setRetentionMaxCount(preferences.getInt(SETTINGS_RETENTION_MAX_COUNT, 0));
+    SettingsData.setRetentionMaxAgeHours(preferences.getInt(SETTINGS_RETENTION_MAX_AGE_HOURS, 0));
+    SettingsData.setRetentionMemoryMib(preferences.getInt(SETTINGS_RETENTION_MEMORY_MIB, 64));
+    SettingsData.setSpillToDiskActive(
+        preferences.getBoolean(SETTINGS_SPILL_TO_DISK_ACTIVE, false));
+    SettingsData.setNdjsonOutputActive(
+        preferences.getBoolean(SETTINGS_NDJSON_OUTPUT_ACTIVE, false));
+    SettingsData.setOutputRollSizeMib(preferences.getInt(SETTINGS_OUTPUT_ROLL_SIZE_MIB, 0));
+    SettingsData.setOutputRollDaily(preferences.getBoolean(SETTINGS_OUTPUT_ROLL_DAILY, false));
+    SettingsData.setOutputMaxArchives(preferences.getInt(SETTINGS_OUTPUT_MAX_ARCHIVES, 0));
+    SettingsData.setFeedServerActive(preferences.getBoolean(SETTINGS_FEED_SERVER_ACTIVE, false));
+    SettingsData.setFeedServerPort(preferences.getInt(SETTINGS_FEED_SERVER_PORT, 8787));
+    SettingsData.setFeedSocketActive(preferences.getBoolean(SETTINGS_FEED_SOCKET_ACTIVE, false));
   }
 }
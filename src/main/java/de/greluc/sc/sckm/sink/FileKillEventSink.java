@@ -0,0 +1,74 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.sink;
+
+import de.greluc.sc.sckm.FileHandler;
+import de.greluc.sc.sckm.data.KillEvent;
+import de.greluc.sc.sckm.settings.SettingsData;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The FileKillEventSink class writes new kill events to the file determined by the {@link
+ * FileHandler}, if writing kill events to a file is enabled in the settings.
+ *
+ * <p>The sink only hands the kill events to the background writer of the file, so it rarely falls
+ * behind. Since the file is expected to contain every kill event, the dispatcher waits for the
+ * sink if it does, see {@link OverflowPolicy#BLOCK}, instead of dropping kill events.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public class FileKillEventSink implements KillEventSink {
+  private String fileSuffix;
+
+  @Override
+  public @NotNull String getName() {
+    return "file";
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return SettingsData.isWriteKillEventToFile();
+  }
+
+  @Override
+  public @NotNull SinkConfig getConfig() {
+    return SinkConfig.withDefaults().withOverflowPolicy(OverflowPolicy.BLOCK);
+  }
+
+  @Override
+  public void open(@NotNull SinkContext context) {
+    fileSuffix = FileHandler.getFileSuffix(context.scanStartTime());
+  }
+
+  @Override
+  public void accept(@NotNull List<KillEvent> killEvents) {
+    killEvents.forEach(killEvent -> FileHandler.writeKillEventToFile(killEvent, fileSuffix));
+  }
+
+  /** Closes the writers of the files, which writes all queued kill events first. */
+  @Override
+  public void close() {
+    FileHandler.closeKillEventWriters();
+  }
+}
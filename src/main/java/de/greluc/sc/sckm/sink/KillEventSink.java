@@ -0,0 +1,95 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.sink;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A destination for new kill events, e.g. a file, a webhook or a database.
+ *
+ * <p>Sinks are service providers: a module declares its implementation with {@code provides
+ * de.greluc.sc.sckm.sink.KillEventSink with ...} in its module descriptor, or with a {@code
+ * META-INF/services} entry on the class path, and the {@link SinkDispatcher} loads it with the
+ * {@link java.util.ServiceLoader}. An implementation needs a public constructor without
+ * parameters.
+ *
+ * <p>The dispatcher runs every enabled sink on its own thread with its own bounded queue, so a sink
+ * may block or fail without stalling the ingestion or the other sinks. All methods of a sink are
+ * called by that thread, except {@link #getName()}, {@link #isEnabled()} and {@link #getConfig()},
+ * which are called once when the dispatcher is created.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public interface KillEventSink extends AutoCloseable {
+  /**
+   * Returns the name of the sink, used for its thread, metrics and log messages.
+   *
+   * @return the name; never null
+   */
+  @NotNull String getName();
+
+  /**
+   * Checks whether the sink is enabled, e.g. by the settings. Disabled sinks are neither opened
+   * nor passed any kill events.
+   *
+   * @return {@code true} if the sink is enabled, {@code false} otherwise
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  /**
+   * Returns how the dispatcher feeds the sink.
+   *
+   * @return the configuration; never null
+   */
+  default @NotNull SinkConfig getConfig() {
+    return SinkConfig.withDefaults();
+  }
+
+  /**
+   * Prepares the sink for a scan before it receives the first kill event.
+   *
+   * @param context the scan the sink is opened for; cannot be null
+   * @throws Exception if the sink can't be opened, which disables it for the scan
+   */
+  default void open(@NotNull SinkContext context) throws Exception {}
+
+  /**
+   * Processes a batch of new kill events in the order they were detected.
+   *
+   * @param killEvents the kill events; cannot be null
+   * @throws Exception if the kill events can't be processed, which drops them
+   */
+  void accept(@NotNull List<KillEvent> killEvents) throws Exception;
+
+  /**
+   * Releases the resources of the sink after it has processed all remaining kill events.
+   *
+   * @throws Exception if the sink can't be closed
+   */
+  @Override
+  default void close() throws Exception {}
+}
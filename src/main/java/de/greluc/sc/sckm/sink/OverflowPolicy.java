@@ -0,0 +1,45 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.sink;
+
+/**
+ * Determines what happens to a kill event passed to a sink whose queue is full.
+ *
+ * <p>With the dropping policies, the dispatcher never waits for the sink, so a slow sink loses
+ * kill events instead of stalling the ingestion or the other sinks. With {@link #BLOCK}, no kill
+ * event is lost, but a slow sink slows down the ingestion, so it's meant for sinks that keep up in
+ * general, e.g. the file sink, whose output is expected to be complete.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public enum OverflowPolicy {
+  /** Drops the new kill event and keeps the queued ones. */
+  DROP_NEWEST,
+  /** Drops the oldest queued kill event to make room for the new one. */
+  DROP_OLDEST,
+  /**
+   * Waits until the sink has made room for the new kill event. The kill event is only dropped if
+   * the sink has stopped or the dispatching thread is interrupted while waiting.
+   */
+  BLOCK
+}
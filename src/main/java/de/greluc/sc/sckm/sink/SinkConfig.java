@@ -0,0 +1,77 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.sink;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Configures how a {@link SinkDispatcher} feeds a {@link KillEventSink}.
+ *
+ * <ul>
+ *   <li><strong>queueCapacity</strong>: The maximum number of kill events waiting for the sink.
+ *   <li><strong>maxBatchSize</strong>: The maximum number of kill events passed to the sink at
+ *       once.
+ *   <li><strong>overflowPolicy</strong>: What happens to a kill event passed to the sink while its
+ *       queue is full.
+ * </ul>
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public record SinkConfig(
+    int queueCapacity, int maxBatchSize, @NotNull OverflowPolicy overflowPolicy) {
+  private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+  private static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+  /**
+   * Creates a new configuration and validates its values.
+   *
+   * @throws IllegalArgumentException if the capacity or batch size isn't positive
+   */
+  public SinkConfig {
+    if (queueCapacity <= 0 || maxBatchSize <= 0) {
+      throw new IllegalArgumentException("Invalid sink configuration");
+    }
+  }
+
+  /**
+   * Creates a configuration that queues up to 1024 kill events and drops the oldest of them once
+   * the queue is full.
+   *
+   * @return the new configuration; never null
+   */
+  public static @NotNull SinkConfig withDefaults() {
+    return new SinkConfig(
+        DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_BATCH_SIZE, OverflowPolicy.DROP_OLDEST);
+  }
+
+  /**
+   * Creates a copy of this configuration with another overflow policy.
+   *
+   * @param overflowPolicy what happens to a kill event passed to the sink while its queue is full;
+   *     cannot be null
+   * @return the new configuration; never null
+   */
+  public @NotNull SinkConfig withOverflowPolicy(@NotNull OverflowPolicy overflowPolicy) {
+    return new SinkConfig(queueCapacity, maxBatchSize, overflowPolicy);
+  }
+}
@@ -0,0 +1,373 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.sink;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The SinkDispatcher class passes new kill events to all enabled {@link KillEventSink}s, each
+ * running isolated from the others.
+ *
+ * <p>Every sink gets its own bounded queue and its own virtual thread, which takes the queued kill
+ * events in batches and passes them to the sink. Dispatching a kill event only puts it into the
+ * queues: if the queue of a sink is full, a kill event is dropped or the dispatcher waits for the
+ * sink according to the sink's {@link OverflowPolicy}. A sink with a dropping policy that blocks
+ * or throws exceptions therefore only loses its own kill events and never stalls the ingestion or
+ * the other sinks. The number of delivered, dropped and failed kill events as well as the current
+ * lag of every sink are available as {@link SinkMetrics}. While the dispatcher is open, they are
+ * logged once a minute if kill events were dispatched, and as a warning if kill events were lost.
+ *
+ * <p>The dispatcher is thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class SinkDispatcher implements AutoCloseable {
+  private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+  private static final long POLL_INTERVAL_MILLIS = 100;
+  private static final Duration REPORT_INTERVAL = Duration.ofMinutes(1);
+
+  private final List<Worker> workers = new ArrayList<>();
+  private final Thread reporter;
+  private volatile boolean isClosed;
+
+  /**
+   * Opens the given sinks, if enabled, and starts their threads. A sink that fails to open is
+   * skipped.
+   *
+   * @param sinks the sinks to dispatch the kill events to; cannot be null
+   * @param context the scan the sinks are opened for; cannot be null
+   */
+  public SinkDispatcher(@NotNull List<KillEventSink> sinks, @NotNull SinkContext context) {
+    for (KillEventSink sink : sinks) {
+      if (!sink.isEnabled()) {
+        continue;
+      }
+      try {
+        sink.open(context);
+      } catch (Exception exception) {
+        log.error("Failed to open the kill event sink {}", sink.getName(), exception);
+        continue;
+      }
+      workers.add(new Worker(sink, sink.getConfig()));
+      log.info("Opened the kill event sink {}", sink.getName());
+    }
+    reporter = Thread.ofVirtual().name("sckm-sink-metrics").start(this::report);
+  }
+
+  /**
+   * Loads all sinks provided as services of the {@link KillEventSink} interface. A provider that
+   * can't be instantiated is skipped.
+   *
+   * @return the loaded sinks; never null
+   */
+  public static @NotNull List<KillEventSink> loadSinks() {
+    List<KillEventSink> sinks = new ArrayList<>();
+    for (ServiceLoader.Provider<KillEventSink> provider :
+        ServiceLoader.load(KillEventSink.class).stream().toList()) {
+      try {
+        sinks.add(provider.get());
+      } catch (ServiceConfigurationError serviceConfigurationError) {
+        log.error(
+            "Failed to load the kill event sink {}", provider.type(), serviceConfigurationError);
+      }
+    }
+    return sinks;
+  }
+
+  /**
+   * Passes a kill event to the queues of all sinks. Only waits for sinks with the overflow policy
+   * {@link OverflowPolicy#BLOCK} whose queue is full. Kill events dispatched after the dispatcher
+   * has been closed are dropped.
+   *
+   * @param killEvent the new kill event; cannot be null
+   */
+  public void dispatch(@NotNull KillEvent killEvent) {
+    if (isClosed) {
+      return;
+    }
+    for (Worker worker : workers) {
+      worker.offer(killEvent);
+    }
+  }
+
+  /**
+   * Passes a batch of kill events to the queues of all sinks, see {@link #dispatch(KillEvent)}.
+   *
+   * @param killEvents the new kill events in the order they were detected; cannot be null
+   */
+  public void dispatch(@NotNull List<KillEvent> killEvents) {
+    killEvents.forEach(this::dispatch);
+  }
+
+  /**
+   * Returns the current metrics of all open sinks.
+   *
+   * @return the metrics in the order the sinks were opened; never null
+   */
+  public @NotNull List<SinkMetrics> getMetrics() {
+    return workers.stream().map(Worker::getMetrics).toList();
+  }
+
+  /**
+   * Lets every sink process its remaining kill events, waiting up to five seconds for all of them,
+   * and closes the sinks. A sink that doesn't finish in time is interrupted. Calling this method
+   * again has no effect.
+   */
+  @Override
+  public synchronized void close() {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    reporter.interrupt();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MILLIS);
+    for (Worker worker : workers) {
+      worker.stop(deadline);
+    }
+    log.info("Closed the kill event sinks: {}", getMetrics());
+  }
+
+  /**
+   * Logs the metrics of the sinks once per report interval until the dispatcher is closed. The
+   * metrics are logged as a warning if a sink dropped or failed to process kill events since the
+   * previous report, and as information if kill events were dispatched or are still queued.
+   */
+  private void report() {
+    List<SinkMetrics> previousMetrics = getMetrics();
+    try {
+      while (!isClosed) {
+        Thread.sleep(REPORT_INTERVAL);
+        List<SinkMetrics> metrics = getMetrics();
+        boolean isLosing = false;
+        boolean isActive = false;
+        for (int i = 0; i < metrics.size(); i++) {
+          SinkMetrics current = metrics.get(i);
+          SinkMetrics previous = previousMetrics.get(i);
+          isLosing |=
+              current.droppedCount() > previous.droppedCount()
+                  || current.failedCount() > previous.failedCount();
+          isActive |= current.deliveredCount() > previous.deliveredCount();
+          isActive |= current.queuedCount() > 0;
+        }
+        if (isLosing) {
+          log.warn("Kill event sinks lost kill events: {}", metrics);
+        } else if (isActive) {
+          log.info("Kill event sinks: {}", metrics);
+        }
+        previousMetrics = metrics;
+      }
+    } catch (InterruptedException interruptedException) {
+      log.debug("Stopped reporting the metrics of the kill event sinks");
+    }
+  }
+
+  /**
+   * A kill event waiting for a sink together with the time it was queued.
+   *
+   * @param killEvent the kill event; cannot be null
+   * @param queuedNanos the value of {@link System#nanoTime()} when the kill event was queued
+   */
+  private record Pending(@NotNull KillEvent killEvent, long queuedNanos) {}
+
+  /** Runs a single sink on its own thread and records its metrics. */
+  private final class Worker {
+    private final KillEventSink sink;
+    private final SinkConfig config;
+    private final BlockingQueue<Pending> queue;
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final Thread thread;
+    private volatile long processingSinceNanos;
+    private volatile boolean isProcessing;
+
+    /**
+     * Creates a worker and starts its thread.
+     *
+     * @param sink the opened sink; cannot be null
+     * @param config the configuration of the sink; cannot be null
+     */
+    private Worker(@NotNull KillEventSink sink, @NotNull SinkConfig config) {
+      this.sink = sink;
+      this.config = config;
+      this.queue = new ArrayBlockingQueue<>(config.queueCapacity());
+      this.thread = Thread.ofVirtual().name("sckm-sink-" + sink.getName()).start(this::run);
+    }
+
+    /**
+     * Queues a kill event, dropping a kill event or waiting according to the overflow policy if the
+     * queue is full.
+     *
+     * @param killEvent the kill event; cannot be null
+     */
+    private void offer(@NotNull KillEvent killEvent) {
+      Pending pending = new Pending(killEvent, System.nanoTime());
+      if (queue.offer(pending)) {
+        return;
+      }
+      if (config.overflowPolicy() == OverflowPolicy.BLOCK) {
+        await(pending);
+        return;
+      }
+      if (config.overflowPolicy() == OverflowPolicy.DROP_NEWEST) {
+        droppedCount.increment();
+        return;
+      }
+      while (!queue.offer(pending)) {
+        if (queue.poll() != null) {
+          droppedCount.increment();
+        }
+      }
+    }
+
+    /**
+     * Waits until there is room for a kill event in the full queue. The kill event is dropped if
+     * the thread of the sink has stopped, e.g. because it was interrupted on close, or the calling
+     * thread is interrupted while waiting.
+     *
+     * @param pending the kill event to queue; cannot be null
+     */
+    private void await(@NotNull Pending pending) {
+      try {
+        while (!queue.offer(pending, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+          if (!thread.isAlive()) {
+            droppedCount.increment();
+            return;
+          }
+        }
+      } catch (InterruptedException interruptedException) {
+        droppedCount.increment();
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    /**
+     * Passes the queued kill events to the sink in batches until the dispatcher is closed and the
+     * queue is empty, then closes the sink.
+     */
+    private void run() {
+      List<Pending> batch = new ArrayList<>(config.maxBatchSize());
+      List<KillEvent> killEvents = new ArrayList<>(config.maxBatchSize());
+      try {
+        while (!isClosed || !queue.isEmpty()) {
+          Pending first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+          if (first == null) {
+            continue;
+          }
+          batch.add(first);
+          queue.drainTo(batch, config.maxBatchSize() - 1);
+          processingSinceNanos = first.queuedNanos();
+          isProcessing = true;
+          batch.forEach(pending -> killEvents.add(pending.killEvent()));
+          deliver(killEvents);
+          isProcessing = false;
+          batch.clear();
+          killEvents.clear();
+        }
+      } catch (InterruptedException interruptedException) {
+        log.warn(
+            "Kill event sink {} was interrupted with {} queued kill events",
+            sink.getName(),
+            queue.size());
+      } finally {
+        try {
+          sink.close();
+        } catch (Exception exception) {
+          log.warn("Failed to close the kill event sink {}", sink.getName(), exception);
+        }
+      }
+    }
+
+    /**
+     * Passes a batch of kill events to the sink and records the outcome.
+     *
+     * @param killEvents the kill events; cannot be null
+     */
+    private void deliver(@NotNull List<KillEvent> killEvents) {
+      try {
+        sink.accept(killEvents);
+        deliveredCount.add(killEvents.size());
+      } catch (Exception exception) {
+        failedCount.add(killEvents.size());
+        log.error("Kill event sink {} failed to process kill events", sink.getName());
+        log.trace("Stacktrace:", exception);
+      }
+    }
+
+    /**
+     * Waits until the thread has processed the remaining kill events and closed the sink, or
+     * interrupts it once the deadline has passed.
+     *
+     * @param deadline the value of {@link System#nanoTime()} by which the thread should be done
+     */
+    private void stop(long deadline) {
+      try {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (!thread.join(Duration.ofMillis(Math.max(remainingMillis, 1)))) {
+          thread.interrupt();
+          thread.join();
+        }
+      } catch (InterruptedException interruptedException) {
+        thread.interrupt();
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    /**
+     * Takes a snapshot of the metrics of the sink.
+     *
+     * @return the metrics; never null
+     */
+    private @NotNull SinkMetrics getMetrics() {
+      long now = System.nanoTime();
+      long oldestNanos = now;
+      if (isProcessing) {
+        oldestNanos = processingSinceNanos;
+      } else {
+        Pending head = queue.peek();
+        if (head != null) {
+          oldestNanos = head.queuedNanos();
+        }
+      }
+      return new SinkMetrics(
+          sink.getName(),
+          deliveredCount.sum(),
+          droppedCount.sum(),
+          failedCount.sum(),
+          queue.size(),
+          TimeUnit.NANOSECONDS.toMillis(now - oldestNanos));
+    }
+  }
+}
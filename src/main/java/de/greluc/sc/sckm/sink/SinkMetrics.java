@@ -0,0 +1,64 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.sink;
+
+import java.util.Locale;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A snapshot of the metrics of a {@link KillEventSink} run by a {@link SinkDispatcher}.
+ *
+ * <ul>
+ *   <li><strong>name</strong>: The name of the sink.
+ *   <li><strong>deliveredCount</strong>: The number of kill events passed to the sink so far.
+ *   <li><strong>droppedCount</strong>: The number of kill events dropped because the queue of the
+ *       sink was full.
+ *   <li><strong>failedCount</strong>: The number of kill events of batches the sink failed to
+ *       process.
+ *   <li><strong>queuedCount</strong>: The number of kill events waiting for the sink.
+ *   <li><strong>lagMillis</strong>: The time the oldest kill event not yet processed by the sink
+ *       has been waiting, or {@code 0} if the sink has caught up.
+ * </ul>
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public record SinkMetrics(
+    @NotNull String name,
+    long deliveredCount,
+    long droppedCount,
+    long failedCount,
+    int queuedCount,
+    long lagMillis) {
+  @Override
+  public String toString() {
+    return String.format(
+        Locale.ROOT,
+        "%s: %d delivered, %d dropped, %d failed, %d queued, %d ms lag",
+        name,
+        deliveredCount,
+        droppedCount,
+        failedCount,
+        queuedCount,
+        lagMillis);
+  }
+}
@@ -0,0 +1,196 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The ColumnarKillEvents class holds a large number of kill events in a compact, column-oriented
+ * form.
+ *
+ * <p>Instead of one {@link KillEvent} object with a {@link ZonedDateTime} and six strings per kill
+ * event, every field is stored in its own primitive array. The timestamps are stored as
+ * milliseconds since the epoch in a {@code long[]}, all other fields as {@code int} ids of shared
+ * {@link StringDictionary} objects: one for the players, which are used for both the killed player
+ * and the killer, one for the weapons and weapon classes, one for the damage types and one for the
+ * zones. A kill event therefore takes 32 bytes plus its share of the distinct strings, compared to
+ * several hundred bytes as an object.
+ *
+ * <p>A {@link KillEvent} is only created on demand by {@link #get(int)}. Aggregations scan the
+ * columns directly, which touches sequential memory and doesn't create any objects per kill event.
+ *
+ * <p>The class isn't thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public class ColumnarKillEvents {
+  private static final int INITIAL_CAPACITY = 1024;
+
+  @Getter private final StringDictionary players = new StringDictionary();
+  @Getter private final StringDictionary weapons = new StringDictionary();
+  @Getter private final StringDictionary damageTypes = new StringDictionary();
+  @Getter private final StringDictionary zones = new StringDictionary();
+  private long[] epochMillis = new long[INITIAL_CAPACITY];
+  private int[] killedPlayerIds = new int[INITIAL_CAPACITY];
+  private int[] killerIds = new int[INITIAL_CAPACITY];
+  private int[] weaponIds = new int[INITIAL_CAPACITY];
+  private int[] weaponClassIds = new int[INITIAL_CAPACITY];
+  private int[] damageTypeIds = new int[INITIAL_CAPACITY];
+  private int[] zoneIds = new int[INITIAL_CAPACITY];
+  private int size;
+
+  /**
+   * Appends a kill event to the columns.
+   *
+   * @param killEvent the kill event to append; cannot be null
+   * @return the index of the appended kill event
+   */
+  public int append(@NotNull KillEvent killEvent) {
+    if (size == epochMillis.length) {
+      grow();
+    }
+    epochMillis[size] = killEvent.epochMilli();
+    killedPlayerIds[size] = players.idOf(killEvent.killedPlayer());
+    killerIds[size] = players.idOf(killEvent.killer());
+    weaponIds[size] = weapons.idOf(killEvent.weapon());
+    weaponClassIds[size] = weapons.idOf(killEvent.weaponClass());
+    damageTypeIds[size] = damageTypes.idOf(killEvent.damageType());
+    zoneIds[size] = zones.idOf(killEvent.zone());
+    return size++;
+  }
+
+  /**
+   * Returns the number of stored kill events.
+   *
+   * @return the number of stored kill events
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Creates the kill event stored at the given index.
+   *
+   * @param index the index of the kill event
+   * @return the kill event; never null
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public @NotNull KillEvent get(int index) {
+    Objects.checkIndex(index, size);
+    long epochMilli = epochMillis[index];
+    return new KillEvent(
+        ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC),
+        players.valueOf(killedPlayerIds[index]),
+        players.valueOf(killerIds[index]),
+        weapons.valueOf(weaponIds[index]),
+        weapons.valueOf(weaponClassIds[index]),
+        damageTypes.valueOf(damageTypeIds[index]),
+        zones.valueOf(zoneIds[index]),
+        epochMilli);
+  }
+
+  /**
+   * Returns the timestamp of the kill event stored at the given index.
+   *
+   * @param index the index of the kill event
+   * @return the timestamp in milliseconds since the epoch
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long getEpochMilli(int index) {
+    Objects.checkIndex(index, size);
+    return epochMillis[index];
+  }
+
+  /**
+   * Returns the id of the killed player of the kill event stored at the given index, which can be
+   * resolved with the dictionary returned by {@link #getPlayers()}.
+   *
+   * @param index the index of the kill event
+   * @return the id of the killed player
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public int getKilledPlayerId(int index) {
+    Objects.checkIndex(index, size);
+    return killedPlayerIds[index];
+  }
+
+  /**
+   * Returns the id of the killer of the kill event stored at the given index, which can be
+   * resolved with the dictionary returned by {@link #getPlayers()}.
+   *
+   * @param index the index of the kill event
+   * @return the id of the killer
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public int getKillerId(int index) {
+    Objects.checkIndex(index, size);
+    return killerIds[index];
+  }
+
+  /**
+   * Counts the kill events of each killer within a time range by scanning the timestamp and killer
+   * columns.
+   *
+   * @param fromEpochMilli the start of the time range in milliseconds since the epoch, inclusive
+   * @param toEpochMilli the end of the time range in milliseconds since the epoch, inclusive
+   * @return the number of kill events per killer, containing only killers with at least one kill
+   *     event; never null
+   */
+  public @NotNull Map<String, Integer> countByKiller(long fromEpochMilli, long toEpochMilli) {
+    int[] counts = new int[players.size()];
+    for (int i = 0; i < size; i++) {
+      long epochMilli = epochMillis[i];
+      if (epochMilli >= fromEpochMilli && epochMilli <= toEpochMilli) {
+        counts[killerIds[i]]++;
+      }
+    }
+    Map<String, Integer> countsByKiller = new HashMap<>();
+    for (int id = 0; id < counts.length; id++) {
+      if (counts[id] > 0) {
+        countsByKiller.put(players.valueOf(id), counts[id]);
+      }
+    }
+    return countsByKiller;
+  }
+
+  /** Doubles the capacity of all columns. */
+  private void grow() {
+    int capacity = epochMillis.length * 2;
+    epochMillis = Arrays.copyOf(epochMillis, capacity);
+    killedPlayerIds = Arrays.copyOf(killedPlayerIds, capacity);
+    killerIds = Arrays.copyOf(killerIds, capacity);
+    weaponIds = Arrays.copyOf(weaponIds, capacity);
+    weaponClassIds = Arrays.copyOf(weaponClassIds, capacity);
+    damageTypeIds = Arrays.copyOf(damageTypeIds, capacity);
+    zoneIds = Arrays.copyOf(zoneIds, capacity);
+  }
+}
@@ -0,0 +1,222 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The FileRoller class rolls the file of a {@link KillEventWriter} over to numbered archives
+ * according to a {@link RollingPolicy}.
+ *
+ * <p>An archive of the file {@code kill-events.log} is named {@code kill-events.000001.log}, with
+ * the number increasing with every roll-over, and {@code kill-events.000001.log.gz} once it has
+ * been compressed. Compressing the archives and deleting those beyond the retention limit happens
+ * on a background thread, so the writer continues with the new file right away. Archives left
+ * uncompressed by a previous session are compressed when the roller is created.
+ *
+ * <p>The roller isn't thread-safe and is meant to be used by the thread of its writer.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+class FileRoller implements AutoCloseable {
+  private static final String COMPRESSED_SUFFIX = ".gz";
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Path file;
+  private final RollingPolicy policy;
+  private final String stem;
+  private final String extension;
+  private final Pattern archivePattern;
+  private final ExecutorService executorService =
+      Executors.newSingleThreadExecutor(Thread.ofVirtual().name("sckm-roller").factory());
+  private int lastNumber;
+
+  /**
+   * Creates a roller for the given file, continuing the numbering of its existing archives.
+   *
+   * @param file the file to roll over; cannot be null
+   * @param policy the rolling policy; cannot be null
+   * @throws IOException if the existing archives can't be listed
+   */
+  FileRoller(@NotNull Path file, @NotNull RollingPolicy policy) throws IOException {
+    this.file = file;
+    this.policy = policy;
+    String fileName = file.getFileName().toString();
+    int dot = fileName.lastIndexOf('.');
+    this.stem = dot < 0 ? fileName : fileName.substring(0, dot);
+    this.extension = dot < 0 ? "" : fileName.substring(dot);
+    this.archivePattern =
+        Pattern.compile(
+            Pattern.quote(stem)
+                + "\\.(\\d+)"
+                + Pattern.quote(extension)
+                + "("
+                + Pattern.quote(COMPRESSED_SUFFIX)
+                + ")?");
+    List<Path> archives = findArchives();
+    lastNumber = archives.isEmpty() ? 0 : archiveNumber(archives.getLast());
+    executorService.submit(this::compressAndRetain);
+  }
+
+  /**
+   * Checks whether the file has to be rolled over before more kill events are written to it.
+   *
+   * @param fileSize the current size of the file in bytes
+   * @param isNewDay whether the file was started on an earlier day
+   * @return {@code true} if the file has to be rolled over, {@code false} otherwise
+   */
+  boolean shouldRoll(long fileSize, boolean isNewDay) {
+    if (fileSize == 0) {
+      return false;
+    }
+    return (policy.maxFileSize() > 0 && fileSize >= policy.maxFileSize())
+        || (policy.isRollingDaily() && isNewDay);
+  }
+
+  /**
+   * Moves the closed file to the next archive and compresses the archive and deletes the oldest
+   * archives in the background.
+   *
+   * @return the path of the archive before its compression; never null
+   * @throws IOException if the file can't be moved
+   */
+  @NotNull Path roll() throws IOException {
+    lastNumber++;
+    Path archive =
+        file.resolveSibling(
+            String.format(Locale.ROOT, "%s.%06d%s", stem, lastNumber, extension));
+    Files.move(file, archive, StandardCopyOption.ATOMIC_MOVE);
+    log.info("Rolled {} over to {}", file, archive);
+    executorService.submit(this::compressAndRetain);
+    return archive;
+  }
+
+  /**
+   * Waits until all pending archives have been compressed and stops the background thread.
+   */
+  @Override
+  public void close() {
+    executorService.shutdown();
+    try {
+      if (!executorService.awaitTermination(1, TimeUnit.MINUTES)) {
+        log.warn("Compressing the archives of {} takes longer than expected", file);
+      }
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Compresses all uncompressed archives, if enabled, and deletes the oldest archives beyond the
+   * retention limit.
+   */
+  private void compressAndRetain() {
+    try {
+      List<Path> archives = findArchives();
+      if (policy.isCompressing()) {
+        for (int i = 0; i < archives.size(); i++) {
+          if (!archives.get(i).toString().endsWith(COMPRESSED_SUFFIX)) {
+            archives.set(i, compress(archives.get(i)));
+          }
+        }
+      }
+      if (policy.maxArchives() > 0) {
+        for (int i = 0; i < archives.size() - policy.maxArchives(); i++) {
+          Files.deleteIfExists(archives.get(i));
+          log.debug("Deleted the archive {}", archives.get(i));
+        }
+      }
+    } catch (IOException ioException) {
+      log.error("Failed to compress or delete the archives of {}", file);
+      log.trace("Stacktrace:", ioException);
+    }
+  }
+
+  /**
+   * Compresses an archive with GZIP into a temporary file, which then replaces the archive.
+   *
+   * @param archive the uncompressed archive; cannot be null
+   * @return the path of the compressed archive; never null
+   * @throws IOException if the archive can't be compressed
+   */
+  private @NotNull Path compress(@NotNull Path archive) throws IOException {
+    Path compressed = archive.resolveSibling(archive.getFileName() + COMPRESSED_SUFFIX);
+    Path temporary = compressed.resolveSibling(compressed.getFileName() + TEMPORARY_SUFFIX);
+    try (InputStream input = Files.newInputStream(archive);
+        OutputStream output =
+            new GZIPOutputStream(Files.newOutputStream(temporary), BUFFER_SIZE)) {
+      input.transferTo(output);
+    }
+    Files.move(temporary, compressed, StandardCopyOption.ATOMIC_MOVE);
+    Files.delete(archive);
+    return compressed;
+  }
+
+  /**
+   * Lists the archives of the file ordered by their number.
+   *
+   * @return the archives; never null
+   * @throws IOException if the directory can't be listed
+   */
+  private @NotNull List<Path> findArchives() throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    try (Stream<Path> files = Files.list(directory)) {
+      return new ArrayList<>(
+          files
+              .filter(path -> archivePattern.matcher(path.getFileName().toString()).matches())
+              .sorted(Comparator.comparingInt(this::archiveNumber))
+              .toList());
+    }
+  }
+
+  /**
+   * Extracts the number of an archive from its name.
+   *
+   * @param archive the archive; cannot be null
+   * @return the number of the archive
+   */
+  private int archiveNumber(@NotNull Path archive) {
+    Matcher matcher = archivePattern.matcher(archive.getFileName().toString());
+    return matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+  }
+}
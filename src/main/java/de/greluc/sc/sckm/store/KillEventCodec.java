@@ -0,0 +1,187 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import de.greluc.sc.sckm.Constants;
+import de.greluc.sc.sckm.data.KillEvent;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.zip.CRC32C;
+import lombok.Generated;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The KillEventCodec class converts kill events to and from the compact binary records stored in
+ * the segments of a {@link KillEventHistory}.
+ *
+ * <p>A record consists of an 8 byte header followed by the payload:
+ *
+ * <ul>
+ *   <li><strong>length</strong>: The length of the payload in bytes as an {@code int}.
+ *   <li><strong>checksum</strong>: The CRC-32C checksum of the payload as an {@code int}.
+ *   <li><strong>payload</strong>: The timestamp in milliseconds since the epoch as a {@code long},
+ *       followed by the killed player, killer, weapon, weapon class, damage type and zone, each as
+ *       an unsigned {@code short} length and the UTF-8 encoded bytes.
+ * </ul>
+ *
+ * <p>The checksum allows a reader to detect a record that was only partially written, e.g.
+ * because the application was terminated while writing it.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class KillEventCodec {
+  /** The size of the header preceding the payload of every record. */
+  public static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+  private static final int FIELD_COUNT = 6;
+  private static final int MAX_FIELD_LENGTH = 0xFFFF;
+  private static final int MIN_PAYLOAD_LENGTH = Long.BYTES + FIELD_COUNT * Short.BYTES;
+
+  /** Used to exclude the unused constructor from code coverage evaluation. */
+  @Generated
+  private KillEventCodec() {
+    throw new IllegalStateException(Constants.UTILITY_CLASS);
+  }
+
+  /**
+   * Encodes a kill event as a complete record including its header.
+   *
+   * @param killEvent the kill event to encode; cannot be null
+   * @return the encoded record; never null
+   * @throws IllegalArgumentException if a field of the kill event is longer than 65535 bytes
+   */
+  public static byte @NotNull [] encode(@NotNull KillEvent killEvent) {
+    byte[][] fields = {
+      toBytes(killEvent.killedPlayer()),
+      toBytes(killEvent.killer()),
+      toBytes(killEvent.weapon()),
+      toBytes(killEvent.weaponClass()),
+      toBytes(killEvent.damageType()),
+      toBytes(killEvent.zone())
+    };
+    int payloadLength = MIN_PAYLOAD_LENGTH;
+    for (byte[] field : fields) {
+      payloadLength += field.length;
+    }
+    ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payloadLength);
+    record.putInt(payloadLength).putInt(0).putLong(killEvent.epochMilli());
+    for (byte[] field : fields) {
+      record.putShort((short) field.length).put(field);
+    }
+    record.putInt(Integer.BYTES, checksum(record, RECORD_HEADER_SIZE, payloadLength));
+    return record.array();
+  }
+
+  /**
+   * Decodes the record starting at the position of the buffer and advances the position past it.
+   * If the buffer doesn't start with a complete and intact record, the position is left unchanged.
+   *
+   * @param buffer the buffer to read the record from; cannot be null
+   * @return the decoded kill event, or {@code null} if the buffer doesn't start with a complete
+   *     and intact record
+   */
+  public static KillEvent decode(@NotNull ByteBuffer buffer) {
+    int start = buffer.position();
+    if (buffer.remaining() < RECORD_HEADER_SIZE) {
+      return null;
+    }
+    int payloadLength = buffer.getInt(start);
+    int payloadStart = start + RECORD_HEADER_SIZE;
+    if (payloadLength < MIN_PAYLOAD_LENGTH
+        || payloadLength > buffer.limit() - payloadStart
+        || buffer.getInt(start + Integer.BYTES) != checksum(buffer, payloadStart, payloadLength)) {
+      return null;
+    }
+    ByteBuffer payload = buffer.slice(payloadStart, payloadLength);
+    long epochMilli = payload.getLong();
+    String[] fields = new String[FIELD_COUNT];
+    for (int i = 0; i < FIELD_COUNT; i++) {
+      int length = Short.toUnsignedInt(payload.getShort());
+      if (length > payload.remaining()) {
+        return null;
+      }
+      fields[i] = decodeString(payload, length);
+    }
+    buffer.position(payloadStart + payloadLength);
+    return new KillEvent(
+        ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC),
+        fields[0],
+        fields[1],
+        fields[2],
+        fields[3],
+        fields[4],
+        fields[5],
+        epochMilli);
+  }
+
+  /**
+   * Decodes a UTF-8 encoded string starting at the position of the buffer and advances the
+   * position past it. Heap buffers are decoded in place without copying the bytes first.
+   *
+   * @param buffer the buffer containing the string; cannot be null
+   * @param length the length of the encoded string in bytes
+   * @return the decoded string; never null
+   */
+  private static @NotNull String decodeString(@NotNull ByteBuffer buffer, int length) {
+    if (buffer.hasArray()) {
+      int offset = buffer.arrayOffset() + buffer.position();
+      buffer.position(buffer.position() + length);
+      return new String(buffer.array(), offset, length, StandardCharsets.UTF_8);
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Encodes a field of a kill event as UTF-8.
+   *
+   * @param field the field to encode; cannot be null
+   * @return the encoded field; never null
+   * @throws IllegalArgumentException if the encoded field is longer than 65535 bytes
+   */
+  private static byte @NotNull [] toBytes(@NotNull String field) {
+    byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > MAX_FIELD_LENGTH) {
+      throw new IllegalArgumentException("Field of kill event is too long to be stored");
+    }
+    return bytes;
+  }
+
+  /**
+   * Calculates the CRC-32C checksum of a range of a buffer without changing its position.
+   *
+   * @param buffer the buffer containing the range; cannot be null
+   * @param offset the absolute index of the first byte of the range
+   * @param length the length of the range
+   * @return the checksum
+   */
+  private static int checksum(@NotNull ByteBuffer buffer, int offset, int length) {
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.slice(offset, length));
+    return (int) crc.getValue();
+  }
+}
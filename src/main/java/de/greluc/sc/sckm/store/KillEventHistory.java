@@ -0,0 +1,592 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import de.greluc.sc.sckm.data.KillEventStore;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The KillEventHistory class persists kill events across sessions in a directory of segmented,
+ * append-only binary files.
+ *
+ * <p>Kill events are appended as records of the {@link KillEventCodec} to the active segment. Once
+ * the active segment has reached its maximum size, it is sealed and a new segment is started. Every
+ * sealed segment has a small {@link SegmentIndex} stored next to it, which holds the number of
+ * kill events and their time range, so segments outside a requested time range are skipped without
+ * being read.
+ *
+ * <p>Each record carries a checksum. When the history is opened, every segment without an
+ * up-to-date index is checked record by record and truncated after its last intact record. This
+ * removes a record that was only partially written because the application was terminated.
+ *
+ * <p>The history is thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class KillEventHistory implements AutoCloseable {
+  private static final int MAGIC = 0x53434B4D;
+  private static final int VERSION = 1;
+  private static final int SEGMENT_HEADER_SIZE = 2 * Integer.BYTES;
+  private static final long DEFAULT_MAX_SEGMENT_SIZE = 4L * 1024 * 1024;
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".sckm";
+  private static final String INDEX_SUFFIX = ".idx";
+
+  @Getter private final Path directory;
+  private final long maxSegmentSize;
+  private final List<Segment> sealedSegments = new ArrayList<>();
+  private Segment activeSegment;
+  private FileChannel activeChannel;
+
+  /**
+   * Creates a new history in the given directory.
+   *
+   * @param directory the directory containing the segment files; cannot be null
+   * @param maxSegmentSize the size in bytes after which a segment is sealed
+   */
+  private KillEventHistory(@NotNull Path directory, long maxSegmentSize) {
+    this.directory = directory;
+    this.maxSegmentSize = maxSegmentSize;
+  }
+
+  /**
+   * Opens the history stored in the given directory, which is created if it doesn't exist yet.
+   * Segments that weren't closed properly are recovered.
+   *
+   * @param directory the directory containing the segment files; cannot be null
+   * @return the opened history; never null
+   * @throws IOException if the directory or a segment can't be read or written
+   */
+  public static @NotNull KillEventHistory open(@NotNull Path directory) throws IOException {
+    return open(directory, DEFAULT_MAX_SEGMENT_SIZE);
+  }
+
+  /**
+   * Opens the history stored in the given directory with a custom maximum segment size.
+   *
+   * @param directory the directory containing the segment files; cannot be null
+   * @param maxSegmentSize the size in bytes after which a segment is sealed
+   * @return the opened history; never null
+   * @throws IOException if the directory or a segment can't be read or written
+   */
+  static @NotNull KillEventHistory open(@NotNull Path directory, long maxSegmentSize)
+      throws IOException {
+    KillEventHistory history = new KillEventHistory(directory, maxSegmentSize);
+    history.openSegments();
+    return history;
+  }
+
+  /**
+   * Appends a kill event to the history. The active segment is sealed once it has reached its
+   * maximum size.
+   *
+   * @param killEvent the kill event to append; cannot be null
+   * @throws IOException if writing the segment fails
+   * @throws IllegalStateException if the history has been closed
+   */
+  public synchronized void append(@NotNull KillEvent killEvent) throws IOException {
+    if (activeChannel == null) {
+      throw new IllegalStateException("The kill event history has been closed");
+    }
+    byte[] record = KillEventCodec.encode(killEvent);
+    ByteBuffer buffer = ByteBuffer.wrap(record);
+    long position = activeSegment.index().length();
+    while (buffer.hasRemaining()) {
+      position += activeChannel.write(buffer, position);
+    }
+    activeSegment =
+        activeSegment.withIndex(activeSegment.index().add(killEvent.epochMilli(), record.length));
+    if (activeSegment.index().length() >= maxSegmentSize) {
+      sealActiveSegment();
+      startSegment(activeSegment.number() + 1);
+    }
+  }
+
+  /**
+   * Loads all kill events of the history in the order in which they were appended.
+   *
+   * @return the kill events; never null
+   * @throws IOException if reading a segment fails
+   */
+  public @NotNull List<KillEvent> load() throws IOException {
+    return load(Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  /**
+   * Loads the kill events of the history within a time range in the order in which they were
+   * appended. Segments whose index shows that they don't contain any kill event within the time
+   * range aren't read.
+   *
+   * @param fromEpochMilli the start of the time range in milliseconds since the epoch, inclusive
+   * @param toEpochMilli the end of the time range in milliseconds since the epoch, inclusive
+   * @return the kill events within the time range; never null
+   * @throws IOException if reading a segment fails
+   */
+  public @NotNull List<KillEvent> load(long fromEpochMilli, long toEpochMilli)
+      throws IOException {
+    List<KillEvent> killEvents = new ArrayList<>();
+    load(fromEpochMilli, toEpochMilli, killEvents::add);
+    return killEvents;
+  }
+
+  /**
+   * Passes the kill events of the history within a time range to a consumer in the order in which
+   * they were appended, without collecting them. Segments whose index shows that they don't contain
+   * any kill event within the time range aren't read. The segments are decoded without holding the
+   * lock of the history, so kill events can be appended meanwhile; those are not passed on.
+   *
+   * @param fromEpochMilli the start of the time range in milliseconds since the epoch, inclusive
+   * @param toEpochMilli the end of the time range in milliseconds since the epoch, inclusive
+   * @param consumer the consumer receiving the kill events; cannot be null
+   * @throws IOException if reading a segment fails
+   */
+  public void load(
+      long fromEpochMilli, long toEpochMilli, @NotNull Consumer<? super KillEvent> consumer)
+      throws IOException {
+    for (Segment segment : getSegments()) {
+      if (segment.index().overlaps(fromEpochMilli, toEpochMilli)) {
+        readRecords(segment, fromEpochMilli, toEpochMilli, consumer);
+      }
+    }
+  }
+
+  /**
+   * Passes the newest kill events of the history to a consumer in the order in which they were
+   * appended, e.g. to restore the kill events a retention policy keeps in memory. Starting with the
+   * segment holding the newest kill events, segments are selected by their index until the selected
+   * segments are known to hold the requested number of kill events newer than all remaining
+   * segments. Only the selected segments are read.
+   *
+   * @param fromEpochMilli the timestamp in milliseconds since the epoch all passed kill events are
+   *     at least as new as
+   * @param maxCount the number of newest kill events that have to be passed, or {@code 0} to pass
+   *     all kill events since {@code fromEpochMilli}; older kill events of the selected segments
+   *     are passed as well
+   * @param consumer the consumer receiving the kill events; cannot be null
+   * @throws IOException if reading a segment fails
+   */
+  public void loadNewest(
+      long fromEpochMilli, int maxCount, @NotNull Consumer<? super KillEvent> consumer)
+      throws IOException {
+    List<Segment> newestFirst = getSegmentsNewestFirst();
+    List<Segment> selected = new ArrayList<>();
+    for (int i = 0; i < newestFirst.size(); i++) {
+      Segment segment = newestFirst.get(i);
+      if (!segment.index().overlaps(fromEpochMilli, Long.MAX_VALUE)) {
+        break;
+      }
+      selected.add(segment);
+      if (maxCount > 0 && i + 1 < newestFirst.size()) {
+        long nextMaxEpochMilli = newestFirst.get(i + 1).index().maxEpochMilli();
+        long newerCount =
+            selected.stream()
+                .map(Segment::index)
+                .filter(index -> index.minEpochMilli() > nextMaxEpochMilli)
+                .mapToLong(SegmentIndex::count)
+                .sum();
+        if (newerCount >= maxCount) {
+          break;
+        }
+      }
+    }
+    selected.sort(Comparator.comparingInt(Segment::number));
+    for (Segment segment : selected) {
+      readRecords(segment, fromEpochMilli, Long.MAX_VALUE, consumer);
+    }
+  }
+
+  /**
+   * Loads a page of the newest kill events following a cursor in the order of {@link
+   * KillEventStore#NEWEST_FIRST}, e.g. to show the kill events before the oldest one shown so far.
+   * Kill events sharing the timestamp of the cursor are ordered by their remaining fields, so they
+   * are neither skipped nor loaded twice when a page ends among them. The segments are read from
+   * the one holding the newest kill events backwards and reading stops as soon as the page is full
+   * and no remaining segment holds a kill event newer than the oldest one of the page. Only the
+   * kill events of the page are kept while reading, and the lock of the history isn't held while
+   * decoding.
+   *
+   * @param cursor the kill event all returned kill events follow, usually the oldest one shown so
+   *     far, or {@code null} to start with the newest kill event
+   * @param limit the maximum number of returned kill events
+   * @return the kill events of the page ordered from the newest to the oldest one; never null
+   * @throws IOException if reading a segment fails
+   */
+  public @NotNull List<KillEvent> loadPage(KillEvent cursor, int limit) throws IOException {
+    if (limit <= 0) {
+      return List.of();
+    }
+    long toEpochMilli = cursor == null ? Long.MAX_VALUE : cursor.epochMilli();
+    PriorityQueue<KillEvent> page = new PriorityQueue<>(KillEventStore.NEWEST_FIRST.reversed());
+    for (Segment segment : getSegmentsNewestFirst()) {
+      if (page.size() >= limit && segment.index().maxEpochMilli() < page.peek().epochMilli()) {
+        break;
+      }
+      if (segment.index().overlaps(Long.MIN_VALUE, toEpochMilli)) {
+        readRecords(
+            segment,
+            Long.MIN_VALUE,
+            toEpochMilli,
+            killEvent -> {
+              if (cursor == null || KillEventStore.NEWEST_FIRST.compare(killEvent, cursor) > 0) {
+                page.add(killEvent);
+                if (page.size() > limit) {
+                  page.poll();
+                }
+              }
+            });
+      }
+    }
+    List<KillEvent> killEvents = new ArrayList<>(page);
+    killEvents.sort(KillEventStore.NEWEST_FIRST);
+    return killEvents;
+  }
+
+  /**
+   * Returns the indexes of all segments, including the active one, in the order of the segments.
+   *
+   * @return the indexes of the segments; never null
+   */
+  public synchronized @NotNull List<SegmentIndex> getSegmentIndexes() {
+    List<SegmentIndex> indexes = new ArrayList<>();
+    sealedSegments.forEach(segment -> indexes.add(segment.index()));
+    if (activeSegment != null) {
+      indexes.add(activeSegment.index());
+    }
+    return indexes;
+  }
+
+  /**
+   * Returns all segments, including the active one, in the order of the segments. The returned
+   * segments carry their index at the time of the call, so the records they cover can be read
+   * without holding the lock, since records are only ever appended behind them.
+   *
+   * @return the segments; never null
+   */
+  private synchronized @NotNull List<Segment> getSegments() {
+    List<Segment> segments = new ArrayList<>(sealedSegments);
+    if (activeSegment != null) {
+      segments.add(activeSegment);
+    }
+    return segments;
+  }
+
+  /**
+   * Returns all segments, including the active one, ordered by their newest kill event from the
+   * newest to the oldest one. The segments are usually ordered by time already, but importing older
+   * kill events appends them to the active segment.
+   *
+   * @return the segments; never null
+   */
+  private @NotNull List<Segment> getSegmentsNewestFirst() {
+    List<Segment> segments = getSegments();
+    segments.sort(
+        Comparator.comparingLong((Segment segment) -> segment.index().maxEpochMilli()).reversed());
+    return segments;
+  }
+
+  /**
+   * Flushes the active segment to the storage device and writes its index, so the next opening
+   * doesn't have to check its records. Calling this method again has no effect.
+   *
+   * @throws IOException if writing the segment or its index fails
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (activeChannel == null) {
+      return;
+    }
+    try (FileChannel channel = activeChannel) {
+      channel.force(false);
+      activeSegment.index().write(indexPath(activeSegment.path()));
+    } finally {
+      activeChannel = null;
+    }
+  }
+
+  /**
+   * Opens the existing segments, recovering those without an up-to-date index, and opens the last
+   * segment for appending. A new segment is started if there is none or the last one is full.
+   *
+   * @throws IOException if the directory or a segment can't be read or written
+   */
+  private synchronized void openSegments() throws IOException {
+    Files.createDirectories(directory);
+    List<Path> segmentPaths;
+    try (Stream<Path> files = Files.list(directory)) {
+      segmentPaths =
+          files
+              .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+              .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+              .sorted()
+              .toList();
+    }
+    for (Path segmentPath : segmentPaths) {
+      sealedSegments.add(openSegment(segmentPath));
+    }
+    if (sealedSegments.isEmpty()) {
+      startSegment(1);
+      return;
+    }
+    Segment lastSegment = sealedSegments.getLast();
+    if (lastSegment.index().length() >= maxSegmentSize) {
+      startSegment(lastSegment.number() + 1);
+      return;
+    }
+    sealedSegments.removeLast();
+    Files.deleteIfExists(indexPath(lastSegment.path()));
+    activeSegment = lastSegment;
+    activeChannel = FileChannel.open(lastSegment.path(), StandardOpenOption.WRITE);
+  }
+
+  /**
+   * Opens an existing segment. If the segment has no up-to-date index, its records are checked,
+   * the segment is truncated after the last intact record and a new index is written.
+   *
+   * @param segmentPath the path of the segment file; cannot be null
+   * @return the opened segment; never null
+   * @throws IOException if the segment can't be read or written
+   */
+  private @NotNull Segment openSegment(@NotNull Path segmentPath) throws IOException {
+    int number = parseSegmentNumber(segmentPath);
+    long size = Files.size(segmentPath);
+    Optional<SegmentIndex> storedIndex = SegmentIndex.read(indexPath(segmentPath));
+    if (storedIndex.isPresent() && storedIndex.get().length() == size) {
+      return new Segment(number, segmentPath, storedIndex.get());
+    }
+    ByteBuffer buffer = readSegment(segmentPath, size);
+    boolean validHeader = hasValidHeader(buffer);
+    SegmentIndex index = SegmentIndex.empty(SEGMENT_HEADER_SIZE);
+    if (validHeader) {
+      buffer.position(SEGMENT_HEADER_SIZE);
+      int recordStart = buffer.position();
+      KillEvent killEvent;
+      while ((killEvent = KillEventCodec.decode(buffer)) != null) {
+        index = index.add(killEvent.epochMilli(), buffer.position() - recordStart);
+        recordStart = buffer.position();
+      }
+    }
+    if (index.length() != size || !validHeader) {
+      log.warn(
+          "Recovered {} kill events from segment {} and discarded {} damaged bytes",
+          index.count(),
+          segmentPath,
+          Math.max(0, size - index.length()));
+      try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.WRITE)) {
+        channel.truncate(index.length());
+        if (!validHeader) {
+          channel.write(createSegmentHeader(), 0);
+        }
+        channel.force(false);
+      }
+    }
+    index.write(indexPath(segmentPath));
+    return new Segment(number, segmentPath, index);
+  }
+
+  /**
+   * Starts a new, empty segment and makes it the active one.
+   *
+   * @param number the number of the new segment
+   * @throws IOException if the segment file can't be created
+   */
+  private void startSegment(int number) throws IOException {
+    Path segmentPath =
+        directory.resolve(
+            String.format(Locale.ROOT, "%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    activeChannel =
+        FileChannel.open(
+            segmentPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE);
+    activeChannel.write(createSegmentHeader(), 0);
+    activeSegment = new Segment(number, segmentPath, SegmentIndex.empty(SEGMENT_HEADER_SIZE));
+    log.debug("Started segment {} of the kill event history", segmentPath);
+  }
+
+  /**
+   * Flushes the active segment, writes its index and closes it.
+   *
+   * @throws IOException if writing the segment or its index fails
+   */
+  private void sealActiveSegment() throws IOException {
+    try (FileChannel channel = activeChannel) {
+      channel.force(false);
+      activeSegment.index().write(indexPath(activeSegment.path()));
+    }
+    sealedSegments.add(activeSegment);
+    log.debug("Sealed segment {} of the kill event history", activeSegment.path());
+  }
+
+  /**
+   * Reads the first bytes of a segment file.
+   *
+   * @param segmentPath the path of the segment file; cannot be null
+   * @param length the number of bytes to read
+   * @return the buffer containing the read bytes; never null
+   * @throws IOException if the segment can't be read
+   */
+  private static @NotNull ByteBuffer readSegment(@NotNull Path segmentPath, long length)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(length));
+    try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, buffer.position()) < 0) {
+          break;
+        }
+      }
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * Reads a segment up to the length of its index and passes its kill events within a time range to
+   * a consumer.
+   *
+   * @param segment the segment to read; cannot be null
+   * @param fromEpochMilli the start of the time range in milliseconds since the epoch, inclusive
+   * @param toEpochMilli the end of the time range in milliseconds since the epoch, inclusive
+   * @param consumer the consumer receiving the kill events; cannot be null
+   * @throws IOException if reading the segment fails
+   */
+  private static void readRecords(
+      @NotNull Segment segment,
+      long fromEpochMilli,
+      long toEpochMilli,
+      @NotNull Consumer<? super KillEvent> consumer)
+      throws IOException {
+    readRecords(
+        readSegment(segment.path(), segment.index().length()),
+        killEvent -> {
+          if (killEvent.epochMilli() >= fromEpochMilli && killEvent.epochMilli() <= toEpochMilli) {
+            consumer.accept(killEvent);
+          }
+        });
+  }
+
+  /**
+   * Decodes the records of a segment up to the first incomplete or damaged one.
+   *
+   * @param buffer the content of the segment including its header; cannot be null
+   * @param consumer the consumer receiving the decoded kill events; cannot be null
+   */
+  private static void readRecords(
+      @NotNull ByteBuffer buffer, @NotNull Consumer<KillEvent> consumer) {
+    if (!hasValidHeader(buffer)) {
+      return;
+    }
+    buffer.position(SEGMENT_HEADER_SIZE);
+    KillEvent killEvent;
+    while ((killEvent = KillEventCodec.decode(buffer)) != null) {
+      consumer.accept(killEvent);
+    }
+  }
+
+  /**
+   * Checks whether a segment starts with a valid header.
+   *
+   * @param buffer the content of the segment; cannot be null
+   * @return {@code true} if the header is valid, {@code false} otherwise
+   */
+  private static boolean hasValidHeader(@NotNull ByteBuffer buffer) {
+    return buffer.limit() >= SEGMENT_HEADER_SIZE
+        && buffer.getInt(0) == MAGIC
+        && buffer.getInt(Integer.BYTES) == VERSION;
+  }
+
+  /**
+   * Creates the header written at the start of every segment.
+   *
+   * @return the header; never null
+   */
+  private static @NotNull ByteBuffer createSegmentHeader() {
+    return ByteBuffer.allocate(SEGMENT_HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+  }
+
+  /**
+   * Extracts the number of a segment from its file name.
+   *
+   * @param segmentPath the path of the segment file; cannot be null
+   * @return the number of the segment
+   * @throws IOException if the file name doesn't contain a valid number
+   */
+  private static int parseSegmentNumber(@NotNull Path segmentPath) throws IOException {
+    String fileName = segmentPath.getFileName().toString();
+    try {
+      return Integer.parseInt(
+          fileName.substring(
+              SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    } catch (NumberFormatException numberFormatException) {
+      throw new IOException("Invalid segment file name: " + fileName, numberFormatException);
+    }
+  }
+
+  /**
+   * Determines the path of the index file of a segment.
+   *
+   * @param segmentPath the path of the segment file; cannot be null
+   * @return the path of the index file; never null
+   */
+  private static @NotNull Path indexPath(@NotNull Path segmentPath) {
+    String fileName = segmentPath.getFileName().toString();
+    return segmentPath.resolveSibling(
+        fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX);
+  }
+
+  /**
+   * A segment file of the history together with its index.
+   *
+   * @param number the number of the segment, which determines the order of the segments
+   * @param path the path of the segment file; cannot be null
+   * @param index the index of the segment; cannot be null
+   */
+  private record Segment(int number, @NotNull Path path, @NotNull SegmentIndex index) {
+    /**
+     * Creates a copy of the segment with an updated index.
+     *
+     * @param index the updated index; cannot be null
+     * @return the updated segment; never null
+     */
+    @NotNull Segment withIndex(@NotNull SegmentIndex index) {
+      return new Segment(number, path, index);
+    }
+  }
+}
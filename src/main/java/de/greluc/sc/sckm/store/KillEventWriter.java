@@ -0,0 +1,382 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The KillEventWriter class appends kill events to a file in JSON format on a dedicated background
+ * thread, so the threads passing the kill events never wait for the storage device.
+ *
+ * <p>The file stays open while the writer is open and the kill events are serialized by a single
+ * preconfigured {@link ObjectWriter}. Kill events passed to the writer are queued and written in
+ * group commits: the background thread takes all queued kill events, waits up to the configured
+ * delay for more of them and writes the whole batch with a single write. When a large number of
+ * kill events arrives at once, e.g. during an import, the batches grow up to their maximum size
+ * and the file is written at the speed of the storage device. The file is forced to the storage
+ * device according to the configured {@link SyncPolicy}.
+ *
+ * <p>In the {@link OutputFormat#JSON} format, the file contains the pretty-printed kill events
+ * separated by commas, and appending to an existing file continues its list. In the {@link
+ * OutputFormat#NDJSON} format, every kill event is streamed through a single {@link JsonGenerator}
+ * as a compact object on a line of its own, so the file can be read incrementally, see {@link
+ * NdjsonKillEventReader}.
+ *
+ * <p>If the configured {@link RollingPolicy} is enabled, the file is rolled over to a numbered
+ * archive once it has reached its maximum size or when the first kill event of a new day is
+ * written, and writing continues with a new file. The archives are compressed and the oldest of
+ * them deleted in the background, see {@link FileRoller}.
+ *
+ * <p>If the file can't be opened again after a roll-over, the writer keeps running without a file
+ * and tries to open it again with every following commit. The kill events of commits that fail
+ * meanwhile are counted as failed, see {@link #getFailedCount()}.
+ *
+ * <p>The writer is thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class KillEventWriter implements AutoCloseable {
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  private static final ObjectWriter JSON_WRITER =
+      OBJECT_MAPPER.writer(SerializationFeature.INDENT_OUTPUT);
+  private static final ObjectWriter NDJSON_WRITER = OBJECT_MAPPER.writer();
+  private static final byte[] SEPARATOR =
+      ("," + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+  private static final Object END_OF_QUEUE = new Object();
+
+  @Getter private final Path file;
+  private final WriterConfig config;
+  private final FileRoller roller;
+  private FileChannel channel;
+  private OutputStream output;
+  private LocalDate fileDate;
+  private final BlockingQueue<Object> queue;
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+  private final JsonGenerator generator;
+  private final LongAdder writtenCount = new LongAdder();
+  private final LongAdder commitCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+  private final Thread thread;
+  private boolean hasContent;
+  private volatile boolean isClosed;
+
+  /**
+   * Opens the file for appending, creating it and its directory if necessary, and starts the
+   * background thread.
+   *
+   * @param file the file to append the kill events to; cannot be null
+   * @param config the configuration of the writer; cannot be null
+   * @throws IOException if the file can't be opened
+   */
+  public KillEventWriter(@NotNull Path file, @NotNull WriterConfig config) throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    if (directory != null) {
+      Files.createDirectories(directory);
+    }
+    this.file = file;
+    this.config = config;
+    openFile();
+    if (hasContent) {
+      this.fileDate =
+          LocalDate.ofInstant(Files.getLastModifiedTime(file).toInstant(), ZoneId.systemDefault());
+    }
+    this.roller =
+        config.rollingPolicy().isEnabled() ? new FileRoller(file, config.rollingPolicy()) : null;
+    this.generator = NDJSON_WRITER.createGenerator(buffer).setRootValueSeparator(null);
+    this.queue = new ArrayBlockingQueue<>(config.queueCapacity() + 1);
+    this.thread = Thread.ofVirtual().name("sckm-writer").start(this::run);
+  }
+
+  /**
+   * Queues a kill event for writing. Blocks while the queue is full.
+   *
+   * @param killEvent the kill event to write; cannot be null
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   * @throws IllegalStateException if the writer has been closed
+   */
+  public void write(@NotNull KillEvent killEvent) throws InterruptedException {
+    if (isClosed) {
+      throw new IllegalStateException("The kill event writer has been closed");
+    }
+    queue.put(killEvent);
+  }
+
+  /**
+   * Returns the number of kill events written to the file so far.
+   *
+   * @return the number of written kill events
+   */
+  public long getWrittenCount() {
+    return writtenCount.sum();
+  }
+
+  /**
+   * Returns the number of group commits so far, each of which wrote one or more kill events.
+   *
+   * @return the number of group commits
+   */
+  public long getCommitCount() {
+    return commitCount.sum();
+  }
+
+  /**
+   * Returns the number of kill events that couldn't be written to the file so far, e.g. because
+   * the file couldn't be opened again after a roll-over.
+   *
+   * @return the number of failed kill events
+   */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+
+  /**
+   * Writes all kill events queued before this call, stops the background thread and closes the
+   * file, which is forced to the storage device first unless the sync policy is {@link
+   * SyncPolicy#NONE}. Kill events queued concurrently with this call may be lost. Calling this
+   * method again has no effect.
+   *
+   * <p>The method waits for the background thread even if the calling thread is interrupted, so
+   * no queued kill event is lost; the interrupt status is restored afterward. If the file is
+   * rolled over, the method also waits until the archives have been compressed.
+   *
+   * @throws IOException if forcing or closing the file fails
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    boolean isInterrupted = false;
+    while (true) {
+      try {
+        queue.put(END_OF_QUEUE);
+        thread.join();
+        break;
+      } catch (InterruptedException interruptedException) {
+        isInterrupted = true;
+      }
+    }
+    try (FileChannel closedChannel = channel) {
+      if (closedChannel != null && config.syncPolicy() != SyncPolicy.NONE) {
+        closedChannel.force(false);
+      }
+    } finally {
+      if (roller != null) {
+        roller.close();
+      }
+      if (isInterrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Opens the file for appending, creating it if necessary. If the file can't be opened, the writer
+   * is left without a file.
+   *
+   * @throws IOException if the file can't be opened
+   */
+  private void openFile() throws IOException {
+    channel = null;
+    output = null;
+    FileChannel openedChannel =
+        FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    channel = openedChannel;
+    output = Channels.newOutputStream(openedChannel);
+    hasContent = openedChannel.size() > 0;
+    fileDate = LocalDate.now();
+  }
+
+  /**
+   * Opens the file again if it couldn't be opened after the previous roll-over.
+   *
+   * @throws IOException if the file still can't be opened
+   */
+  private void reopenIfClosed() throws IOException {
+    if (channel != null) {
+      return;
+    }
+    openFile();
+    log.info("Reopened the file {}", file);
+  }
+
+  /**
+   * Rolls the file over to an archive if the rolling policy demands it and opens a new file. The
+   * file is forced to the storage device before it's closed unless the sync policy is {@link
+   * SyncPolicy#NONE}. If closing or rolling over the file fails, the error is logged and the file
+   * is reopened, so the kill events are still written to it and the roll-over is tried again with
+   * the next commit. If the file can't be opened again, the writer is left without a file until
+   * the next commit opens it, see {@link #reopenIfClosed()}.
+   *
+   * @throws IOException if the file can't be opened again
+   */
+  private void rollIfNeeded() throws IOException {
+    if (roller == null
+        || !roller.shouldRoll(channel.size(), fileDate.isBefore(LocalDate.now()))) {
+      return;
+    }
+    try {
+      try (FileChannel closedChannel = channel) {
+        if (config.syncPolicy() != SyncPolicy.NONE) {
+          closedChannel.force(false);
+        }
+      }
+      roller.roll();
+    } catch (IOException ioException) {
+      log.error("Failed to roll over the file {}", file);
+      log.trace("Stacktrace:", ioException);
+    } finally {
+      openFile();
+    }
+  }
+
+  /** Writes the queued kill events in group commits until the end of the queue is reached. */
+  private void run() {
+    List<Object> batch = new ArrayList<>(config.maxBatchSize());
+    boolean isEnd = false;
+    try {
+      while (!isEnd) {
+        batch.add(queue.take());
+        collectBatch(batch);
+        isEnd = commit(batch);
+        batch.clear();
+      }
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Adds the queued kill events to a batch, waiting up to the configured delay for more of them
+   * until the batch is full or the end of the queue is reached.
+   *
+   * @param batch the batch containing at least the first kill event; cannot be null
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  private void collectBatch(@NotNull List<Object> batch) throws InterruptedException {
+    long deadline = System.nanoTime() + config.maxBatchDelay().toNanos();
+    queue.drainTo(batch, config.maxBatchSize() - batch.size());
+    while (batch.size() < config.maxBatchSize() && !batch.contains(END_OF_QUEUE)) {
+      Object next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+      queue.drainTo(batch, config.maxBatchSize() - batch.size());
+    }
+  }
+
+  /**
+   * Serializes a kill event into the buffer in the configured output format.
+   *
+   * @param killEvent the kill event to serialize; cannot be null
+   * @throws IOException if the kill event can't be serialized
+   */
+  private void serialize(@NotNull KillEvent killEvent) throws IOException {
+    if (config.format() == OutputFormat.NDJSON) {
+      NDJSON_WRITER.writeValue(generator, killEvent);
+      generator.writeRaw('\n');
+      return;
+    }
+    if (hasContent) {
+      buffer.write(SEPARATOR);
+    }
+    JSON_WRITER.writeValue(buffer, killEvent);
+    hasContent = true;
+  }
+
+  /**
+   * Serializes a batch of kill events and appends it to the file with a single write, forcing the
+   * file afterward if the sync policy demands it. The file is opened again first if it couldn't be
+   * opened after the previous roll-over. The kill events of a failed commit are dropped and counted
+   * as failed.
+   *
+   * @param batch the kill events to write, possibly ending with the end of the queue; cannot be
+   *     null
+   * @return {@code true} if the end of the queue was reached, {@code false} otherwise
+   */
+  private boolean commit(@NotNull List<Object> batch) {
+    buffer.reset();
+    int count = 0;
+    boolean isEnd = batch.contains(END_OF_QUEUE);
+    try {
+      if (batch.getFirst() != END_OF_QUEUE) {
+        reopenIfClosed();
+        rollIfNeeded();
+      }
+      for (Object element : batch) {
+        if (element == END_OF_QUEUE) {
+          break;
+        }
+        serialize((KillEvent) element);
+        count++;
+      }
+      generator.flush();
+      if (count > 0) {
+        buffer.writeTo(output);
+        if (config.syncPolicy() == SyncPolicy.EVERY_COMMIT) {
+          channel.force(false);
+        }
+        writtenCount.add(count);
+        commitCount.increment();
+        log.debug("Wrote {} kill events to {}", count, file);
+      }
+    } catch (IOException ioException) {
+      long failed = batch.stream().filter(element -> element != END_OF_QUEUE).count();
+      failedCount.add(failed);
+      log.error("Error while writing {} kill events to file {}", failed, file);
+      log.trace("Stacktrace:", ioException);
+    }
+    return isEnd;
+  }
+}
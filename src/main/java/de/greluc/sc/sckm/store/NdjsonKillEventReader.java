@@ -0,0 +1,237 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The NdjsonKillEventReader class reads the kill events of a file written in the {@link
+ * OutputFormat#NDJSON} format incrementally, e.g. while the file is still being written.
+ *
+ * <p>Each call of {@link #readAvailable(Consumer)} reads the bytes appended to the file since the
+ * previous call and parses all complete lines with a streaming {@link JsonParser}, without
+ * creating a tree or using reflection. An incomplete last line is kept until the rest of it has
+ * been written. The reader only holds a buffer of a fixed size, which grows only if a single line
+ * doesn't fit, so any file is read in constant memory.
+ *
+ * <p>Complete files, including the GZIP-compressed archives of a rolled-over file, are read with
+ * {@link #readAll(Path, Consumer)}, which streams them without decompressing them to disk first.
+ *
+ * <p>The reader isn't thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public class NdjsonKillEventReader implements AutoCloseable {
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  @Getter private final Path file;
+  private final FileChannel channel;
+  private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+  /**
+   * Opens a file for reading from its beginning.
+   *
+   * @param file the file written in the NDJSON format; cannot be null
+   * @throws IOException if the file can't be opened
+   */
+  public NdjsonKillEventReader(@NotNull Path file) throws IOException {
+    this.file = file;
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+  }
+
+  /**
+   * Reads all kill events of a complete file and passes them to a consumer in the order of the
+   * file. Files whose name ends with {@code .gz} are decompressed while they're read.
+   *
+   * @param file the file written in the NDJSON format, possibly compressed; cannot be null
+   * @param consumer the consumer receiving the kill events; cannot be null
+   * @return the number of read kill events
+   * @throws IOException if reading the file fails or a line isn't a valid kill event
+   */
+  public static long readAll(@NotNull Path file, @NotNull Consumer<? super KillEvent> consumer)
+      throws IOException {
+    InputStream input = Files.newInputStream(file);
+    if (file.getFileName().toString().endsWith(".gz")) {
+      input = new GZIPInputStream(input, BUFFER_SIZE);
+    }
+    try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+      return parse(file, parser, consumer);
+    }
+  }
+
+  /**
+   * Reads all complete lines appended to the file since the previous call and passes their kill
+   * events to a consumer in the order of the file.
+   *
+   * @param consumer the consumer receiving the kill events; cannot be null
+   * @return the number of read kill events
+   * @throws IOException if reading the file fails or a line isn't a valid kill event
+   */
+  public int readAvailable(@NotNull Consumer<? super KillEvent> consumer) throws IOException {
+    int count = 0;
+    while (channel.read(buffer) > 0) {
+      int end = lastLineEnd();
+      if (end > 0) {
+        count += parse(end, consumer);
+        buffer.flip().position(end);
+        buffer.compact();
+      } else if (!buffer.hasRemaining()) {
+        buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Closes the file.
+   *
+   * @throws IOException if closing the file fails
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Finds the end of the last complete line in the buffer.
+   *
+   * @return the number of bytes up to and including the last line break, or {@code 0} if the
+   *     buffer doesn't contain a complete line
+   */
+  private int lastLineEnd() {
+    byte[] bytes = buffer.array();
+    for (int i = buffer.position() - 1; i >= 0; i--) {
+      if (bytes[i] == '\n') {
+        return i + 1;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Parses the kill events of the complete lines at the start of the buffer.
+   *
+   * @param length the number of bytes of the complete lines
+   * @param consumer the consumer receiving the kill events; cannot be null
+   * @return the number of parsed kill events
+   * @throws IOException if a line isn't a valid kill event
+   */
+  private int parse(int length, @NotNull Consumer<? super KillEvent> consumer)
+      throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(buffer.array(), 0, length)) {
+      return (int) parse(file, parser, consumer);
+    }
+  }
+
+  /**
+   * Parses all kill events of a parser until its input ends.
+   *
+   * @param file the file being read, used in error messages; cannot be null
+   * @param parser the parser; cannot be null
+   * @param consumer the consumer receiving the kill events; cannot be null
+   * @return the number of parsed kill events
+   * @throws IOException if a line isn't a valid kill event
+   */
+  private static long parse(
+      @NotNull Path file,
+      @NotNull JsonParser parser,
+      @NotNull Consumer<? super KillEvent> consumer)
+      throws IOException {
+    long count = 0;
+    JsonToken token;
+    while ((token = parser.nextToken()) != null) {
+      if (token != JsonToken.START_OBJECT) {
+        throw new IOException("Invalid kill event in " + file + ": " + parser.currentLocation());
+      }
+      consumer.accept(readKillEvent(file, parser));
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Reads a single kill event from a parser positioned at the start of its object. Unknown fields
+   * are skipped.
+   *
+   * @param file the file being read, used in error messages; cannot be null
+   * @param parser the parser; cannot be null
+   * @return the kill event; never null
+   * @throws IOException if the object isn't a valid kill event
+   */
+  private static @NotNull KillEvent readKillEvent(@NotNull Path file, @NotNull JsonParser parser)
+      throws IOException {
+    String timestamp = null;
+    String killedPlayer = null;
+    String killer = null;
+    String weapon = null;
+    String weaponClass = null;
+    String damageType = null;
+    String zone = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      switch (name) {
+        case "timestamp" -> timestamp = parser.getValueAsString();
+        case "killedPlayer" -> killedPlayer = parser.getValueAsString();
+        case "killer" -> killer = parser.getValueAsString();
+        case "weapon" -> weapon = parser.getValueAsString();
+        case "weaponClass" -> weaponClass = parser.getValueAsString();
+        case "damageType" -> damageType = parser.getValueAsString();
+        case "zone" -> zone = parser.getValueAsString();
+        default -> parser.skipChildren();
+      }
+    }
+    if (timestamp == null) {
+      throw new IOException("Kill event without timestamp in " + file);
+    }
+    try {
+      return new KillEvent(
+          ZonedDateTime.parse(timestamp),
+          killedPlayer,
+          killer,
+          weapon,
+          weaponClass,
+          damageType,
+          zone);
+    } catch (DateTimeParseException dateTimeParseException) {
+      throw new IOException("Invalid timestamp in " + file, dateTimeParseException);
+    }
+  }
+}
@@ -0,0 +1,581 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import de.greluc.sc.sckm.data.KillEventStore;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemoryLayout.PathElement;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The OffHeapKillEvents class holds kill events outside the Java heap, so even a very large
+ * history neither adds to the work of the garbage collector nor to the length of its pauses.
+ *
+ * <p>The kill events are stored as fixed-width records of 32 bytes in a {@link MemorySegment}:
+ * the timestamp in milliseconds since the epoch followed by the ids of the killed player, killer,
+ * weapon, weapon class, damage type and zone. As in {@link ColumnarKillEvents}, the ids refer to
+ * shared {@link StringDictionary} objects, which only hold the distinct strings and remain on the
+ * heap. A {@link KillEvent} is only created on demand by {@link #get(int)}.
+ *
+ * <p>The records are either kept in memory allocated by an {@link Arena}, see {@link
+ * #allocate(int)}, or in a memory-mapped file, see {@link #open(Path)}. A file-backed instance
+ * persists its records and dictionaries when it is flushed or closed and maps them back in when it
+ * is opened again, without reading or decoding any record. The file starts with a header holding
+ * the number of valid records, which is only updated after the dictionaries have been written, so
+ * a crash never leaves records referring to unknown ids behind.
+ *
+ * <p>A temporary instance, see {@link #openTemporary()}, serves as a spill area for kill events
+ * evicted from the heap during a session. Its file is mapped like any other backing file, so the
+ * operating system pages the records out to disk under memory pressure, and it is deleted when the
+ * instance is closed. Older kill events are paged back in by {@link #loadPage(KillEvent, int)}.
+ *
+ * <p>The class isn't thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Log4j2
+public class OffHeapKillEvents implements AutoCloseable {
+  private static final StructLayout RECORD =
+      MemoryLayout.structLayout(
+          JAVA_LONG.withName("epochMilli"),
+          JAVA_INT.withName("killedPlayer"),
+          JAVA_INT.withName("killer"),
+          JAVA_INT.withName("weapon"),
+          JAVA_INT.withName("weaponClass"),
+          JAVA_INT.withName("damageType"),
+          JAVA_INT.withName("zone"));
+  private static final long RECORD_SIZE = RECORD.byteSize();
+  private static final long EPOCH_MILLI_OFFSET = offsetOf("epochMilli");
+  private static final long KILLED_PLAYER_OFFSET = offsetOf("killedPlayer");
+  private static final long KILLER_OFFSET = offsetOf("killer");
+  private static final long WEAPON_OFFSET = offsetOf("weapon");
+  private static final long WEAPON_CLASS_OFFSET = offsetOf("weaponClass");
+  private static final long DAMAGE_TYPE_OFFSET = offsetOf("damageType");
+  private static final long ZONE_OFFSET = offsetOf("zone");
+  private static final int MAGIC = 0x53434B4F;
+  private static final int VERSION = 1;
+  private static final long HEADER_SIZE = RECORD_SIZE;
+  private static final long COUNT_OFFSET = 2L * Integer.BYTES;
+  private static final int DEFAULT_CAPACITY = 64 * 1024;
+  private static final String DICTIONARY_SUFFIX = ".dict";
+  private static final String TEMPORARY_FILE = "spill.sckm";
+
+  @Getter private final Path file;
+  private final FileChannel channel;
+  private final boolean isTemporary;
+  @Getter private final StringDictionary players;
+  @Getter private final StringDictionary weapons;
+  @Getter private final StringDictionary damageTypes;
+  @Getter private final StringDictionary zones;
+  private Arena arena;
+  private MemorySegment segment;
+  private int capacity;
+  private int size;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param file the backing file, or {@code null} to keep the records in memory
+   * @param channel the channel of the backing file, or {@code null} to keep the records in memory
+   * @param isTemporary {@code true} to delete the backing file and its directory when closed
+   * @param dictionaries the players, weapons, damage types and zones dictionaries; cannot be null
+   * @param size the number of valid records
+   */
+  private OffHeapKillEvents(
+      Path file,
+      FileChannel channel,
+      boolean isTemporary,
+      @NotNull StringDictionary[] dictionaries,
+      int size) {
+    this.file = file;
+    this.channel = channel;
+    this.isTemporary = isTemporary;
+    this.players = dictionaries[0];
+    this.weapons = dictionaries[1];
+    this.damageTypes = dictionaries[2];
+    this.zones = dictionaries[3];
+    this.size = size;
+  }
+
+  /**
+   * Creates an empty instance keeping its records in off-heap memory.
+   *
+   * @param initialCapacity the number of records to allocate memory for; the memory grows as
+   *     needed
+   * @return the new instance; never null
+   * @throws IllegalArgumentException if the initial capacity isn't positive
+   */
+  public static @NotNull OffHeapKillEvents allocate(int initialCapacity) {
+    if (initialCapacity <= 0) {
+      throw new IllegalArgumentException("The initial capacity must be positive");
+    }
+    OffHeapKillEvents killEvents =
+        new OffHeapKillEvents(null, null, false, newDictionaries(), 0);
+    killEvents.reallocate(initialCapacity);
+    return killEvents;
+  }
+
+  /**
+   * Opens an instance backed by the given file, which is created if it doesn't exist yet. The
+   * records of an existing file are mapped into memory without being read.
+   *
+   * @param file the backing file; cannot be null
+   * @return the opened instance; never null
+   * @throws IOException if the file or its dictionaries can't be read or are corrupt
+   */
+  public static @NotNull OffHeapKillEvents open(@NotNull Path file) throws IOException {
+    return open(file, false);
+  }
+
+  /**
+   * Opens an empty instance backed by a file in a new temporary directory, which is deleted with
+   * the file when the instance is closed.
+   *
+   * @return the opened instance; never null
+   * @throws IOException if the directory or file can't be created
+   */
+  public static @NotNull OffHeapKillEvents openTemporary() throws IOException {
+    Path directory = Files.createTempDirectory("sckm-spill");
+    try {
+      return open(directory.resolve(TEMPORARY_FILE), true);
+    } catch (IOException ioException) {
+      Files.deleteIfExists(dictionaryPath(directory.resolve(TEMPORARY_FILE)));
+      Files.deleteIfExists(directory.resolve(TEMPORARY_FILE));
+      Files.deleteIfExists(directory);
+      throw ioException;
+    }
+  }
+
+  /**
+   * Opens an instance backed by the given file, which is created if it doesn't exist yet.
+   *
+   * @param file the backing file; cannot be null
+   * @param isTemporary {@code true} to delete the file and its directory when closed
+   * @return the opened instance; never null
+   * @throws IOException if the file or its dictionaries can't be read or are corrupt
+   */
+  private static @NotNull OffHeapKillEvents open(@NotNull Path file, boolean isTemporary)
+      throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      boolean exists = channel.size() >= HEADER_SIZE;
+      StringDictionary[] dictionaries =
+          exists ? readDictionaries(dictionaryPath(file)) : newDictionaries();
+      int size = exists ? readSize(channel) : 0;
+      OffHeapKillEvents killEvents =
+          new OffHeapKillEvents(file, channel, isTemporary, dictionaries, size);
+      killEvents.resize(
+          Math.max(DEFAULT_CAPACITY, (int) ((channel.size() - HEADER_SIZE) / RECORD_SIZE)));
+      if (!exists) {
+        killEvents.segment.set(JAVA_INT, 0, MAGIC);
+        killEvents.segment.set(JAVA_INT, Integer.BYTES, VERSION);
+        killEvents.flush();
+      }
+      log.debug("Mapped {} kill events from {}", size, file);
+      return killEvents;
+    } catch (IOException | RuntimeException exception) {
+      channel.close();
+      throw exception;
+    }
+  }
+
+  /**
+   * Appends a kill event.
+   *
+   * @param killEvent the kill event to append; cannot be null
+   * @return the index of the appended kill event
+   * @throws IOException if the backing file can't be enlarged
+   */
+  public int append(@NotNull KillEvent killEvent) throws IOException {
+    if (size == capacity) {
+      resize(capacity * 2);
+    }
+    long offset = offsetOfRecord(size);
+    segment.set(JAVA_LONG, offset + EPOCH_MILLI_OFFSET, killEvent.epochMilli());
+    segment.set(JAVA_INT, offset + KILLED_PLAYER_OFFSET, players.idOf(killEvent.killedPlayer()));
+    segment.set(JAVA_INT, offset + KILLER_OFFSET, players.idOf(killEvent.killer()));
+    segment.set(JAVA_INT, offset + WEAPON_OFFSET, weapons.idOf(killEvent.weapon()));
+    segment.set(JAVA_INT, offset + WEAPON_CLASS_OFFSET, weapons.idOf(killEvent.weaponClass()));
+    segment.set(JAVA_INT, offset + DAMAGE_TYPE_OFFSET, damageTypes.idOf(killEvent.damageType()));
+    segment.set(JAVA_INT, offset + ZONE_OFFSET, zones.idOf(killEvent.zone()));
+    return size++;
+  }
+
+  /**
+   * Returns the number of stored kill events.
+   *
+   * @return the number of stored kill events
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Creates the kill event stored at the given index.
+   *
+   * @param index the index of the kill event
+   * @return the kill event; never null
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public @NotNull KillEvent get(int index) {
+    long offset = offsetOfRecord(Objects.checkIndex(index, size));
+    long epochMilli = segment.get(JAVA_LONG, offset + EPOCH_MILLI_OFFSET);
+    return new KillEvent(
+        ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC),
+        players.valueOf(segment.get(JAVA_INT, offset + KILLED_PLAYER_OFFSET)),
+        players.valueOf(segment.get(JAVA_INT, offset + KILLER_OFFSET)),
+        weapons.valueOf(segment.get(JAVA_INT, offset + WEAPON_OFFSET)),
+        weapons.valueOf(segment.get(JAVA_INT, offset + WEAPON_CLASS_OFFSET)),
+        damageTypes.valueOf(segment.get(JAVA_INT, offset + DAMAGE_TYPE_OFFSET)),
+        zones.valueOf(segment.get(JAVA_INT, offset + ZONE_OFFSET)),
+        epochMilli);
+  }
+
+  /**
+   * Returns the timestamp of the kill event stored at the given index.
+   *
+   * @param index the index of the kill event
+   * @return the timestamp in milliseconds since the epoch
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long getEpochMilli(int index) {
+    return segment.get(
+        JAVA_LONG, offsetOfRecord(Objects.checkIndex(index, size)) + EPOCH_MILLI_OFFSET);
+  }
+
+  /**
+   * Counts the kill events of each killer within a time range by scanning the records.
+   *
+   * @param fromEpochMilli the start of the time range in milliseconds since the epoch, inclusive
+   * @param toEpochMilli the end of the time range in milliseconds since the epoch, inclusive
+   * @return the number of kill events per killer, containing only killers with at least one kill
+   *     event; never null
+   */
+  public @NotNull Map<String, Integer> countByKiller(long fromEpochMilli, long toEpochMilli) {
+    int[] counts = new int[players.size()];
+    for (int i = 0; i < size; i++) {
+      long offset = offsetOfRecord(i);
+      long epochMilli = segment.get(JAVA_LONG, offset + EPOCH_MILLI_OFFSET);
+      if (epochMilli >= fromEpochMilli && epochMilli <= toEpochMilli) {
+        counts[segment.get(JAVA_INT, offset + KILLER_OFFSET)]++;
+      }
+    }
+    Map<String, Integer> countsByKiller = new HashMap<>();
+    for (int id = 0; id < counts.length; id++) {
+      if (counts[id] > 0) {
+        countsByKiller.put(players.valueOf(id), counts[id]);
+      }
+    }
+    return countsByKiller;
+  }
+
+  /**
+   * Loads a page of the newest kill events following a cursor in the order of {@link
+   * KillEventStore#NEWEST_FIRST}, e.g. to show the kill events before the oldest one shown so far.
+   * Only the timestamps of the records are scanned, apart from those sharing a timestamp with the
+   * cursor or the page, and only the kill events of the page are created.
+   *
+   * @param cursor the kill event all returned kill events follow, usually the oldest one shown so
+   *     far, or {@code null} to start with the newest kill event
+   * @param limit the maximum number of returned kill events
+   * @return the kill events of the page ordered from the newest to the oldest one; never null
+   */
+  public @NotNull List<KillEvent> loadPage(KillEvent cursor, int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    Comparator<Integer> newestFirst =
+        Comparator.comparingLong(this::epochMilliAt)
+            .reversed()
+            .thenComparing(this::get, KillEventStore.NEWEST_FIRST);
+    PriorityQueue<Integer> page = new PriorityQueue<>(newestFirst.reversed());
+    for (int i = 0; i < size; i++) {
+      if (follows(i, cursor) && (page.size() < limit || newestFirst.compare(i, page.peek()) < 0)) {
+        page.add(i);
+        if (page.size() > limit) {
+          page.poll();
+        }
+      }
+    }
+    List<KillEvent> killEvents = new ArrayList<>(page.size());
+    while (!page.isEmpty()) {
+      killEvents.add(get(page.poll()));
+    }
+    return killEvents.reversed();
+  }
+
+  /**
+   * Checks whether a record follows a cursor in the order of {@link KillEventStore#NEWEST_FIRST}.
+   * The kill event of the record is only created if it shares the timestamp of the cursor.
+   *
+   * @param index the index of the record
+   * @param cursor the kill event of the cursor, or {@code null} if every record follows it
+   * @return {@code true} if the record follows the cursor, {@code false} otherwise
+   */
+  private boolean follows(int index, KillEvent cursor) {
+    if (cursor == null) {
+      return true;
+    }
+    long epochMilli = epochMilliAt(index);
+    return epochMilli < cursor.epochMilli()
+        || (epochMilli == cursor.epochMilli()
+            && KillEventStore.NEWEST_FIRST.compare(get(index), cursor) > 0);
+  }
+
+  /**
+   * Persists the records and dictionaries of a file-backed instance. The dictionaries are written
+   * before the number of valid records is updated. Has no effect for an instance kept in memory or
+   * a temporary one.
+   *
+   * @throws IOException if writing the file or its dictionaries fails
+   */
+  public void flush() throws IOException {
+    if (channel == null || isTemporary) {
+      return;
+    }
+    writeDictionaries();
+    segment.force();
+    segment.set(JAVA_LONG, COUNT_OFFSET, size);
+    segment.force();
+  }
+
+  /**
+   * Flushes a file-backed instance and releases the memory of the records. A temporary instance
+   * is deleted instead. The instance can't be used afterward.
+   *
+   * @throws IOException if flushing, closing or deleting the backing file fails
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      arena.close();
+      if (channel != null) {
+        channel.close();
+      }
+    }
+    if (isTemporary) {
+      Files.deleteIfExists(dictionaryPath(file));
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(file.toAbsolutePath().getParent());
+    }
+  }
+
+  /**
+   * Returns the timestamp of the record at the given index without checking the index.
+   *
+   * @param index the index of the record
+   * @return the timestamp in milliseconds since the epoch
+   */
+  private long epochMilliAt(int index) {
+    return segment.get(JAVA_LONG, offsetOfRecord(index) + EPOCH_MILLI_OFFSET);
+  }
+
+  /**
+   * Replaces the memory of the records with a larger one, which either maps a larger part of the
+   * backing file or is newly allocated.
+   *
+   * @param newCapacity the number of records the new memory can hold
+   * @throws IOException if the backing file can't be mapped
+   */
+  private void resize(int newCapacity) throws IOException {
+    if (channel == null) {
+      reallocate(newCapacity);
+      return;
+    }
+    Arena newArena = Arena.ofShared();
+    MemorySegment newSegment =
+        channel.map(FileChannel.MapMode.READ_WRITE, 0, offsetOfRecord(newCapacity), newArena);
+    replaceSegment(newArena, newSegment, newCapacity);
+  }
+
+  /**
+   * Replaces the memory of an instance kept in memory with a newly allocated one, which receives a
+   * copy of the valid records.
+   *
+   * @param newCapacity the number of records the new memory can hold
+   */
+  private void reallocate(int newCapacity) {
+    Arena newArena = Arena.ofShared();
+    MemorySegment newSegment =
+        newArena.allocate(offsetOfRecord(newCapacity), JAVA_LONG.byteAlignment());
+    if (segment != null) {
+      MemorySegment.copy(segment, 0, newSegment, 0, offsetOfRecord(size));
+    }
+    replaceSegment(newArena, newSegment, newCapacity);
+  }
+
+  /**
+   * Releases the current memory of the records and replaces it with the given one.
+   *
+   * @param newArena the arena owning the new memory; cannot be null
+   * @param newSegment the new memory; cannot be null
+   * @param newCapacity the number of records the new memory can hold
+   */
+  private void replaceSegment(
+      @NotNull Arena newArena, @NotNull MemorySegment newSegment, int newCapacity) {
+    if (arena != null) {
+      arena.close();
+    }
+    arena = newArena;
+    segment = newSegment;
+    capacity = newCapacity;
+  }
+
+  /**
+   * Writes the dictionaries to a temporary file, which then replaces the dictionary file.
+   *
+   * @throws IOException if writing the dictionaries fails
+   */
+  private void writeDictionaries() throws IOException {
+    Path dictionaryFile = dictionaryPath(file);
+    Path temporaryFile = dictionaryFile.resolveSibling(dictionaryFile.getFileName() + ".tmp");
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+      players.writeTo(output);
+      weapons.writeTo(output);
+      damageTypes.writeTo(output);
+      zones.writeTo(output);
+    }
+    Files.move(
+        temporaryFile,
+        dictionaryFile,
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Reads the dictionaries stored next to a backing file.
+   *
+   * @param dictionaryFile the dictionary file; cannot be null
+   * @return the players, weapons, damage types and zones dictionaries; never null
+   * @throws IOException if the dictionaries can't be read or are corrupt
+   */
+  private static @NotNull StringDictionary[] readDictionaries(@NotNull Path dictionaryFile)
+      throws IOException {
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(dictionaryFile)))) {
+      StringDictionary[] dictionaries = new StringDictionary[4];
+      for (int i = 0; i < dictionaries.length; i++) {
+        dictionaries[i] = StringDictionary.readFrom(input);
+      }
+      return dictionaries;
+    }
+  }
+
+  /**
+   * Reads and validates the header of a backing file.
+   *
+   * @param channel the channel of the backing file; cannot be null
+   * @return the number of valid records
+   * @throws IOException if the header is invalid
+   */
+  private static int readSize(@NotNull FileChannel channel) throws IOException {
+    try (Arena headerArena = Arena.ofConfined()) {
+      MemorySegment header =
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE, headerArena);
+      long count = header.get(JAVA_LONG, COUNT_OFFSET);
+      if (header.get(JAVA_INT, 0) != MAGIC
+          || header.get(JAVA_INT, Integer.BYTES) != VERSION
+          || count < 0
+          || HEADER_SIZE + count * RECORD_SIZE > channel.size()) {
+        throw new IOException("Invalid header of kill event file");
+      }
+      return Math.toIntExact(count);
+    }
+  }
+
+  /**
+   * Creates empty players, weapons, damage types and zones dictionaries.
+   *
+   * @return the dictionaries; never null
+   */
+  private static @NotNull StringDictionary[] newDictionaries() {
+    return new StringDictionary[] {
+      new StringDictionary(), new StringDictionary(), new StringDictionary(), new StringDictionary()
+    };
+  }
+
+  /**
+   * Calculates the offset of a record. A file-backed instance reserves the space of the first
+   * record for its header, so all records are shifted by one.
+   *
+   * @param index the index of the record
+   * @return the offset of the record in bytes
+   */
+  private long offsetOfRecord(int index) {
+    return (channel == null ? 0 : HEADER_SIZE) + index * RECORD_SIZE;
+  }
+
+  /**
+   * Determines the offset of a field within a record.
+   *
+   * @param name the name of the field; cannot be null
+   * @return the offset of the field in bytes
+   */
+  private static long offsetOf(@NotNull String name) {
+    return RECORD.byteOffset(PathElement.groupElement(name));
+  }
+
+  /**
+   * Determines the path of the dictionary file stored next to a backing file.
+   *
+   * @param file the backing file; cannot be null
+   * @return the path of the dictionary file; never null
+   */
+  private static @NotNull Path dictionaryPath(@NotNull Path file) {
+    return file.resolveSibling(file.getFileName() + DICTIONARY_SUFFIX);
+  }
+}
@@ -0,0 +1,55 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The formats in which a {@link KillEventWriter} writes kill events to a file.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public enum OutputFormat {
+  /**
+   * Pretty-printed JSON objects separated by commas. The file only becomes valid JSON once it is
+   * enclosed in brackets, so it has to be read as a whole.
+   */
+  JSON("log"),
+  /**
+   * Newline-delimited JSON with one compact object per line, which can be read line by line while
+   * the file is still being written, see {@link NdjsonKillEventReader}.
+   */
+  NDJSON("ndjson");
+
+  @Getter private final String fileExtension;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param fileExtension the extension of the files written in this format; cannot be null
+   */
+  OutputFormat(@NotNull String fileExtension) {
+    this.fileExtension = fileExtension;
+  }
+}
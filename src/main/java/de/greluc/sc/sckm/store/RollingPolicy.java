@@ -0,0 +1,75 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Determines when a {@link KillEventWriter} rolls its file over to an archive and how the archives
+ * are kept.
+ *
+ * <ul>
+ *   <li><strong>maxFileSize</strong>: The size in bytes at which the file is rolled over, or
+ *       {@code 0} for no limit.
+ *   <li><strong>isRollingDaily</strong>: Whether the file is rolled over when the first kill event
+ *       of a new day is written.
+ *   <li><strong>isCompressing</strong>: Whether the archives are compressed with GZIP.
+ *   <li><strong>maxArchives</strong>: The maximum number of archives kept of the file, or {@code 0}
+ *       for no limit. The oldest archives are deleted first.
+ * </ul>
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public record RollingPolicy(
+    long maxFileSize, boolean isRollingDaily, boolean isCompressing, int maxArchives) {
+  private static final RollingPolicy NONE = new RollingPolicy(0, false, false, 0);
+
+  /**
+   * Creates a new policy and validates its values.
+   *
+   * @throws IllegalArgumentException if the file size or number of archives is negative
+   */
+  public RollingPolicy {
+    if (maxFileSize < 0 || maxArchives < 0) {
+      throw new IllegalArgumentException("Invalid rolling policy");
+    }
+  }
+
+  /**
+   * Returns a policy that never rolls the file over.
+   *
+   * @return the policy without rolling; never null
+   */
+  public static @NotNull RollingPolicy none() {
+    return NONE;
+  }
+
+  /**
+   * Checks whether the file is rolled over at all.
+   *
+   * @return {@code true} if the file is rolled over by size or day, {@code false} otherwise
+   */
+  public boolean isEnabled() {
+    return maxFileSize > 0 || isRollingDaily;
+  }
+}
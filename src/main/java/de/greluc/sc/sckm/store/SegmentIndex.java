@@ -0,0 +1,143 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The index of a single segment of a {@link KillEventHistory}, which summarizes the segment
+ * without having to read its records.
+ *
+ * <ul>
+ *   <li><strong>length</strong>: The length of the segment file in bytes. An index whose length
+ *       doesn't match the file is outdated.
+ *   <li><strong>count</strong>: The number of kill events stored in the segment.
+ *   <li><strong>minEpochMilli</strong>: The earliest timestamp of the stored kill events.
+ *   <li><strong>maxEpochMilli</strong>: The latest timestamp of the stored kill events.
+ * </ul>
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public record SegmentIndex(long length, int count, long minEpochMilli, long maxEpochMilli) {
+  private static final int MAGIC = 0x53434B49;
+  private static final int SIZE = 2 * Integer.BYTES + 3 * Long.BYTES + Integer.BYTES;
+
+  /**
+   * Creates the index of a segment without any kill events.
+   *
+   * @param length the length of the segment file in bytes
+   * @return the new index; never null
+   */
+  public static @NotNull SegmentIndex empty(long length) {
+    return new SegmentIndex(length, 0, Long.MAX_VALUE, Long.MIN_VALUE);
+  }
+
+  /**
+   * Creates the index of the segment after a kill event has been appended to it.
+   *
+   * @param epochMilli the timestamp of the appended kill event
+   * @param recordLength the length of the appended record in bytes
+   * @return the updated index; never null
+   */
+  public @NotNull SegmentIndex add(long epochMilli, int recordLength) {
+    return new SegmentIndex(
+        length + recordLength,
+        count + 1,
+        Math.min(minEpochMilli, epochMilli),
+        Math.max(maxEpochMilli, epochMilli));
+  }
+
+  /**
+   * Checks whether the segment may contain kill events within the given time range.
+   *
+   * @param fromEpochMilli the start of the time range, inclusive
+   * @param toEpochMilli the end of the time range, inclusive
+   * @return {@code true} if the time range of the segment overlaps the given one, {@code false}
+   *     otherwise
+   */
+  public boolean overlaps(long fromEpochMilli, long toEpochMilli) {
+    return count > 0 && minEpochMilli <= toEpochMilli && maxEpochMilli >= fromEpochMilli;
+  }
+
+  /**
+   * Reads an index file.
+   *
+   * @param file the index file to read; cannot be null
+   * @return the index, or an empty optional if the file doesn't exist or is corrupt
+   */
+  public static @NotNull Optional<SegmentIndex> read(@NotNull Path file) {
+    ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+    } catch (IOException ioException) {
+      return Optional.empty();
+    }
+    if (buffer.remaining() != SIZE || buffer.getInt() != MAGIC) {
+      return Optional.empty();
+    }
+    if (buffer.getInt(SIZE - Integer.BYTES) != checksum(buffer)) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new SegmentIndex(buffer.getLong(), buffer.getInt(), buffer.getLong(), buffer.getLong()));
+  }
+
+  /**
+   * Writes the index to a file. The index is written to a temporary file first, which then
+   * replaces the index file, so a crash never leaves a partially written index behind.
+   *
+   * @param file the index file to write; cannot be null
+   * @throws IOException if writing the file fails
+   */
+  public void write(@NotNull Path file) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+    buffer.putInt(MAGIC).putLong(length).putInt(count).putLong(minEpochMilli);
+    buffer.putLong(maxEpochMilli).putInt(checksum(buffer));
+    Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    Files.write(temporaryFile, buffer.array());
+    Files.move(
+        temporaryFile,
+        file,
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Calculates the CRC-32C checksum of the fields of a serialized index.
+   *
+   * @param buffer the buffer containing the serialized index; cannot be null
+   * @return the checksum
+   */
+  private static int checksum(@NotNull ByteBuffer buffer) {
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.slice(0, SIZE - Integer.BYTES));
+    return (int) crc.getValue();
+  }
+}
@@ -0,0 +1,138 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The StringDictionary class assigns a dense {@code int} id to every distinct string it is given,
+ * starting at {@code 0}, and resolves the ids back to the strings.
+ *
+ * <p>A column storing ids instead of strings only needs four bytes per value, while every distinct
+ * string is held once by the dictionary, no matter how often it occurs. Since the ids are dense,
+ * they can also be used directly as array indexes, e.g. to count values.
+ *
+ * <p>The dictionary isn't thread-safe.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class StringDictionary {
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final Map<String, Integer> ids = new HashMap<>();
+  private String[] values = new String[INITIAL_CAPACITY];
+  private int size;
+
+  /**
+   * Returns the id of a string, assigning the next free id if the string isn't known yet.
+   *
+   * @param value the string to look up; cannot be null
+   * @return the id of the string
+   */
+  public int idOf(@NotNull String value) {
+    Integer id = ids.get(Objects.requireNonNull(value));
+    if (id != null) {
+      return id;
+    }
+    if (size == values.length) {
+      values = Arrays.copyOf(values, size * 2);
+    }
+    values[size] = value;
+    ids.put(value, size);
+    return size++;
+  }
+
+  /**
+   * Returns the id of a string without assigning a new one.
+   *
+   * @param value the string to look up; cannot be null
+   * @return the id of the string, or an empty optional if the string isn't known
+   */
+  public @NotNull OptionalInt find(@NotNull String value) {
+    Integer id = ids.get(value);
+    return id == null ? OptionalInt.empty() : OptionalInt.of(id);
+  }
+
+  /**
+   * Returns the string with the given id.
+   *
+   * @param id the id of the string
+   * @return the string; never null
+   * @throws IndexOutOfBoundsException if no string has the given id
+   */
+  public @NotNull String valueOf(int id) {
+    Objects.checkIndex(id, size);
+    return values[id];
+  }
+
+  /**
+   * Returns the number of distinct strings, which is also the next id to be assigned.
+   *
+   * @return the number of distinct strings
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Writes all strings of the dictionary in the order of their ids.
+   *
+   * @param output the output to write to; cannot be null
+   * @throws IOException if writing fails
+   */
+  public void writeTo(@NotNull DataOutput output) throws IOException {
+    output.writeInt(size);
+    for (int id = 0; id < size; id++) {
+      output.writeUTF(values[id]);
+    }
+  }
+
+  /**
+   * Reads a dictionary written by {@link #writeTo(DataOutput)}. Every string keeps its id.
+   *
+   * @param input the input to read from; cannot be null
+   * @return the read dictionary; never null
+   * @throws IOException if reading fails or the input is corrupt
+   */
+  public static @NotNull StringDictionary readFrom(@NotNull DataInput input) throws IOException {
+    int count = input.readInt();
+    if (count < 0) {
+      throw new IOException("Invalid size of string dictionary: " + count);
+    }
+    StringDictionary dictionary = new StringDictionary();
+    for (int id = 0; id < count; id++) {
+      if (dictionary.idOf(input.readUTF()) != id) {
+        throw new IOException("Duplicate string in string dictionary");
+      }
+    }
+    return dictionary;
+  }
+}
@@ -0,0 +1,110 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import java.time.Duration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Configures a {@link KillEventWriter}.
+ *
+ * <ul>
+ *   <li><strong>queueCapacity</strong>: The maximum number of kill events waiting to be written.
+ *       Passing a kill event to a writer with a full queue blocks until the writer has caught up.
+ *   <li><strong>maxBatchSize</strong>: The maximum number of kill events written by a single
+ *       group commit.
+ *   <li><strong>maxBatchDelay</strong>: The time the writer waits for more kill events after the
+ *       first kill event of a group commit has arrived, so kill events arriving in quick succession
+ *       share a single write. {@link Duration#ZERO} writes the available kill events immediately.
+ *   <li><strong>syncPolicy</strong>: When the written kill events are forced to the storage
+ *       device.
+ *   <li><strong>format</strong>: The format in which the kill events are written.
+ *   <li><strong>rollingPolicy</strong>: When the file is rolled over to an archive and how the
+ *       archives are kept.
+ * </ul>
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public record WriterConfig(
+    int queueCapacity,
+    int maxBatchSize,
+    @NotNull Duration maxBatchDelay,
+    @NotNull SyncPolicy syncPolicy,
+    @NotNull OutputFormat format,
+    @NotNull RollingPolicy rollingPolicy) {
+  private static final int DEFAULT_QUEUE_CAPACITY = 8192;
+  private static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+  private static final Duration DEFAULT_MAX_BATCH_DELAY = Duration.ofMillis(50);
+
+  /**
+   * Creates a new configuration and validates its values.
+   *
+   * @throws IllegalArgumentException if the capacity or batch size isn't positive or the delay is
+   *     negative
+   */
+  public WriterConfig {
+    if (queueCapacity <= 0 || maxBatchSize <= 0 || maxBatchDelay.isNegative()) {
+      throw new IllegalArgumentException("Invalid writer configuration");
+    }
+  }
+
+  /**
+   * Creates a configuration that groups the kill events arriving within 50 milliseconds into a
+   * single write and forces the file when the writer is closed. The kill events are written as
+   * comma-separated, pretty-printed JSON objects to a file that is never rolled over.
+   *
+   * @return the new configuration; never null
+   */
+  public static @NotNull WriterConfig withDefaults() {
+    return new WriterConfig(
+        DEFAULT_QUEUE_CAPACITY,
+        DEFAULT_MAX_BATCH_SIZE,
+        DEFAULT_MAX_BATCH_DELAY,
+        SyncPolicy.ON_CLOSE,
+        OutputFormat.JSON,
+        RollingPolicy.none());
+  }
+
+  /**
+   * Creates a copy of this configuration with another output format.
+   *
+   * @param format the format in which the kill events are written; cannot be null
+   * @return the new configuration; never null
+   */
+  public @NotNull WriterConfig withFormat(@NotNull OutputFormat format) {
+    return new WriterConfig(
+        queueCapacity, maxBatchSize, maxBatchDelay, syncPolicy, format, rollingPolicy);
+  }
+
+  /**
+   * Creates a copy of this configuration with another rolling policy.
+   *
+   * @param rollingPolicy when the file is rolled over and how the archives are kept; cannot be
+   *     null
+   * @return the new configuration; never null
+   */
+  public @NotNull WriterConfig withRollingPolicy(@NotNull RollingPolicy rollingPolicy) {
+    return new WriterConfig(
+        queueCapacity, maxBatchSize, maxBatchDelay, syncPolicy, format, rollingPolicy);
+  }
+}
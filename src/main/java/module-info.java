@@ -5,10 +5,16 @@ module de.greluc.sc.sckm {
   requires java.prefs;
   requires javafx.controls;
   requires javafx.fxml;
+  requires jdk.httpserver;
   requires org.apache.logging.log4j;
   requires org.jetbrains.annotations;
   requires static lombok;
 
+  uses de.greluc.sc.sckm.sink.KillEventSink;
+
+  provides de.greluc.sc.sckm.sink.KillEventSink with
+      de.greluc.sc.sckm.sink.FileKillEventSink;
+
   opens de.greluc.sc.sckm to
       javafx.fxml;
 
@@ -23,8 +29,28 @@ module de.greluc.sc.sckm {
   opens de.greluc.sc.sckm.data to
       javafx.fxml;
 
+  exports de.greluc.sc.sckm.feed;
+
+  opens de.greluc.sc.sckm.feed to
+      javafx.fxml;
+
+  exports de.greluc.sc.sckm.scan;
+
+  opens de.greluc.sc.sckm.scan to
+      javafx.fxml;
+
   exports de.greluc.sc.sckm.settings;
 
   opens de.greluc.sc.sckm.settings to
       javafx.fxml;
+
+  exports de.greluc.sc.sckm.sink;
+
+  opens de.greluc.sc.sckm.sink to
+      javafx.fxml;
+
+  exports de.greluc.sc.sckm.store;
+
+  opens de.greluc.sc.sckm.store to
+      javafx.fxml;
 }
@@ -0,0 +1,78 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.greluc.sc.sckm.scan.LogTailReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KillEventExtractorTest {
+  private Path logFile;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    logFile = Files.createTempFile("game", ".log");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(logFile);
+  }
+
+  @Test
+  public void testStreamKillEvents_ReturnsOnlyNewKillEventsInOrder() throws IOException {
+    // Arrange: Write a kill event and consume it once
+    append(killLine("First") + "noise\n");
+    try (LogTailReader reader =
+        new LogTailReader(logFile, LogEventRegistry.getDefault().getMatcher())) {
+      KillEventExtractor.streamKillEvents(reader).toList();
+
+      // Act: Append two more kill events and stream again
+      append(killLine("Second") + killLine("Third"));
+      List<String> victims =
+          KillEventExtractor.streamKillEvents(reader).map(KillEvent::killedPlayer).toList();
+
+      // Assert: Verify only the appended kill events are returned in the logged order
+      assertEquals(List.of("Second", "Third"), victims);
+    }
+  }
+
+  private void append(String content) throws IOException {
+    Files.writeString(logFile, content, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+  }
+
+  private static String killLine(String victim) {
+    return "<2025-01-15T18:30:45.500Z> [Notice] <Actor Death> CActor::Kill: '"
+        + victim
+        + "' [200000000001] in zone 'OOC_Stanton_2b_Daymar' killed by 'Killer' [200000000002]"
+        + " using 'KLWE_LaserRepeater_S3_123' [Class KLWE_LaserRepeater_S3] with damage type"
+        + " 'Bullet' from direction x: 0.1, y: 0.2, z: 0.3 [Team_ActorTech][Actor]\n";
+  }
+}
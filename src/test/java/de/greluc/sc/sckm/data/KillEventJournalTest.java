@@ -0,0 +1,74 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import static de.greluc.sc.sckm.data.TestKillEvents.killEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class KillEventJournalTest {
+  private final KillEventJournal journal = new KillEventJournal();
+
+  @Test
+  public void testPoll_ReturnsOnlyKillEventsSinceLastPoll() {
+    // Arrange: Append enough kill events to span several chunks and poll them once
+    for (int i = 0; i < 2500; i++) {
+      journal.append(killEvent(1800, "Victim" + i));
+    }
+    KillEventJournal.Cursor cursor = journal.newCursor();
+    cursor.poll(killEvent -> {});
+
+    // Act: Append two more kill events and poll again
+    long sequence = journal.append(killEvent(1800, "New1"));
+    journal.append(killEvent(1800, "New2"));
+    List<String> victims = new ArrayList<>();
+    long count = cursor.poll(killEvent -> victims.add(killEvent.killedPlayer()));
+
+    // Assert: Verify only the appended kill events are returned in order
+    assertEquals(2500, sequence);
+    assertEquals(2, count);
+    assertEquals(List.of("New1", "New2"), victims);
+    assertEquals(2502, cursor.getPosition());
+  }
+
+  @Test
+  public void testDiscardBefore_SkipsDiscardedChunks() {
+    // Arrange: Append kill events spanning three chunks
+    for (int i = 0; i < 2500; i++) {
+      journal.append(killEvent(1800, "Victim" + i));
+    }
+    KillEventJournal.Cursor cursor = journal.newCursor();
+
+    // Act: Discard the kill events below the sequence number 2100 and poll
+    journal.discardBefore(2100);
+    List<String> victims = new ArrayList<>();
+    long count = cursor.poll(killEvent -> victims.add(killEvent.killedPlayer()));
+
+    // Assert: Verify only the two full chunks are discarded and the cursor skips them
+    assertEquals(2500 - 2048, count);
+    assertEquals("Victim2048", victims.getFirst());
+    assertEquals(2500, cursor.getPosition());
+    assertEquals(2500, journal.size());
+  }
+}
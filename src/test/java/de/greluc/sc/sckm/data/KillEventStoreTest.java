@@ -0,0 +1,141 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import static de.greluc.sc.sckm.data.TestKillEvents.killEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class KillEventStoreTest {
+  private final KillEventStore store = new KillEventStore();
+
+  @Test
+  public void testAdd_KeepsKillEventsOrderedFromNewestToOldest() {
+    // Arrange: Create kill events with two of them sharing a timestamp
+    KillEvent oldest = killEvent(1800, "Alpha");
+    KillEvent sameTimeFirst = killEvent(1860, "Bravo");
+    KillEvent sameTimeSecond = killEvent(1860, "Charlie");
+    KillEvent newest = killEvent(1920, "Delta");
+
+    // Act: Add the kill events out of order
+    store.add(sameTimeSecond);
+    store.add(oldest);
+    store.add(newest);
+    store.add(sameTimeFirst);
+
+    // Assert: Verify all kill events are kept from the newest to the oldest one
+    assertEquals(List.of(newest, sameTimeFirst, sameTimeSecond, oldest), store.stream().toList());
+  }
+
+  @Test
+  public void testAdd_RejectsDuplicates() {
+    // Arrange: Add a kill event once
+    store.add(killEvent(1800, "Alpha"));
+
+    // Act: Add an equal kill event again
+    boolean added = store.add(killEvent(1800, "Alpha"));
+
+    // Assert: Verify the duplicate isn't stored
+    assertFalse(added);
+    assertTrue(store.contains(killEvent(1800, "Alpha")));
+    assertEquals(1, store.size());
+  }
+
+  @Test
+  public void testEvict_RemovesOldestKillEventsBeyondPolicy() {
+    // Arrange: Add four kill events one minute apart
+    for (int minute = 0; minute < 4; minute++) {
+      store.add(killEvent(1800 + 60 * minute, "Victim" + minute));
+    }
+    long now = ZonedDateTime.parse("2025-01-15T18:33:00.000Z").toInstant().toEpochMilli();
+    List<String> evicted = new ArrayList<>();
+
+    // Act: Evict by count and age
+    int count =
+        store.evict(
+            new RetentionPolicy(3, Duration.ofSeconds(90), 0),
+            now,
+            killEvent -> evicted.add(killEvent.killedPlayer()));
+
+    // Assert: Verify the oldest kill events are evicted and the estimate follows the store
+    assertEquals(2, count);
+    assertEquals(List.of("Victim0", "Victim1"), evicted);
+    assertEquals(2, store.size());
+    assertFalse(store.contains(killEvent(1800, "Victim0")));
+    assertEquals(
+        2 * RetentionPolicy.estimateSize(killEvent(1800, "Victim0")),
+        store.getEstimatedSize());
+  }
+
+  @Test
+  public void testAdd_RejectsEvictedKillEvents() {
+    // Arrange: Add two kill events and evict the older one by count
+    store.add(killEvent(1800, "Alpha"));
+    store.add(killEvent(1860, "Bravo"));
+    store.evict(new RetentionPolicy(1, Duration.ZERO, 0), 0, killEvent -> {});
+
+    // Act: Add the evicted kill event again as if the log file was read again
+    boolean added = store.add(killEvent(1800, "Alpha"));
+
+    // Assert: Verify the evicted kill event is still detected as a duplicate
+    assertFalse(added);
+    assertEquals(1, store.size());
+    assertFalse(store.contains(killEvent(1800, "Alpha")));
+  }
+
+  @Test
+  public void testClear_ForgetsEvictedKillEvents() {
+    // Arrange: Add a kill event, evict it and clear the store
+    store.add(killEvent(1800, "Alpha"));
+    store.evict(new RetentionPolicy(0, Duration.ZERO, 1), 0, killEvent -> {});
+    store.clear();
+
+    // Act: Add the evicted kill event again
+    boolean added = store.add(killEvent(1800, "Alpha"));
+
+    // Assert: Verify the kill event is stored again
+    assertTrue(added);
+    assertEquals(1, store.size());
+  }
+
+  @Test
+  public void testIsExpired_ComparesAgeWithMaxAge() {
+    // Arrange: Create a policy keeping kill events for one minute
+    RetentionPolicy policy = new RetentionPolicy(0, Duration.ofMinutes(1), 0);
+
+    // Act: Check kill events right at and beyond the maximum age
+    boolean atMaxAge = policy.isExpired(60_000, 120_000);
+    boolean beyondMaxAge = policy.isExpired(59_999, 120_000);
+    boolean unlimited = RetentionPolicy.unlimited().isExpired(0, Long.MAX_VALUE);
+
+    // Assert: Verify only kill events older than one minute are expired
+    assertFalse(atMaxAge);
+    assertTrue(beyondMaxAge);
+    assertFalse(unlimited);
+  }
+}
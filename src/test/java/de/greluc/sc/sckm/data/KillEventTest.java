@@ -0,0 +1,55 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+public class KillEventTest {
+  private static final ZonedDateTime TIMESTAMP = ZonedDateTime.parse("2025-01-15T18:30:00.500Z");
+
+  @Test
+  public void testConstructor_DerivesEpochMilliFromTimestamp() {
+    // Act: Create a kill event without epoch milliseconds
+    KillEvent killEvent =
+        new KillEvent(TIMESTAMP, "Victim", "Killer", "Gun", "Rifle", "Bullet", "Zone");
+
+    // Assert: Verify the epoch milliseconds match the timestamp
+    assertEquals(TIMESTAMP.toInstant().toEpochMilli(), killEvent.epochMilli());
+  }
+
+  @Test
+  public void testConstructor_RejectsMismatchedEpochMilli() {
+    // Arrange: Prepare the creation of a kill event with other epoch milliseconds
+    Executable creation =
+        () -> new KillEvent(TIMESTAMP, "Victim", "Killer", "Gun", "Rifle", "Bullet", "Zone", 0);
+
+    // Act: Create the kill event
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, creation);
+
+    // Assert: Verify the mismatch is reported
+    assertEquals("The epoch milliseconds don't match the timestamp", exception.getMessage());
+  }
+}
@@ -0,0 +1,68 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.Test;
+
+public class KillLineParserTest {
+  private static final String LINE =
+      "<2025-01-15T18:30:45.500Z> [Notice] <Actor Death> CActor::Kill: 'Victim' [200000000001]"
+          + " in zone 'OOC_Stanton_2b_Daymar' killed by 'Killer' [200000000002] using"
+          + " 'KLWE_LaserRepeater_S3_123' [Class KLWE_LaserRepeater_S3] with damage type 'Bullet'"
+          + " from direction x: 0.1, y: 0.2, z: 0.3 [Team_ActorTech][Actor]";
+
+  @Test
+  public void testParse_ExtractsAllFields() {
+    // Arrange: Use a complete kill line
+
+    // Act: Parse the line
+    KillEvent killEvent = KillLineParser.parse(LINE);
+
+    // Assert: Verify every field is extracted
+    assertEquals(
+        new KillEvent(
+            ZonedDateTime.parse("2025-01-15T18:30:45.500Z"),
+            "Victim",
+            "Killer",
+            "KLWE_LaserRepeater_S3_123",
+            "KLWE_LaserRepeater_S3",
+            "Bullet",
+            "OOC_Stanton_2b_Daymar"),
+        killEvent);
+  }
+
+  @Test
+  public void testParse_ReusesRecurringValues() {
+    // Arrange: Parse the line once
+    KillEvent first = KillLineParser.parse(LINE);
+
+    // Act: Parse an equal line that is a different string instance
+    KillEvent second = KillLineParser.parse(new StringBuilder(LINE));
+
+    // Assert: Verify the values are shared instead of created again
+    assertSame(first.weapon(), second.weapon());
+    assertSame(first.zone(), second.zone());
+  }
+}
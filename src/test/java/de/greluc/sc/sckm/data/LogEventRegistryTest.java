@@ -0,0 +1,88 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.greluc.sc.sckm.scan.ByteMatcher;
+import de.greluc.sc.sckm.scan.BytePattern;
+import de.greluc.sc.sckm.scan.MultiBytePattern;
+import java.util.Optional;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+public class LogEventRegistryTest {
+
+  @Test
+  public void testParse_DispatchesToRegisteredEventType() {
+    // Arrange: Register an additional event type next to the kill events
+    LogEventRegistry registry = LogEventRegistry.createDefault();
+    registry.register(
+        new LogEventType<String>() {
+          @Override
+          public @NotNull String marker() {
+            return "<Spawn Flow>";
+          }
+
+          @Override
+          public @NotNull Optional<String> parse(@NotNull CharSequence line) {
+            return Optional.of("spawn");
+          }
+        });
+
+    // Act: Parse a line of the new type and a line of no registered type
+    Optional<?> spawn = registry.parse("<2025-01-15T18:30:45.500Z> [Notice] <Spawn Flow> Player");
+    Optional<?> other = registry.parse("<2025-01-15T18:30:45.500Z> [Notice] <Other> Player");
+
+    // Assert: Verify only the line of the registered type is parsed by its parser
+    assertEquals(Optional.of("spawn"), spawn);
+    assertTrue(other.isEmpty());
+  }
+
+  @Test
+  public void testGetMatcher_UsesSinglePatternForSingleEventType() {
+    // Arrange: Create the default registry and one with an additional event type
+    LogEventRegistry single = LogEventRegistry.createDefault();
+    LogEventRegistry multiple = LogEventRegistry.createDefault();
+    multiple.register(
+        new LogEventType<String>() {
+          @Override
+          public @NotNull String marker() {
+            return "<Spawn Flow>";
+          }
+
+          @Override
+          public @NotNull Optional<String> parse(@NotNull CharSequence line) {
+            return Optional.of("spawn");
+          }
+        });
+
+    // Act: Get the matchers of both registries
+    ByteMatcher singleMatcher = single.getMatcher();
+    ByteMatcher multipleMatcher = multiple.getMatcher();
+
+    // Assert: Verify only the registry with several event types uses the automaton
+    assertInstanceOf(BytePattern.class, singleMatcher);
+    assertInstanceOf(MultiBytePattern.class, multipleMatcher);
+  }
+}
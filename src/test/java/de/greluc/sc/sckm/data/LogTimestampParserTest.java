@@ -0,0 +1,56 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.Test;
+
+public class LogTimestampParserTest {
+
+  @Test
+  public void testParseEpochMilli_FixedLayout() {
+    // Arrange: Use timestamps of two different days in the layout of the log file
+    String first = "2025-01-15T18:30:45.789Z";
+    String second = "2024-02-29T00:00:00.001Z";
+
+    // Act: Parse both timestamps
+    long firstMillis = LogTimestampParser.parseEpochMilli(first, 0, first.length());
+    long secondMillis = LogTimestampParser.parseEpochMilli(second, 0, second.length());
+
+    // Assert: Verify the result matches the ISO parser
+    assertEquals(ZonedDateTime.parse(first).toInstant().toEpochMilli(), firstMillis);
+    assertEquals(ZonedDateTime.parse(second).toInstant().toEpochMilli(), secondMillis);
+  }
+
+  @Test
+  public void testParseEpochMilli_FallsBackForOtherLayouts() {
+    // Arrange: Use a timestamp with an offset and without milliseconds inside a longer text
+    String text = "<2025-01-15T20:30:45+02:00>";
+
+    // Act: Parse the timestamp between the angle brackets
+    long millis = LogTimestampParser.parseEpochMilli(text, 1, text.length() - 1);
+
+    // Assert: Verify the offset is taken into account
+    assertEquals(ZonedDateTime.parse("2025-01-15T18:30:45Z").toInstant().toEpochMilli(), millis);
+  }
+}
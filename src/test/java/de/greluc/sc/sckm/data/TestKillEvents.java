@@ -0,0 +1,80 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.data;
+
+import java.time.ZonedDateTime;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Creates the kill events used by the tests. All kill events share the weapon, damage type and
+ * zone and differ in their timestamp, which is given in seconds after a fixed start time, and
+ * their players.
+ *
+ * @author Lucas Greuloch (greluc, lucas.greuloch@protonmail.com)
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class TestKillEvents {
+  private static final ZonedDateTime START_TIME = ZonedDateTime.parse("2025-01-15T18:00:00.000Z");
+
+  private TestKillEvents() {}
+
+  /**
+   * Creates a kill event of the player {@code Victim<second>} killed by {@code Killer}.
+   *
+   * @param second the number of seconds after the start time
+   * @return the new kill event; never null
+   */
+  public static @NotNull KillEvent killEvent(int second) {
+    return killEvent(second, "Victim" + second);
+  }
+
+  /**
+   * Creates a kill event of the given player killed by {@code Killer}.
+   *
+   * @param second the number of seconds after the start time
+   * @param killedPlayer the name of the killed player; cannot be null
+   * @return the new kill event; never null
+   */
+  public static @NotNull KillEvent killEvent(int second, @NotNull String killedPlayer) {
+    return killEvent(second, killedPlayer, "Killer");
+  }
+
+  /**
+   * Creates a kill event of the given players.
+   *
+   * @param second the number of seconds after the start time
+   * @param killedPlayer the name of the killed player; cannot be null
+   * @param killer the name of the killer; cannot be null
+   * @return the new kill event; never null
+   */
+  public static @NotNull KillEvent killEvent(
+      int second, @NotNull String killedPlayer, @NotNull String killer) {
+    return new KillEvent(
+        START_TIME.plusSeconds(second),
+        killedPlayer,
+        killer,
+        "KLWE_LaserRepeater_S3_123",
+        "KLWE_LaserRepeater_S3",
+        "Bullet",
+        "OOC_Stanton_2b_Daymar");
+  }
+}
@@ -0,0 +1,150 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.feed;
+
+import static de.greluc.sc.sckm.data.TestKillEvents.killEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KillFeedServerTest {
+  private KillFeed feed;
+  private KillFeedServer server;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    feed = new KillFeed(16);
+    server = KillFeedServer.start(feed, 0);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    server.close();
+    feed.close();
+  }
+
+  @Test
+  public void testEvents_StreamsMissedAndNewKillEventsAsServerSentEvents() throws Exception {
+    // Arrange: Publish two kill events and connect with the id of the first one
+    feed.publish(killEvent(0));
+    feed.publish(killEvent(1));
+    HttpURLConnection connection = open("/events");
+    connection.setRequestProperty("Last-Event-ID", "1");
+
+    // Act: Read the stream while another kill event is published
+    List<String> ids = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+      assertEquals("text/event-stream; charset=utf-8", connection.getContentType());
+      String line;
+      while (ids.size() < 2 && (line = reader.readLine()) != null) {
+        if (line.startsWith("id: ")) {
+          ids.add(line.substring("id: ".length()));
+          if (ids.size() == 1) {
+            feed.publish(killEvent(2));
+          }
+        }
+      }
+    } finally {
+      connection.disconnect();
+    }
+
+    // Assert: Verify the missed kill event is followed by the new one
+    assertEquals(List.of("2", "3"), ids);
+  }
+
+  @Test
+  public void testSnapshot_ReturnsReplayedKillEventsAsNdjson() throws Exception {
+    // Arrange: Publish three kill events
+    for (int i = 0; i < 3; i++) {
+      feed.publish(killEvent(i));
+    }
+
+    // Act: Request the snapshot since the first kill event
+    HttpURLConnection connection = open("/snapshot?since=1");
+    List<String> lines;
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+      lines = reader.lines().toList();
+    }
+
+    // Assert: Verify the response contains the two newer kill events
+    assertEquals(200, connection.getResponseCode());
+    assertEquals(2, lines.size());
+    assertTrue(lines.getFirst().contains("\"killedPlayer\":\"Victim1\""));
+    assertTrue(lines.getLast().contains("\"killedPlayer\":\"Victim2\""));
+  }
+
+  @Test
+  public void testHandle_RejectsRequestsForForeignHost() throws Exception {
+    // Arrange: Connect to the server as a browser does after a DNS rebinding
+    feed.publish(killEvent(0));
+    String statusLine;
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+      socket.setSoTimeout(5000);
+      OutputStream output = socket.getOutputStream();
+
+      // Act: Request the snapshot with the domain name of another website
+      output.write(
+          ("GET /snapshot HTTP/1.1\r\nHost: attacker.example:" + server.getPort() + "\r\n"
+                  + "Connection: close\r\n\r\n")
+              .getBytes(StandardCharsets.US_ASCII));
+      output.flush();
+      statusLine =
+          new BufferedReader(
+                  new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))
+              .readLine();
+    }
+
+    // Assert: Verify the request is forbidden while loopback names are accepted
+    assertEquals("HTTP/1.1 403 Forbidden", statusLine);
+    assertTrue(KillFeedServer.isLoopbackHost("localhost:8787"));
+    assertTrue(KillFeedServer.isLoopbackHost("127.0.0.1"));
+    assertTrue(KillFeedServer.isLoopbackHost("[::1]:8787"));
+    assertFalse(KillFeedServer.isLoopbackHost("localhost.attacker.example"));
+    assertFalse(KillFeedServer.isLoopbackHost(null));
+  }
+
+  private HttpURLConnection open(String path) throws Exception {
+    HttpURLConnection connection =
+        (HttpURLConnection)
+            URI.create("http://127.0.0.1:" + server.getPort() + path).toURL().openConnection();
+    connection.setReadTimeout(5000);
+    return connection;
+  }
+}
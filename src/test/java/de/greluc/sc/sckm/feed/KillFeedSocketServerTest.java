@@ -0,0 +1,151 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.feed;
+
+import static de.greluc.sc.sckm.data.TestKillEvents.killEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KillFeedSocketServerTest {
+  private Path directory;
+  private KillFeed feed;
+  private KillFeedSocketServer server;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("sckm-feed");
+    feed = new KillFeed(16);
+    server = KillFeedSocketServer.start(feed, directory.resolve("kill-feed.sock"));
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    server.close();
+    feed.close();
+    Files.deleteIfExists(directory);
+  }
+
+  @Test
+  public void testStart_PushesNewKillEventsAsLines() throws Exception {
+    // Arrange: Publish a kill event before a client connects
+    feed.publish(killEvent(0));
+    try (SocketChannel client = connect()) {
+      BufferedReader reader =
+          new BufferedReader(Channels.newReader(client, StandardCharsets.UTF_8));
+
+      // Act: Publish two more kill events
+      feed.publish(killEvent(1));
+      feed.publish(killEvent(2));
+
+      // Assert: Verify the client receives only the new kill events, one per line
+      assertTrue(reader.readLine().contains("\"killedPlayer\":\"Victim1\""));
+      assertTrue(reader.readLine().contains("\"killedPlayer\":\"Victim2\""));
+    }
+  }
+
+  @Test
+  public void testClose_DisconnectsClientThatDoesNotRead() throws Exception {
+    // Arrange: Connect a client that never reads
+    try (SocketChannel client = connect()) {
+
+      // Act: Publish far more kill events than the socket and the queue of the client can hold
+      long startTime = System.nanoTime();
+      for (int i = 0; i < 20_000; i++) {
+        feed.publish(killEvent(i));
+      }
+      Duration publishTime = Duration.ofNanos(System.nanoTime() - startTime);
+      server.close();
+
+      // Assert: Verify publishing wasn't held back and the client has been disconnected
+      assertTrue(publishTime.compareTo(Duration.ofSeconds(5)) < 0);
+      assertEquals(0, server.getClientCount());
+      assertFalse(Files.exists(server.getSocketFile()));
+    }
+  }
+
+  @Test
+  public void testPublish_DisconnectsClientThatStopsReading() throws Exception {
+    // Arrange: Connect a client that reads a single kill event and then stops reading
+    try (SocketChannel client = connect()) {
+      BufferedReader reader =
+          new BufferedReader(Channels.newReader(client, StandardCharsets.UTF_8));
+      feed.publish(killEvent(0));
+      assertTrue(reader.readLine().contains("\"killedPlayer\":\"Victim0\""));
+
+      // Act: Keep publishing until the queue of the client overflows while its thread is blocked
+      // writing to the full socket
+      for (int i = 1; i <= 20_000; i++) {
+        feed.publish(killEvent(i));
+      }
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (server.getClientCount() > 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+
+      // Assert: Verify the client has been disconnected while the server is still running
+      assertEquals(0, server.getClientCount());
+      assertTrue(Files.exists(server.getSocketFile()));
+    }
+  }
+
+  @Test
+  public void testServe_NoticesClientThatDisconnectsWhileIdle() throws Exception {
+    // Arrange: Connect a client while no kill events are published
+    SocketChannel client = connect();
+    assertEquals(1, server.getClientCount());
+
+    // Act: Close the client and wait briefly without publishing anything
+    client.close();
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (server.getClientCount() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+
+    // Assert: Verify the client is removed long before the idle timeout of its subscription
+    assertEquals(0, server.getClientCount());
+  }
+
+  private SocketChannel connect() throws Exception {
+    SocketChannel client = SocketChannel.open(StandardProtocolFamily.UNIX);
+    client.connect(UnixDomainSocketAddress.of(server.getSocketFile()));
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (server.getClientCount() == 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    return client;
+  }
+}
@@ -0,0 +1,75 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.feed;
+
+import static de.greluc.sc.sckm.data.TestKillEvents.killEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class KillFeedTest {
+  @Test
+  public void testSubscribe_ReplaysMissedEntriesBeforeLiveEntries() throws Exception {
+    // Arrange: Publish three kill events to a feed replaying the last two
+    KillFeed feed = new KillFeed(2);
+    for (int i = 0; i < 3; i++) {
+      feed.publish(killEvent(i));
+    }
+
+    // Act: Subscribe since the first entry and publish another kill event
+    KillFeed.Subscription subscription = feed.subscribe(1, 8);
+    feed.publish(killEvent(3));
+    List<FeedEntry> entries = new ArrayList<>();
+    subscription.drainTo(entries);
+
+    // Assert: Verify the missed and the live entries are received in order with their framing
+    assertEquals(List.of(2L, 3L, 4L), entries.stream().map(FeedEntry::getId).toList());
+    String sseFrame = new String(entries.getLast().getSseFrame(), StandardCharsets.UTF_8);
+    assertTrue(sseFrame.startsWith("id: 4\nevent: kill\ndata: {"));
+    assertTrue(sseFrame.endsWith("}\n\n"));
+    assertTrue(new String(entries.getLast().getNdjsonLine(), StandardCharsets.UTF_8)
+        .contains("\"killedPlayer\":\"Victim3\""));
+  }
+
+  @Test
+  public void testPublish_ClosesSubscriptionThatDoesNotKeepUp() throws Exception {
+    // Arrange: Subscribe to the new entries of a feed with a queue for two entries
+    KillFeed feed = new KillFeed(16);
+    KillFeed.Subscription subscription = feed.subscribe(feed.getLastId(), 2);
+
+    // Act: Publish more kill events than the subscription can queue
+    for (int i = 0; i < 3; i++) {
+      feed.publish(killEvent(i));
+    }
+
+    // Assert: Verify the subscription has been closed and receives nothing more
+    assertTrue(subscription.isClosed());
+    assertNull(subscription.poll(Duration.ZERO));
+    assertEquals(3, feed.snapshot(0).size());
+  }
+}
@@ -0,0 +1,91 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BulkLogScannerTest {
+  private Path logFile;
+  private ForkJoinPool pool;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    logFile = Files.createTempFile("game", ".log");
+    pool = new ForkJoinPool(4);
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    pool.shutdownNow();
+    Files.deleteIfExists(logFile);
+  }
+
+  @Test
+  public void testScan_FindsAllKillEventsAcrossChunks() throws IOException {
+    // Arrange: Write kill events interleaved with unrelated lines
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      content.append(String.format("<2025-01-15T18:%02d:%02d.000Z> [Notice] <Other> noise%n", i / 60, i % 60));
+      content.append(killLine(i)).append("\r\n");
+    }
+    Files.writeString(logFile, content.toString(), StandardCharsets.UTF_8);
+
+    // Act: Scan the file with chunks much smaller than the file
+    List<KillEvent> killEvents = new BulkLogScanner(pool, 256).scan(logFile);
+
+    // Assert: Verify every kill event was found once and in chronological order
+    assertEquals(100, killEvents.size());
+    for (int i = 0; i < killEvents.size(); i++) {
+      assertEquals("Victim" + i, killEvents.get(i).killedPlayer());
+      assertEquals("Bullet", killEvents.get(i).damageType());
+    }
+  }
+
+  @Test
+  public void testScan_ReturnsEmptyListForEmptyFile() throws IOException {
+    // Act: Scan an empty file
+    List<KillEvent> killEvents = new BulkLogScanner(pool).scan(logFile);
+
+    // Assert: Verify no kill event was found
+    assertTrue(killEvents.isEmpty());
+  }
+
+  static String killLine(int index) {
+    return String.format(
+        "<2025-01-15T18:%02d:%02d.500Z> [Notice] <Actor Death> CActor::Kill: 'Victim%d'"
+            + " [200000000001] in zone 'OOC_Stanton_2b_Daymar' killed by 'Killer' [200000000002]"
+            + " using 'KLWE_LaserRepeater_S3_123' [Class KLWE_LaserRepeater_S3] with damage type"
+            + " 'Bullet' from direction x: 0.1, y: 0.2, z: 0.3 [Team_ActorTech][Actor]",
+        index / 60, index % 60, index);
+  }
+}
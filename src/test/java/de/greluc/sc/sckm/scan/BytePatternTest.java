@@ -0,0 +1,55 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class BytePatternTest {
+  private final BytePattern pattern = BytePattern.of("<Actor Death>");
+
+  @Test
+  public void testIndexOf_FindsFirstOccurrence() {
+    // Arrange: Prepare a line containing the pattern twice and a near miss before it
+    byte[] bytes =
+        "<Actor Deat> <Actor Death> <Actor Death>".getBytes(StandardCharsets.UTF_8);
+
+    // Act: Search the whole line
+    int index = pattern.indexOf(bytes, 0, bytes.length);
+
+    // Assert: Verify the index of the first complete occurrence is returned
+    assertEquals(13, index);
+  }
+
+  @Test
+  public void testIndexOf_IgnoresOccurrenceCrossingTheRange() {
+    // Arrange: Prepare a line ending with the pattern
+    byte[] bytes = "noise <Actor Death>".getBytes(StandardCharsets.UTF_8);
+
+    // Act: Search a range that cuts off the last byte of the pattern
+    int index = pattern.indexOf(bytes, 0, bytes.length - 1);
+
+    // Assert: Verify no occurrence is found
+    assertEquals(-1, index);
+  }
+}
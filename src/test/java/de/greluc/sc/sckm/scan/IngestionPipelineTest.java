@@ -0,0 +1,137 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IngestionPipelineTest {
+  private Path logFile;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    logFile = Files.createTempFile("game", ".log");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(logFile);
+  }
+
+  @Test
+  public void testStart_PassesFilteredUniqueKillEventsToSinks() throws Exception {
+    // Arrange: Write three kill events, one of them twice, and collect the sink's kill events
+    String content =
+        String.join(
+            "\n",
+            BulkLogScannerTest.killLine(0),
+            "noise",
+            BulkLogScannerTest.killLine(1),
+            BulkLogScannerTest.killLine(2),
+            BulkLogScannerTest.killLine(0),
+            "");
+    Files.writeString(logFile, content, StandardCharsets.UTF_8);
+    BlockingQueue<KillEvent> received = new LinkedBlockingQueue<>();
+
+    // Act: Run a pipeline with tiny queues and two parsers that drops the second victim
+    try (LogTailReader reader = new LogTailReader(logFile, BytePattern.of("<Actor Death>"));
+        IngestionPipeline pipeline =
+            new IngestionPipeline(reader, null, new PipelineConfig(1, 2, Duration.ofMillis(50)))) {
+      pipeline
+          .setFilter(killEvent -> !killEvent.killedPlayer().equals("Victim1"))
+          .addSink("test", received::addAll);
+      pipeline.start();
+      KillEvent first = received.poll(5, TimeUnit.SECONDS);
+      KillEvent second = received.poll(5, TimeUnit.SECONDS);
+      KillEvent third = received.poll(200, TimeUnit.MILLISECONDS);
+
+      // Assert: Verify each remaining kill event arrived exactly once
+      assertEquals(
+          Set.of("Victim0", "Victim2"), Set.of(first.killedPlayer(), second.killedPlayer()));
+      assertNull(third);
+    }
+  }
+
+  @Test
+  public void testClose_PassesQueuedKillEventsToSinksWithoutReadError() throws Exception {
+    // Arrange: Write many kill events and collect them in a slow sink behind tiny queues
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 200; i++) {
+      content.append(BulkLogScannerTest.killLine(i)).append('\n');
+    }
+    Files.writeString(logFile, content.toString(), StandardCharsets.UTF_8);
+    List<KillEvent> received = new CopyOnWriteArrayList<>();
+    AtomicInteger readErrorCount = new AtomicInteger();
+    try (LogTailReader reader = new LogTailReader(logFile, BytePattern.of("<Actor Death>"));
+        IngestionPipeline pipeline =
+            new IngestionPipeline(reader, null, new PipelineConfig(4, 1, Duration.ofMillis(50)))) {
+      pipeline
+          .onReadError(ioException -> readErrorCount.incrementAndGet())
+          .addSink("slow", killEvents -> receiveSlowly(killEvents, received));
+      pipeline.start();
+      while (received.isEmpty()) {
+        Thread.sleep(1);
+      }
+
+      // Act: Close the pipeline while kill events are still queued
+      pipeline.close();
+      int receivedCount = received.size();
+      Thread.sleep(50);
+
+      // Assert: Verify every read kill event reached the sink before close returned
+      long readCount = pipeline.getMetrics().getFirst().getProcessedCount();
+      assertEquals(readCount, receivedCount);
+      assertEquals(receivedCount, received.size());
+      assertTrue(receivedCount > 1);
+      for (int i = 0; i < receivedCount; i++) {
+        assertEquals("Victim" + i, received.get(i).killedPlayer());
+      }
+      assertEquals(0, readErrorCount.get());
+    }
+  }
+
+  private static void receiveSlowly(List<KillEvent> killEvents, List<KillEvent> received) {
+    try {
+      Thread.sleep(5);
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    }
+    received.addAll(killEvents);
+  }
+}
@@ -0,0 +1,91 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LogBackupImporterTest {
+  private Path backupDirectory;
+  private LogBackupImporter importer;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    backupDirectory = Files.createTempDirectory("logbackups");
+    importer = new LogBackupImporter(2);
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    importer.shutdown();
+    try (Stream<Path> files = Files.list(backupDirectory)) {
+      for (Path file : files.toList()) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(backupDirectory);
+  }
+
+  @Test
+  public void testImportBackups_ReportsFailedFilesAndImportsTheRest() throws IOException {
+    // Arrange: Write three log files and fail consuming the kill events of the second one
+    for (int i = 0; i < 3; i++) {
+      Files.writeString(
+          backupDirectory.resolve("Game Build(" + i + ").log"),
+          BulkLogScannerTest.killLine(i) + "\n",
+          StandardCharsets.UTF_8);
+    }
+    AtomicInteger consumedCount = new AtomicInteger();
+
+    // Act: Import the files
+    ImportSummary summary =
+        importer.importBackups(
+            backupDirectory,
+            killEvents -> consume(killEvents, consumedCount),
+            progress -> {});
+
+    // Assert: Verify the failing file is reported and the others are imported
+    assertFalse(summary.isComplete());
+    assertEquals(List.of(backupDirectory.resolve("Game Build(1).log")), summary.failedFiles());
+    assertEquals(3, summary.totalFiles());
+    assertEquals(2, summary.killEventCount());
+    assertEquals(2, consumedCount.get());
+  }
+
+  private static void consume(List<KillEvent> killEvents, AtomicInteger consumedCount) {
+    if (killEvents.getFirst().killedPlayer().equals("Victim1")) {
+      throw new IllegalStateException("Consumer failed");
+    }
+    consumedCount.addAndGet(killEvents.size());
+  }
+}
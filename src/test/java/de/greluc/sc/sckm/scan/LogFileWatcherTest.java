@@ -0,0 +1,105 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LogFileWatcherTest {
+  private Path directory;
+  private Path logFile;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("watcher");
+    logFile = Files.writeString(directory.resolve("Game.log"), "first\n");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(logFile);
+    Files.deleteIfExists(directory);
+  }
+
+  @Test
+  public void testAwaitChange_WakesUpOnAppend() throws Exception {
+    // Arrange: Watch the log file with notifications and append to it shortly after
+    try (LogFileWatcher watcher = new LogFileWatcher(logFile)) {
+      Thread appender = appendLater();
+
+      // Act: Wait for the change
+      long start = System.nanoTime();
+      boolean isChanged = watcher.awaitChange(5, TimeUnit.SECONDS);
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      appender.join();
+
+      // Assert: Verify the notification woke the watcher before the next poll
+      assertTrue(watcher.isEventDriven());
+      assertTrue(isChanged);
+      assertTrue(elapsedMillis < 900, "Woke up after " + elapsedMillis + " ms");
+    }
+  }
+
+  @Test
+  public void testAwaitChange_PollsWithoutNotifications() throws Exception {
+    // Arrange: Watch the log file by polling only
+    try (LogFileWatcher watcher = new LogFileWatcher(logFile, false)) {
+      boolean isChangedBefore = watcher.awaitChange(50, TimeUnit.MILLISECONDS);
+      Thread appender = appendLater();
+
+      // Act: Wait for the change without any notification
+      boolean isChanged = watcher.awaitChange(5, TimeUnit.SECONDS);
+      appender.join();
+
+      // Assert: Verify the poll detected the append
+      assertFalse(watcher.isEventDriven());
+      assertFalse(isChangedBefore);
+      assertTrue(isChanged);
+    }
+  }
+
+  private Thread appendLater() {
+    return Thread.ofVirtual()
+        .start(
+            () -> {
+              try {
+                Thread.sleep(100);
+                Files.writeString(
+                    logFile, "second\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+              } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+              } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+              }
+            });
+  }
+}
@@ -0,0 +1,153 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LogTailReaderTest {
+  private Path logFile;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    logFile = Files.createTempFile("game", ".log");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(logFile);
+  }
+
+  @Test
+  public void testReadNewLines_ReturnsOnlyAppendedLines() throws IOException {
+    // Arrange: Write two lines and consume them once
+    append("first\nsecond\n");
+    try (LogTailReader reader = new LogTailReader(logFile)) {
+      reader.readNewLines();
+
+      // Act: Append another line and read again
+      append("third\n");
+      List<String> lines = reader.readNewLines();
+
+      // Assert: Verify only the appended line is returned
+      assertEquals(List.of("third"), lines);
+    }
+  }
+
+  @Test
+  public void testReadNewLines_CarriesOverPartialLine() throws IOException {
+    // Arrange: Write a line without a terminating line break
+    append("complete\r\nparti");
+    try (LogTailReader reader = new LogTailReader(logFile)) {
+      // Act: Read before and after the line is completed
+      List<String> firstRead = reader.readNewLines();
+      append("al\n");
+      List<String> secondRead = reader.readNewLines();
+
+      // Assert: Verify the partial line is returned once it is complete
+      assertEquals(List.of("complete"), firstRead);
+      assertEquals(List.of("partial"), secondRead);
+    }
+  }
+
+  @Test
+  public void testReadNewLines_RestartsAfterTruncation() throws IOException {
+    // Arrange: Consume a file and replace it with shorter content
+    append("a rather long line that will vanish\n");
+    try (LogTailReader reader = new LogTailReader(logFile)) {
+      reader.readNewLines();
+      Files.writeString(logFile, "new\n", StandardCharsets.UTF_8);
+
+      // Act: Read the truncated file
+      List<String> lines = reader.readNewLines();
+
+      // Assert: Verify the new content is read from the beginning
+      assertEquals(List.of("new"), lines);
+      assertEquals(4, reader.getOffset());
+    }
+  }
+
+  @Test
+  public void testReadNewLines_DrainsOldFileAfterRotation() throws IOException {
+    // Arrange: Consume a file, append to it, and move it away like the game client does
+    append("<2025-01-01T10:00:00.000Z> Log started\nold\n");
+    Path backup = logFile.resolveSibling(logFile.getFileName() + ".bak");
+    try (LogTailReader reader = new LogTailReader(logFile)) {
+      reader.readNewLines();
+      append("unread\n");
+      Files.move(logFile, backup);
+      Files.writeString(logFile, "<2025-01-02T10:00:00.000Z> Log started\nnew\n");
+
+      // Act: Read after the rotation
+      List<String> lines = reader.readNewLines();
+
+      // Assert: Verify the rest of the old file is followed by the complete new file
+      assertEquals(
+          List.of("unread", "<2025-01-02T10:00:00.000Z> Log started", "new"), lines);
+      assertEquals(1, reader.getRotationCount());
+    } finally {
+      Files.deleteIfExists(backup);
+    }
+  }
+
+  @Test
+  public void testReadNewLines_ReturnsOnlyLinesMatchingFilter() throws IOException {
+    // Arrange: Write a matching line whose marker is split between two writes
+    append("noise\n<Actor Death> first\nnoise\n<Actor De");
+    try (LogTailReader reader = new LogTailReader(logFile, BytePattern.of("<Actor Death>"))) {
+      // Act: Read before and after the second line is completed
+      List<String> firstRead = reader.readNewLines();
+      append("ath> second\r\nnoise\n");
+      List<String> secondRead = reader.readNewLines();
+
+      // Assert: Verify only the matching lines are returned, each exactly once
+      assertEquals(List.of("<Actor Death> first"), firstRead);
+      assertEquals(List.of("<Actor Death> second"), secondRead);
+    }
+  }
+
+  @Test
+  public void testReadNewLines_SkipsOversizeLines() throws IOException {
+    // Arrange: Write a line exceeding the maximum line length between two regular lines
+    append("before\n" + "x".repeat(LineSplitter.DEFAULT_MAX_LINE_LENGTH + 1) + "\nafter\n");
+    try (LogTailReader reader = new LogTailReader(logFile)) {
+      // Act: Read the file
+      List<String> lines = reader.readNewLines();
+
+      // Assert: Verify the oversize line is skipped and counted
+      assertEquals(List.of("before", "after"), lines);
+      assertEquals(1, reader.getOversizeLineCount());
+    }
+  }
+
+  private void append(String content) throws IOException {
+    Files.writeString(logFile, content, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+  }
+}
@@ -0,0 +1,74 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class MultiBytePatternTest {
+  private final MultiBytePattern patterns =
+      MultiBytePattern.of(List.of("<Actor Death>", "<Vehicle Destruction>", "Death>"));
+
+  @Test
+  public void testIndexOf_FindsEarliestMatchOfAnyPattern() {
+    // Arrange: Prepare a line with a partial match followed by a complete one
+    ByteBuffer buffer =
+        ByteBuffer.wrap(
+            "<Vehicle Destr <Vehicle Destruction> <Actor Death>".getBytes(StandardCharsets.UTF_8));
+
+    // Act: Search the whole buffer
+    int index = patterns.indexOf(buffer, 0, buffer.limit());
+
+    // Assert: Verify the start of the first complete match is returned
+    assertEquals(15, index);
+  }
+
+  @Test
+  public void testIndexOf_FindsMatchInMemorySegment() {
+    // Arrange: Prepare a segment with a partial match followed by a complete one
+    MemorySegment segment =
+        MemorySegment.ofArray(
+            "<Actor Deat noise <Vehicle Destruction>".getBytes(StandardCharsets.UTF_8));
+
+    // Act: Search the whole segment
+    long index = patterns.indexOf(segment, 0, segment.byteSize());
+
+    // Assert: Verify the start of the complete match is returned
+    assertEquals(18, index);
+  }
+
+  @Test
+  public void testFindPattern_PrefersPatternPassedFirst() {
+    // Arrange: Prepare a line containing non-ASCII characters, in which two patterns end together
+    String line = "Spieler 'Jörg' <Actor Death> CActor::Kill";
+
+    // Act: Classify the line
+    int pattern = patterns.findPattern(line);
+
+    // Assert: Verify the pattern passed first wins over the shorter one
+    assertEquals(0, pattern);
+  }
+}
@@ -0,0 +1,106 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.greluc.sc.sckm.data.ChannelKillEvent;
+import de.greluc.sc.sckm.data.ChannelType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MultiChannelScannerTest {
+  private Path directory;
+  private Path liveLog;
+  private Path ptuLog;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("sckm-channels");
+    liveLog = Files.createFile(directory.resolve("live.log"));
+    ptuLog = Files.createFile(directory.resolve("ptu.log"));
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Test
+  public void testTake_TagsKillEventsOfAllChannelsWithTheirChannel() throws Exception {
+    // Arrange: Start a scanner polling the log files of two channels
+    try (MultiChannelScanner scanner =
+        new MultiChannelScanner(
+            Map.of(ChannelType.LIVE, liveLog, ChannelType.PTU, ptuLog),
+            false,
+            Duration.ofMillis(10))) {
+      scanner.start();
+
+      // Act: Append kill events to both log files and take them from the shared queue
+      append(liveLog, killLine("LiveVictim"));
+      append(ptuLog, killLine("PtuVictim") + "noise\n" + killLine("PtuVictim2"));
+      List<ChannelKillEvent> killEvents = new ArrayList<>();
+      while (killEvents.size() < 3) {
+        killEvents.add(scanner.take());
+      }
+
+      // Assert: Verify every kill event is tagged with the channel of its log file
+      Map<String, ChannelType> channels = new HashMap<>();
+      killEvents.forEach(
+          killEvent -> channels.put(killEvent.killEvent().killedPlayer(), killEvent.channel()));
+      assertEquals(
+          Map.of(
+              "LiveVictim", ChannelType.LIVE,
+              "PtuVictim", ChannelType.PTU,
+              "PtuVictim2", ChannelType.PTU),
+          channels);
+    }
+  }
+
+  private static void append(Path logFile, String content) throws IOException {
+    Files.writeString(logFile, content, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+  }
+
+  private static String killLine(String victim) {
+    return "<2025-01-15T18:30:45.500Z> [Notice] <Actor Death> CActor::Kill: '"
+        + victim
+        + "' [200000000001] in zone 'OOC_Stanton_2b_Daymar' killed by 'Killer' [200000000002]"
+        + " using 'KLWE_LaserRepeater_S3_123' [Class KLWE_LaserRepeater_S3] with damage type"
+        + " 'Bullet' from direction x: 0.1, y: 0.2, z: 0.3 [Team_ActorTech][Actor]\n";
+  }
+}
@@ -0,0 +1,138 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.sink;
+
+import static de.greluc.sc.sckm.data.TestKillEvents.killEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+public class SinkDispatcherTest {
+  private static final SinkContext CONTEXT =
+      new SinkContext(ZonedDateTime.parse("2025-01-15T18:00:00.000Z"));
+
+  @Test
+  public void testDispatch_IsolatesBlockedAndFailingSinks() throws Exception {
+    // Arrange: Open a recording sink next to a blocked and a failing sink with small queues
+    CountDownLatch release = new CountDownLatch(1);
+    List<KillEvent> recorded = Collections.synchronizedList(new ArrayList<>());
+    SinkDispatcher dispatcher =
+        new SinkDispatcher(
+            List.of(
+                new TestSink("blocked", OverflowPolicy.DROP_NEWEST, killEvents -> release.await()),
+                new TestSink(
+                    "failing",
+                    OverflowPolicy.DROP_OLDEST,
+                    killEvents -> {
+                      throw new IllegalStateException("Sink is down");
+                    }),
+                new TestSink("recording", OverflowPolicy.DROP_OLDEST, recorded::addAll)),
+            CONTEXT);
+
+    // Act: Dispatch a burst of kill events, release the blocked sink and close the dispatcher
+    for (int i = 0; i < 10; i++) {
+      dispatcher.dispatch(killEvent(i));
+      Thread.sleep(5);
+    }
+    List<SinkMetrics> metrics = dispatcher.getMetrics();
+    release.countDown();
+    dispatcher.close();
+
+    // Assert: Verify the recording sink got every kill event while the others only lost their own
+    assertEquals(10, recorded.size());
+    assertEquals("Victim9", recorded.getLast().killedPlayer());
+    SinkMetrics blocked = metrics.getFirst();
+    assertTrue(blocked.droppedCount() > 0);
+    assertTrue(blocked.lagMillis() > 0);
+    SinkMetrics failing = dispatcher.getMetrics().get(1);
+    assertEquals(10, failing.failedCount() + failing.droppedCount());
+    assertEquals(10, dispatcher.getMetrics().get(2).deliveredCount());
+  }
+
+  @Test
+  public void testDispatch_WaitsForSlowSinkWithBlockPolicy() throws Exception {
+    // Arrange: Open a slow sink with a queue of two kill events that must not lose any of them
+    List<KillEvent> recorded = Collections.synchronizedList(new ArrayList<>());
+    SinkDispatcher dispatcher =
+        new SinkDispatcher(
+            List.of(
+                new TestSink(
+                    "slow",
+                    OverflowPolicy.BLOCK,
+                    killEvents -> {
+                      Thread.sleep(2);
+                      recorded.addAll(killEvents);
+                    })),
+            CONTEXT);
+
+    // Act: Dispatch a burst of kill events and close the dispatcher
+    for (int i = 0; i < 50; i++) {
+      dispatcher.dispatch(killEvent(i));
+    }
+    dispatcher.close();
+
+    // Assert: Verify the sink got every kill event in order and none was dropped
+    assertEquals(50, recorded.size());
+    assertEquals("Victim49", recorded.getLast().killedPlayer());
+    assertEquals(0, dispatcher.getMetrics().getFirst().droppedCount());
+    assertEquals(OverflowPolicy.BLOCK, new FileKillEventSink().getConfig().overflowPolicy());
+  }
+
+  @Test
+  public void testLoadSinks_FindsFileSinkProvider() {
+    // Act: Load the sinks provided as services
+    List<KillEventSink> sinks = SinkDispatcher.loadSinks();
+
+    // Assert: Verify the built-in file sink is among them
+    assertTrue(sinks.stream().anyMatch(FileKillEventSink.class::isInstance));
+  }
+
+
+  private interface Action {
+    void accept(List<KillEvent> killEvents) throws Exception;
+  }
+
+  private record TestSink(String name, OverflowPolicy overflowPolicy, Action action)
+      implements KillEventSink {
+    @Override
+    public @NotNull String getName() {
+      return name;
+    }
+
+    @Override
+    public @NotNull SinkConfig getConfig() {
+      return new SinkConfig(2, 1, overflowPolicy);
+    }
+
+    @Override
+    public void accept(@NotNull List<KillEvent> killEvents) throws Exception {
+      action.accept(killEvents);
+    }
+  }
+}
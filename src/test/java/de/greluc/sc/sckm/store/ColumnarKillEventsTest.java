@@ -0,0 +1,69 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import static de.greluc.sc.sckm.data.TestKillEvents.killEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarKillEventsTest {
+  private final ColumnarKillEvents columns = new ColumnarKillEvents();
+
+  @Test
+  public void testGet_RestoresAppendedKillEvents() {
+    // Arrange: Create more kill events than the initial capacity with recurring values
+    KillEvent[] killEvents = new KillEvent[3000];
+    for (int i = 0; i < killEvents.length; i++) {
+      killEvents[i] = killEvent(i, "Victim" + i % 7, "Killer" + i % 3);
+    }
+
+    // Act: Append the kill events
+    for (KillEvent killEvent : killEvents) {
+      columns.append(killEvent);
+    }
+
+    // Assert: Verify each kill event is restored and recurring values are stored once
+    for (int i = 0; i < killEvents.length; i++) {
+      assertEquals(killEvents[i], columns.get(i));
+    }
+    assertEquals(10, columns.getPlayers().size());
+    assertEquals(2, columns.getWeapons().size());
+  }
+
+  @Test
+  public void testCountByKiller_CountsKillEventsWithinTimeRange() {
+    // Arrange: Append kill events of two killers at consecutive seconds
+    columns.append(killEvent(0, "Victim", "Alpha"));
+    columns.append(killEvent(1, "Victim", "Bravo"));
+    columns.append(killEvent(2, "Victim", "Alpha"));
+    columns.append(killEvent(3, "Victim", "Alpha"));
+
+    // Act: Count the kill events of the middle two seconds
+    Map<String, Integer> counts =
+        columns.countByKiller(columns.getEpochMilli(1), columns.getEpochMilli(2));
+
+    // Assert: Verify only the kill events within the time range are counted
+    assertEquals(Map.of("Alpha", 1, "Bravo", 1), counts);
+  }
+}
@@ -0,0 +1,192 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import static de.greluc.sc.sckm.data.TestKillEvents.killEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KillEventHistoryTest {
+  private Path directory;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("history");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Test
+  public void testLoad_ReturnsKillEventsOfPreviousSessionWithinTimeRange() throws IOException {
+    // Arrange: Store kill events spread over several small segments and close the history
+    List<KillEvent> killEvents = new ArrayList<>();
+    try (KillEventHistory history = KillEventHistory.open(directory, 512)) {
+      for (int minute = 0; minute < 20; minute++) {
+        KillEvent killEvent = killEvent(60 * minute);
+        killEvents.add(killEvent);
+        history.append(killEvent);
+      }
+    }
+
+    // Act: Reopen the history and load all kill events and those of a time range
+    try (KillEventHistory history = KillEventHistory.open(directory, 512)) {
+      List<KillEvent> loaded = history.load();
+      List<KillEvent> range =
+          history.load(killEvents.get(5).epochMilli(), killEvents.get(7).epochMilli());
+
+      // Assert: Verify the kill events are restored in order and filtered by the time range
+      assertTrue(history.getSegmentIndexes().size() > 1);
+      assertEquals(killEvents, loaded);
+      assertEquals(killEvents.subList(5, 8), range);
+    }
+  }
+
+  @Test
+  public void testOpen_DiscardsPartiallyWrittenRecord() throws IOException {
+    // Arrange: Store two kill events and simulate a crash while writing a third one
+    try (KillEventHistory history = KillEventHistory.open(directory)) {
+      history.append(killEvent(0));
+      history.append(killEvent(60));
+    }
+    Path segment = directory.resolve("segment-0000000001.sckm");
+    Files.delete(directory.resolve("segment-0000000001.idx"));
+    byte[] record = KillEventCodec.encode(killEvent(120));
+    Files.write(segment, record, StandardOpenOption.APPEND);
+    Files.write(segment, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+
+    // Act: Reopen the history and append another kill event
+    try (KillEventHistory history = KillEventHistory.open(directory)) {
+      history.append(killEvent(180));
+      List<KillEvent> loaded = history.load();
+
+      // Assert: Verify only the damaged bytes were discarded
+      assertEquals(List.of(killEvent(0), killEvent(60), killEvent(120), killEvent(180)), loaded);
+    }
+  }
+
+  @Test
+  public void testLoadPage_ReturnsNewestOlderKillEvents() throws IOException {
+    // Arrange: Append kill events out of order to the history
+    try (KillEventHistory history = KillEventHistory.open(directory)) {
+      for (int minute : new int[] {3, 0, 5, 1, 4, 2}) {
+        history.append(killEvent(60 * minute));
+      }
+
+      // Act: Load a page of the kill events older than the fourth minute
+      List<KillEvent> page = history.loadPage(killEvent(240), 2);
+
+      // Assert: Verify the newest older kill events are returned
+      assertEquals(List.of(killEvent(180), killEvent(120)), page);
+    }
+  }
+
+  @Test
+  public void testLoadPage_ReadsSegmentsFromNewestToOldest() throws IOException {
+    // Arrange: Store kill events over several small segments with old ones appended last
+    try (KillEventHistory history = KillEventHistory.open(directory, 512)) {
+      for (int minute = 10; minute < 30; minute++) {
+        history.append(killEvent(60 * minute));
+      }
+      for (int minute = 0; minute < 10; minute++) {
+        history.append(killEvent(60 * minute));
+      }
+
+      // Act: Load a page spanning two segments and a page of the appended older kill events
+      List<KillEvent> newestPage = history.loadPage(killEvent(1800), 8);
+      List<KillEvent> olderPage = history.loadPage(killEvent(660), 3);
+
+      // Assert: Verify each page contains the newest kill events before the given timestamp
+      assertEquals(List.of(29, 28, 27, 26, 25, 24, 23, 22), minutesOf(newestPage));
+      assertEquals(List.of(10, 9, 8), minutesOf(olderPage));
+    }
+  }
+
+  @Test
+  public void testLoadNewest_ReadsOnlySegmentsHoldingNewestKillEvents() throws IOException {
+    // Arrange: Store kill events spread over several small segments
+    try (KillEventHistory history = KillEventHistory.open(directory, 512)) {
+      for (int minute = 0; minute < 40; minute++) {
+        history.append(killEvent(60 * minute));
+      }
+
+      // Act: Load the three newest kill events and those of the last five minutes
+      List<KillEvent> newest = new ArrayList<>();
+      history.loadNewest(Long.MIN_VALUE, 3, newest::add);
+      List<KillEvent> recent = new ArrayList<>();
+      history.loadNewest(killEvent(35 * 60).epochMilli(), 0, recent::add);
+
+      // Assert: Verify the newest kill events are passed in order without reading all segments
+      assertTrue(newest.size() < 40);
+      assertEquals(
+          List.of(37, 38, 39), minutesOf(newest).subList(newest.size() - 3, newest.size()));
+      assertEquals(List.of(35, 36, 37, 38, 39), minutesOf(recent));
+    }
+  }
+
+  @Test
+  public void testLoadPage_ContinuesAmongKillEventsSharingTimestamp() throws IOException {
+    // Arrange: Append three kill events sharing a timestamp between two older and newer ones
+    try (KillEventHistory history = KillEventHistory.open(directory)) {
+      history.append(killEvent(0, "Alpha"));
+      history.append(killEvent(60, "Bravo"));
+      history.append(killEvent(60, "Charlie"));
+      history.append(killEvent(60, "Delta"));
+      history.append(killEvent(120, "Echo"));
+
+      // Act: Load two pages of two kill events, each following the last one of the previous page
+      List<KillEvent> firstPage = history.loadPage(null, 2);
+      List<KillEvent> secondPage = history.loadPage(firstPage.getLast(), 2);
+      List<KillEvent> thirdPage = history.loadPage(secondPage.getLast(), 2);
+
+      // Assert: Verify no kill event sharing the timestamp is skipped or loaded twice
+      assertEquals(List.of(killEvent(120, "Echo"), killEvent(60, "Bravo")), firstPage);
+      assertEquals(List.of(killEvent(60, "Charlie"), killEvent(60, "Delta")), secondPage);
+      assertEquals(List.of(killEvent(0, "Alpha")), thirdPage);
+    }
+  }
+
+  private static List<Integer> minutesOf(List<KillEvent> killEvents) {
+    long start = killEvent(0).epochMilli();
+    return killEvents.stream()
+        .map(killEvent -> (int) ((killEvent.epochMilli() - start) / 60_000))
+        .toList();
+  }
+}
@@ -0,0 +1,202 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import static de.greluc.sc.sckm.data.TestKillEvents.killEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KillEventWriterTest {
+  private static final WriterConfig CONFIG =
+      new WriterConfig(
+          64,
+          16,
+          Duration.ofMillis(10),
+          SyncPolicy.EVERY_COMMIT,
+          OutputFormat.JSON,
+          RollingPolicy.none());
+  private Path directory;
+  private Path file;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("sckm-writer");
+    file = directory.resolve("kill-events.log");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  @Test
+  public void testClose_WritesAllQueuedKillEventsInGroupCommits() throws Exception {
+    // Arrange: Open a writer with small batches and a file that already contains a kill event
+    try (KillEventWriter writer = new KillEventWriter(file, CONFIG)) {
+      writer.write(killEvent(0));
+    }
+    KillEventWriter writer = new KillEventWriter(file, CONFIG);
+
+    // Act: Write a burst of kill events and close the writer
+    for (int i = 1; i <= 1000; i++) {
+      writer.write(killEvent(i));
+    }
+    writer.close();
+
+    // Assert: Verify the file is a valid list of all kill events written in batches
+    List<Map<String, Object>> killEvents =
+        new ObjectMapper().readValue("[" + Files.readString(file) + "]", List.class);
+    assertEquals(1001, killEvents.size());
+    assertEquals("Victim0", killEvents.getFirst().get("killedPlayer"));
+    assertEquals("Victim1000", killEvents.getLast().get("killedPlayer"));
+    assertEquals(1000, writer.getWrittenCount());
+    assertTrue(writer.getCommitCount() < 1000);
+  }
+
+  @Test
+  public void testClose_RollsCompressesAndDeletesOldestArchives() throws Exception {
+    // Arrange: Configure an NDJSON file rolled over at 2 KiB with at most 3 archives
+    Path ndjsonFile = directory.resolve("kill-events.ndjson");
+    WriterConfig config =
+        CONFIG
+            .withFormat(OutputFormat.NDJSON)
+            .withRollingPolicy(new RollingPolicy(2048, false, true, 3));
+
+    // Act: Write enough kill events for several roll-overs and close the writer
+    try (KillEventWriter writer = new KillEventWriter(ndjsonFile, config)) {
+      for (int i = 0; i < 200; i++) {
+        writer.write(killEvent(i));
+      }
+    }
+
+    // Assert: Verify only the newest compressed archives are kept and still contain the newest
+    // kill events in order
+    List<Path> archives;
+    try (Stream<Path> files = Files.list(directory)) {
+      archives = files.filter(path -> !path.equals(ndjsonFile)).sorted().toList();
+    }
+    assertEquals(3, archives.size());
+    assertTrue(archives.stream().allMatch(path -> path.toString().endsWith(".ndjson.gz")));
+    List<KillEvent> killEvents = new ArrayList<>();
+    for (Path archive : archives) {
+      NdjsonKillEventReader.readAll(archive, killEvents::add);
+    }
+    NdjsonKillEventReader.readAll(ndjsonFile, killEvents::add);
+    assertEquals("Victim199", killEvents.getLast().killedPlayer());
+    for (int i = 1; i < killEvents.size(); i++) {
+      assertTrue(killEvents.get(i - 1).timestamp().isBefore(killEvents.get(i).timestamp()));
+    }
+  }
+
+  @Test
+  public void testClose_KeepsWritingToFileAfterFailedRollOver() throws Exception {
+    // Arrange: Open a writer rolled over at 256 bytes and block its first archive with a
+    // directory, so the first roll-over fails
+    Path ndjsonFile = directory.resolve("kill-events.ndjson");
+    WriterConfig config =
+        CONFIG
+            .withFormat(OutputFormat.NDJSON)
+            .withRollingPolicy(new RollingPolicy(256, false, false, 0));
+    KillEventWriter writer = new KillEventWriter(ndjsonFile, config);
+    Path blockedArchive = directory.resolve("kill-events.000001.ndjson");
+    Files.createDirectories(blockedArchive);
+    Files.writeString(blockedArchive.resolve("blocker"), "blocker");
+
+    // Act: Write kill events in separate commits and close the writer
+    for (int i = 0; i < 10; i++) {
+      writer.write(killEvent(i));
+      Thread.sleep(30);
+    }
+    writer.close();
+
+    // Assert: Verify the file was reopened after the failed roll-over and no kill event was lost
+    List<Path> files;
+    try (Stream<Path> paths = Files.list(directory)) {
+      files = paths.filter(Files::isRegularFile).toList();
+    }
+    List<KillEvent> killEvents = new ArrayList<>();
+    for (Path path : files) {
+      NdjsonKillEventReader.readAll(path, killEvents::add);
+    }
+    assertEquals(10, killEvents.size());
+    assertEquals(10, writer.getWrittenCount());
+  }
+
+  @Test
+  public void testClose_ReopensFileAndCountsFailedKillEvents() throws Exception {
+    // Arrange: Open a writer rolled over with every commit in a subdirectory and write a kill
+    // event, then move the subdirectory away, so neither rolling over nor reopening succeeds
+    Path outputDirectory = directory.resolve("out");
+    Files.createDirectories(outputDirectory);
+    WriterConfig config =
+        CONFIG
+            .withFormat(OutputFormat.NDJSON)
+            .withRollingPolicy(new RollingPolicy(1, false, false, 0));
+    KillEventWriter writer =
+        new KillEventWriter(outputDirectory.resolve("kill-events.ndjson"), config);
+    writer.write(killEvent(0));
+    Thread.sleep(100);
+    Files.move(outputDirectory, directory.resolve("moved"));
+
+    // Act: Write kill events while the file can't be opened and after the subdirectory is back
+    for (int i = 1; i <= 4; i++) {
+      if (i == 3) {
+        Files.createDirectories(outputDirectory);
+      }
+      writer.write(killEvent(i));
+      Thread.sleep(100);
+    }
+    writer.close();
+
+    // Assert: Verify the kill events of the failed commits are counted and the file was reopened
+    // for the following ones
+    List<Path> files;
+    try (Stream<Path> paths = Files.list(outputDirectory)) {
+      files = paths.sorted().toList();
+    }
+    List<KillEvent> killEvents = new ArrayList<>();
+    for (Path path : files) {
+      NdjsonKillEventReader.readAll(path, killEvents::add);
+    }
+    assertEquals(List.of(killEvent(3), killEvent(4)), killEvents);
+    assertEquals(2, writer.getFailedCount());
+    assertEquals(3, writer.getWrittenCount());
+  }
+}
@@ -0,0 +1,81 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import static de.greluc.sc.sckm.data.TestKillEvents.killEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NdjsonKillEventReaderTest {
+  private Path file;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    file = Files.createTempFile("kill-events", ".ndjson");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void testReadAvailable_ReadsCompleteLinesIncrementally() throws Exception {
+    // Arrange: Write kill events in the NDJSON format and split the last line of the file
+    try (KillEventWriter writer =
+        new KillEventWriter(file, WriterConfig.withDefaults().withFormat(OutputFormat.NDJSON))) {
+      for (int i = 0; i < 3; i++) {
+        writer.write(killEvent(i));
+      }
+    }
+    String lastLine = Files.readAllLines(file).getLast() + "\n";
+    List<String> lines = Files.readAllLines(file).subList(0, 2);
+    Files.write(file, lines);
+    Files.writeString(file, lastLine.substring(0, 20), StandardOpenOption.APPEND);
+    List<KillEvent> killEvents = new ArrayList<>();
+
+    // Act: Read the file, complete the last line and read it again
+    try (NdjsonKillEventReader reader = new NdjsonKillEventReader(file)) {
+      int firstCount = reader.readAvailable(killEvents::add);
+      Files.write(
+          file,
+          lastLine.substring(20).getBytes(StandardCharsets.UTF_8),
+          StandardOpenOption.APPEND);
+      int secondCount = reader.readAvailable(killEvents::add);
+
+      // Assert: Verify the incomplete line is only read once it has been completed
+      assertEquals(2, firstCount);
+      assertEquals(1, secondCount);
+      assertEquals(List.of(killEvent(0), killEvent(1), killEvent(2)), killEvents);
+    }
+  }
+}
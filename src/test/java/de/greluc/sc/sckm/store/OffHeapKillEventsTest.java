@@ -0,0 +1,120 @@
+/**************************************************************************************************
+ * SC Kill Monitor                                                                                *
+ * Copyright (C) 2025-2025 SC Kill Monitor Team                                                   *
+ *                                                                                                *
+ * This file is part of SC Kill Monitor.                                                          *
+ *                                                                                                *
+ * SC Kill Monitor is free software: you can redistribute it and/or modify                        *
+ * it under the terms of the GNU General Public License as published by                           *
+ * the Free Software Foundation, either version 3 of the License, or                              *
+ * (at your option) any later version.                                                            *
+ *                                                                                                *
+ * SC Kill Monitor is distributed in the hope that it will be useful,                             *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of                                 *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                                  *
+ * GNU General Public License for more details.                                                   *
+ *                                                                                                *
+ * You should have received a copy of the GNU General Public License                              *
+ * along with SC Kill Monitor. If not, see https://www.gnu.org/licenses/                          *
+ **************************************************************************************************/
+
+package de.greluc.sc.sckm.store;
+
+import static de.greluc.sc.sckm.data.TestKillEvents.killEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import de.greluc.sc.sckm.data.KillEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OffHeapKillEventsTest {
+  private Path directory;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("offheap");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Test
+  public void testOpen_MapsKillEventsOfPreviousSession() throws IOException {
+    // Arrange: Store more kill events than fit into the initially mapped file and close it
+    Path file = directory.resolve("killevents.sckm");
+    int count = 70_000;
+    try (OffHeapKillEvents killEvents = OffHeapKillEvents.open(file)) {
+      for (int i = 0; i < count; i++) {
+        killEvents.append(killEvent(i, "Victim" + i % 7, "Killer" + i % 3));
+      }
+    }
+
+    // Act: Open the file again
+    try (OffHeapKillEvents killEvents = OffHeapKillEvents.open(file)) {
+
+      // Assert: Verify each kill event and the dictionaries are restored
+      assertEquals(count, killEvents.size());
+      for (int i = 0; i < count; i++) {
+        assertEquals(killEvent(i, "Victim" + i % 7, "Killer" + i % 3), killEvents.get(i));
+      }
+      assertEquals(10, killEvents.getPlayers().size());
+    }
+  }
+
+  @Test
+  public void testCountByKiller_CountsKillEventsInGrownMemory() throws IOException {
+    // Arrange: Append more kill events than the initial capacity of the memory
+    try (OffHeapKillEvents killEvents = OffHeapKillEvents.allocate(2)) {
+      killEvents.append(killEvent(0, "Victim", "Alpha"));
+      killEvents.append(killEvent(1, "Victim", "Bravo"));
+      killEvents.append(killEvent(2, "Victim", "Alpha"));
+      killEvents.append(killEvent(3, "Victim", "Alpha"));
+
+      // Act: Count the kill events of the middle two seconds
+      Map<String, Integer> counts =
+          killEvents.countByKiller(killEvents.getEpochMilli(1), killEvents.getEpochMilli(2));
+
+      // Assert: Verify only the kill events within the time range are counted
+      assertEquals(Map.of("Alpha", 1, "Bravo", 1), counts);
+    }
+  }
+
+  @Test
+  public void testLoadPage_ReturnsNewestOlderKillEventsAndDeletesTemporaryFile()
+      throws IOException {
+    // Arrange: Spill kill events to a temporary instance out of chronological order
+    Path file;
+    List<KillEvent> page;
+    try (OffHeapKillEvents killEvents = OffHeapKillEvents.openTemporary()) {
+      for (int second : new int[] {4, 0, 3, 1, 2, 5}) {
+        killEvents.append(killEvent(second, "Victim", "Killer"));
+      }
+      file = killEvents.getFile();
+
+      // Act: Load the newest two kill events before the fifth second
+      page = killEvents.loadPage(killEvent(4, "Victim", "Killer"), 2);
+    }
+
+    // Assert: Verify the page is ordered from the newest to the oldest kill event and the
+    // temporary file is deleted on close
+    assertEquals(
+        List.of(killEvent(3, "Victim", "Killer"), killEvent(2, "Victim", "Killer")), page);
+    assertFalse(Files.exists(file));
+    assertFalse(Files.exists(file.getParent()));
+  }
+}